@@ -0,0 +1,57 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this library with the GC profiler enabled so that the results contain the throughput (ops/s)
+ * as well as the allocation rate (bytes/op) of each benchmark. The results are written as JSON file so that they can
+ * be archived and compared for each commit.
+ * <p>
+ * Arguments (all optional):
+ * </p>
+ * <ol>
+ *     <li>a regular expression that selects the benchmarks to run (default: all benchmarks)</li>
+ *     <li>a comma separated list of the sizes of the synthetic reports in MB (default: 10)</li>
+ *     <li>the name of the JSON result file (default: jmh-result.json)</li>
+ * </ol>
+ *
+ * @author Ullrich Hafner
+ */
+public final class BenchmarkRunner {
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args
+     *         the arguments of the benchmarks
+     *
+     * @throws RunnerException
+     *         if the benchmarks could not be started
+     */
+    public static void main(final String... args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(getArgument(args, 0, ".*"))
+                .param("sizeInMegaBytes", getArgument(args, 1, "10").split(",\\s*"))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(getArgument(args, 2, "jmh-result.json"))
+                .build();
+
+        new Runner(options).run();
+    }
+
+    private static String getArgument(final String[] args, final int index, final String defaultValue) {
+        if (args.length > index) {
+            return args[index];
+        }
+        return defaultValue;
+    }
+
+    private BenchmarkRunner() {
+        // prevents instantiation
+    }
+}
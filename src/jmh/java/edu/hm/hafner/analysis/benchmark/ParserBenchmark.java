@@ -0,0 +1,75 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.Report;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Measures the throughput of all {@link IssueParser} implementations. Each parser reads a synthetic report that has
+ * been created by scaling up the example report of the corresponding parser test to the configured size.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParserBenchmark {
+    @Param
+    private ParserFixture parser;
+    @Param("10")
+    private int sizeInMegaBytes;
+
+    @Nullable
+    private Path log;
+    @Nullable
+    private IssueParser issueParser;
+
+    /**
+     * Creates the synthetic report and the parser under test.
+     */
+    @Setup(Level.Trial)
+    public void createReport() {
+        log = SyntheticReports.create(parser.getResource(), parser.getRecordElement(), sizeInMegaBytes);
+        issueParser = parser.createParser();
+    }
+
+    /**
+     * Removes the synthetic report.
+     */
+    @TearDown(Level.Trial)
+    public void deleteReport() {
+        SyntheticReports.delete(log);
+    }
+
+    /**
+     * Parses the synthetic report.
+     *
+     * @return the parsed issues
+     */
+    @Benchmark
+    public Report parse() {
+        return issueParser.parse(new FileReaderFactory(log, StandardCharsets.UTF_8));
+    }
+}
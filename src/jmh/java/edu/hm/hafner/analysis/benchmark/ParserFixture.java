@@ -0,0 +1,246 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.util.function.Supplier;
+
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.parser.AcuCobolParser;
+import edu.hm.hafner.analysis.parser.AjcParser;
+import edu.hm.hafner.analysis.parser.AnsibleLintParser;
+import edu.hm.hafner.analysis.parser.AntJavacParser;
+import edu.hm.hafner.analysis.parser.Armcc5CompilerParser;
+import edu.hm.hafner.analysis.parser.ArmccCompilerParser;
+import edu.hm.hafner.analysis.parser.BuckminsterParser;
+import edu.hm.hafner.analysis.parser.CadenceIncisiveParser;
+import edu.hm.hafner.analysis.parser.ClangParser;
+import edu.hm.hafner.analysis.parser.ClangTidyParser;
+import edu.hm.hafner.analysis.parser.CodeAnalysisParser;
+import edu.hm.hafner.analysis.parser.CoolfluxChessccParser;
+import edu.hm.hafner.analysis.parser.CppLintParser;
+import edu.hm.hafner.analysis.parser.DiabCParser;
+import edu.hm.hafner.analysis.parser.DoxygenParser;
+import edu.hm.hafner.analysis.parser.DrMemoryParser;
+import edu.hm.hafner.analysis.parser.EclipseMavenParser;
+import edu.hm.hafner.analysis.parser.EclipseParser;
+import edu.hm.hafner.analysis.parser.EclipseXMLParser;
+import edu.hm.hafner.analysis.parser.ErlcParser;
+import edu.hm.hafner.analysis.parser.ErrorProneParser;
+import edu.hm.hafner.analysis.parser.FindBugsParser;
+import edu.hm.hafner.analysis.parser.FindBugsParser.PriorityProperty;
+import edu.hm.hafner.analysis.parser.FlexSdkParser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.Gcc4LinkerParser;
+import edu.hm.hafner.analysis.parser.GccParser;
+import edu.hm.hafner.analysis.parser.GhsMultiParser;
+import edu.hm.hafner.analysis.parser.GnatParser;
+import edu.hm.hafner.analysis.parser.GnuFortranParser;
+import edu.hm.hafner.analysis.parser.GoLintParser;
+import edu.hm.hafner.analysis.parser.GoVetParser;
+import edu.hm.hafner.analysis.parser.IarParser;
+import edu.hm.hafner.analysis.parser.IdeaInspectionParser;
+import edu.hm.hafner.analysis.parser.IntelParser;
+import edu.hm.hafner.analysis.parser.InvalidsParser;
+import edu.hm.hafner.analysis.parser.JavaDocParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.LintParser;
+import edu.hm.hafner.analysis.parser.MavenConsoleParser;
+import edu.hm.hafner.analysis.parser.MetrowerksCwCompilerParser;
+import edu.hm.hafner.analysis.parser.MetrowerksCwLinkerParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.analysis.parser.NagFortranParser;
+import edu.hm.hafner.analysis.parser.P4Parser;
+import edu.hm.hafner.analysis.parser.Pep8Parser;
+import edu.hm.hafner.analysis.parser.PerlCriticParser;
+import edu.hm.hafner.analysis.parser.PhpParser;
+import edu.hm.hafner.analysis.parser.PreFastParser;
+import edu.hm.hafner.analysis.parser.PuppetLintParser;
+import edu.hm.hafner.analysis.parser.PyLintParser;
+import edu.hm.hafner.analysis.parser.QacSourceCodeAnalyserParser;
+import edu.hm.hafner.analysis.parser.RfLintParser;
+import edu.hm.hafner.analysis.parser.RobocopyParser;
+import edu.hm.hafner.analysis.parser.RuboCopParser;
+import edu.hm.hafner.analysis.parser.SbtScalacParser;
+import edu.hm.hafner.analysis.parser.ScalacParser;
+import edu.hm.hafner.analysis.parser.SphinxBuildParser;
+import edu.hm.hafner.analysis.parser.StyleCopParser;
+import edu.hm.hafner.analysis.parser.SunCParser;
+import edu.hm.hafner.analysis.parser.TaglistParser;
+import edu.hm.hafner.analysis.parser.TaskingVxCompilerParser;
+import edu.hm.hafner.analysis.parser.TiCcsParser;
+import edu.hm.hafner.analysis.parser.TnsdlParser;
+import edu.hm.hafner.analysis.parser.XlcCompilerParser;
+import edu.hm.hafner.analysis.parser.XlcLinkerParser;
+import edu.hm.hafner.analysis.parser.YuiCompressorParser;
+import edu.hm.hafner.analysis.parser.ccm.CcmParser;
+import edu.hm.hafner.analysis.parser.checkstyle.CheckStyleParser;
+import edu.hm.hafner.analysis.parser.dry.cpd.CpdParser;
+import edu.hm.hafner.analysis.parser.dry.dupfinder.DupFinderParser;
+import edu.hm.hafner.analysis.parser.dry.simian.SimianParser;
+import edu.hm.hafner.analysis.parser.fxcop.FxCopParser;
+import edu.hm.hafner.analysis.parser.gendarme.GendarmeParser;
+import edu.hm.hafner.analysis.parser.jcreport.JcReportParser;
+import edu.hm.hafner.analysis.parser.pmd.PmdParser;
+import edu.hm.hafner.analysis.parser.violations.AndroidLintParserAdapter;
+import edu.hm.hafner.analysis.parser.violations.CodeNarcAdapter;
+import edu.hm.hafner.analysis.parser.violations.CppCheckAdapter;
+import edu.hm.hafner.analysis.parser.violations.ErrorProneAdapter;
+import edu.hm.hafner.analysis.parser.violations.Flake8Adapter;
+import edu.hm.hafner.analysis.parser.violations.JsHintAdapter;
+import edu.hm.hafner.analysis.parser.violations.KlocWorkAdapter;
+import edu.hm.hafner.analysis.parser.violations.MyPyAdapter;
+import edu.hm.hafner.analysis.parser.violations.PitAdapter;
+import edu.hm.hafner.analysis.parser.violations.PyDocStyleAdapter;
+import edu.hm.hafner.analysis.parser.violations.ResharperInspectCodeAdapter;
+import edu.hm.hafner.analysis.parser.violations.XmlLintAdapter;
+import edu.hm.hafner.analysis.parser.violations.YamlLintAdapter;
+import edu.hm.hafner.analysis.parser.violations.ZptLintAdapter;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Parsers under test along with the example report (from the parser tests) that is scaled up to create the input of
+ * the benchmark. XML based reports additionally define the element that will be repeated when scaling up the example.
+ * The JSON based parsers for SonarQube and DocFx are not part of this list since their reports cannot be scaled up by
+ * repeating a textual section.
+ *
+ * @author Ullrich Hafner
+ */
+@SuppressWarnings("PMD.ExcessiveImports")
+public enum ParserFixture {
+    ACU_COBOL(AcuCobolParser::new, "acu.txt"),
+    AJC(AjcParser::new, "ajc.txt"),
+    ANSIBLE_LINT(AnsibleLintParser::new, "ansibleLint.txt"),
+    ANT_JAVAC(AntJavacParser::new, "ant-javac.txt"),
+    ARMCC(ArmccCompilerParser::new, "armcc.txt"),
+    ARMCC5(Armcc5CompilerParser::new, "armcc5.txt"),
+    BUCKMINSTER(BuckminsterParser::new, "buckminster.txt"),
+    CADENCE_INCISIVE(CadenceIncisiveParser::new, "CadenceIncisive.txt"),
+    CLANG(ClangParser::new, "apple-llvm-clang.txt"),
+    CLANG_TIDY(ClangTidyParser::new, "ClangTidy.txt"),
+    CODE_ANALYSIS(CodeAnalysisParser::new, "codeanalysis.txt"),
+    COOLFLUX_CHESSCC(CoolfluxChessccParser::new, "coolfluxchesscc.txt"),
+    CPP_LINT(CppLintParser::new, "cpplint.txt"),
+    DIAB_C(DiabCParser::new, "diabc.txt"),
+    DOXYGEN(DoxygenParser::new, "doxygen.txt"),
+    DR_MEMORY(DrMemoryParser::new, "drmemory.txt"),
+    ECLIPSE(EclipseParser::new, "eclipse.txt"),
+    ECLIPSE_MAVEN(EclipseMavenParser::new, "issue13969.txt"),
+    ERLC(ErlcParser::new, "erlc.txt"),
+    ERROR_PRONE(ErrorProneParser::new, "errorprone-maven.log"),
+    FLEX_SDK(FlexSdkParser::new, "flexsdk.txt"),
+    GCC(GccParser::new, "gcc.txt"),
+    GCC4(Gcc4CompilerParser::new, "gcc4.txt"),
+    GCC4_LINKER(Gcc4LinkerParser::new, "gcc4ld.txt"),
+    GHS_MULTI(GhsMultiParser::new, "ghsmulti.txt"),
+    GNAT(GnatParser::new, "gnat.txt"),
+    GNU_FORTRAN(GnuFortranParser::new, "GnuFortran.txt"),
+    GO_LINT(GoLintParser::new, "golint.txt"),
+    GO_VET(GoVetParser::new, "govet.txt"),
+    IAR(IarParser::new, "issue8823.txt"),
+    INTEL(IntelParser::new, "intelc.txt"),
+    INVALIDS(InvalidsParser::new, "invalids.txt"),
+    JAVA_DOC(JavaDocParser::new, "javadoc.txt"),
+    JAVAC(JavacParser::new, "javac.txt"),
+    MAVEN_CONSOLE(MavenConsoleParser::new, "maven-console.txt"),
+    METROWERKS_COMPILER(MetrowerksCwCompilerParser::new, "MetrowerksCWCompiler.txt"),
+    METROWERKS_LINKER(MetrowerksCwLinkerParser::new, "MetrowerksCWLinker.txt"),
+    MS_BUILD(MsBuildParser::new, "msbuild.txt"),
+    NAG_FORTRAN(NagFortranParser::new, "NagFortran.txt"),
+    P4(P4Parser::new, "perforce.txt"),
+    PEP8(Pep8Parser::new, "pep8Test.txt"),
+    PERL_CRITIC(PerlCriticParser::new, "perlcritic.txt"),
+    PHP(PhpParser::new, "php.txt"),
+    PUPPET_LINT(PuppetLintParser::new, "puppet-lint.txt"),
+    PY_LINT(PyLintParser::new, "pylint_parseable.txt"),
+    QAC(QacSourceCodeAnalyserParser::new, "QACSourceCodeAnalyser.txt"),
+    RF_LINT(RfLintParser::new, "rflint.txt"),
+    ROBOCOPY(RobocopyParser::new, "robocopy.txt"),
+    RUBO_COP(RuboCopParser::new, "rubocop.log"),
+    SBT_SCALAC(SbtScalacParser::new, "sbtScalac.txt"),
+    SCALAC(ScalacParser::new, "scalac.txt"),
+    SPHINX_BUILD(SphinxBuildParser::new, "sphinxbuild.txt"),
+    SUN_C(SunCParser::new, "sunc.txt"),
+    TASKING_VX(TaskingVxCompilerParser::new, "tasking-vx.txt"),
+    TI_CCS(TiCcsParser::new, "ticcs.txt"),
+    TNSDL(TnsdlParser::new, "tnsdl.txt"),
+    XLC_COMPILER(XlcCompilerParser::new, "xlc.txt"),
+    XLC_LINKER(XlcLinkerParser::new, "xlc-linker.txt"),
+    YUI_COMPRESSOR(YuiCompressorParser::new, "yui.txt"),
+
+    CCM(CcmParser::new, "pynamodb_ccm_results_sample.xml", "metric"),
+    CHECK_STYLE(CheckStyleParser::new, "checkstyle/checkstyle.xml", "file"),
+    CPD(() -> new CpdParser(50, 25), "dry/cpd/cpd.xml", "duplication"),
+    CSS_LINT(LintParser::new, "jslint/csslint.xml", "file"),
+    DUP_FINDER(() -> new DupFinderParser(50, 25), "dry/dupfinder/with-sourcecode.xml", "Duplicate"),
+    ECLIPSE_XML(EclipseXMLParser::new, "eclipse-withinfo.xml", "source"),
+    FIND_BUGS(() -> new FindBugsParser(PriorityProperty.RANK), "findbugs/spotbugsXml.xml", "BugInstance"),
+    FX_COP(FxCopParser::new, "fxcop.xml", "Target"),
+    GENDARME(GendarmeParser::new, "gendarme/Gendarme.xml", "target"),
+    IDEA_INSPECTION(IdeaInspectionParser::new, "IdeaInspectionExample.xml", "problem"),
+    JC_REPORT(JcReportParser::new, "jcreport/testCorrect.xml", "file"),
+    JS_LINT(LintParser::new, "jslint/multi.xml", "file"),
+    PMD(PmdParser::new, "pmd/pmd.xml", "file"),
+    PRE_FAST(PreFastParser::new, "PREfast.xml", "DEFECT"),
+    SIMIAN(() -> new SimianParser(50, 25), "dry/simian/onefile.xml", "set"),
+    STYLE_COP(StyleCopParser::new, "stylecop.xml", "Violation"),
+    TAGLIST(TaglistParser::new, "taglist.xml", "tag"),
+
+    ANDROID_LINT(AndroidLintParserAdapter::new, "violations/android-lint.xml", "issue"),
+    CODE_NARC(CodeNarcAdapter::new, "violations/codeNarc.xml", "Violation"),
+    CPP_CHECK(CppCheckAdapter::new, "violations/cppcheck.xml", "error"),
+    ERROR_PRONE_ADAPTER(ErrorProneAdapter::new, "violations/error-prone.log"),
+    FLAKE8(Flake8Adapter::new, "violations/flake8.txt"),
+    JS_HINT(JsHintAdapter::new, "violations/jshint.xml", "file"),
+    KLOC_WORK(KlocWorkAdapter::new, "violations/klocwork.xml", "problem"),
+    MY_PY(MyPyAdapter::new, "violations/mypy.txt"),
+    PIT(PitAdapter::new, "violations/pit.xml", "mutation"),
+    PY_DOC_STYLE(PyDocStyleAdapter::new, "violations/pydocstyle.txt"),
+    RESHARPER(ResharperInspectCodeAdapter::new, "violations/ResharperInspectCode.xml", "Issue"),
+    XML_LINT(XmlLintAdapter::new, "violations/xmllint.txt"),
+    YAML_LINT(YamlLintAdapter::new, "violations/yamllint.txt"),
+    ZPT_LINT(ZptLintAdapter::new, "violations/zptlint.log");
+
+    private static final String RESOURCE_FOLDER = "/edu/hm/hafner/analysis/parser/";
+
+    private final Supplier<IssueParser> parserFactory;
+    private final String resource;
+    @Nullable
+    private final String recordElement;
+
+    ParserFixture(final Supplier<IssueParser> parserFactory, final String resource) {
+        this(parserFactory, resource, null);
+    }
+
+    ParserFixture(final Supplier<IssueParser> parserFactory, final String resource,
+            @Nullable final String recordElement) {
+        this.parserFactory = parserFactory;
+        this.resource = RESOURCE_FOLDER + resource;
+        this.recordElement = recordElement;
+    }
+
+    /**
+     * Creates a new instance of the parser under test.
+     *
+     * @return the parser
+     */
+    public IssueParser createParser() {
+        return parserFactory.get();
+    }
+
+    /**
+     * Returns the example report that will be scaled up.
+     *
+     * @return the name of the resource in the class path
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Returns the XML element that will be repeated when scaling up the example.
+     *
+     * @return the XML element, or {@code null} if the example is a line based log
+     */
+    @Nullable
+    public String getRecordElement() {
+        return recordElement;
+    }
+}
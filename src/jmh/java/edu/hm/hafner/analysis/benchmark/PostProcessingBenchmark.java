@@ -0,0 +1,223 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.analysis.FingerprintGenerator;
+import edu.hm.hafner.analysis.FullTextFingerprint;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.ModuleDetector;
+import edu.hm.hafner.analysis.ModuleDetector.FileSystem;
+import edu.hm.hafner.analysis.PackageNameResolver;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.util.PathUtil;
+
+/**
+ * Measures the throughput of the post processing steps that are applied to a report after parsing: creation of
+ * fingerprints, resolving of package names, and detection of modules. The fingerprints and package names are computed
+ * for source files in a synthetic workspace on disk.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PostProcessingBenchmark {
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final int LINES_PER_FILE = 500;
+
+    @Param({"100", "1000"})
+    private int numberOfFiles;
+    @Param({"1", "20"})
+    private int issuesPerFile;
+
+    private Path workspace = Paths.get(".");
+    private final List<String> sourceFiles = new ArrayList<>();
+    private final ModuleFileSystem moduleFileSystem = new ModuleFileSystem();
+    private Report report = new Report();
+
+    /**
+     * Creates the source files of the synthetic workspace.
+     *
+     * @throws IOException
+     *         if the workspace could not be created
+     */
+    @Setup(Level.Trial)
+    public void createWorkspace() throws IOException {
+        workspace = Files.createTempDirectory("benchmark-workspace");
+        sourceFiles.clear();
+        for (int file = 0; file < numberOfFiles; file++) {
+            String packageName = "edu.hm.hafner.module" + file % 50 + ".package" + file % 100;
+            Path source = workspace.resolve("module-" + file % 50)
+                    .resolve(packageName.replace('.', '/'))
+                    .resolve("Class" + file + ".java");
+            Files.createDirectories(source.getParent());
+            Files.write(source, createSourceFile(packageName, file).getBytes(CHARSET));
+            sourceFiles.add(source.toString());
+        }
+        moduleFileSystem.createModules(numberOfFiles);
+    }
+
+    private String createSourceFile(final String packageName, final int file) {
+        StringBuilder content = new StringBuilder(LINES_PER_FILE * 40);
+        content.append("package ").append(packageName).append(";\n\n");
+        content.append("public class Class").append(file).append(" {\n");
+        for (int line = 0; line < LINES_PER_FILE; line++) {
+            content.append("    private int field").append(line).append(" = ").append(line * file).append(";\n");
+        }
+        content.append("}\n");
+        return content.toString();
+    }
+
+    /**
+     * Removes the synthetic workspace.
+     *
+     * @throws IOException
+     *         if the workspace could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteWorkspace() throws IOException {
+        try (Stream<Path> files = Files.walk(workspace)) {
+            files.sorted(Comparator.reverseOrder()).forEach(this::delete);
+        }
+    }
+
+    private void delete(final Path path) {
+        try {
+            Files.delete(path);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Creates a new report for each invocation since the post processing steps modify the issues of the report.
+     */
+    @Setup(Level.Invocation)
+    public void createReport() {
+        report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (String fileName : sourceFiles) {
+            for (int issue = 0; issue < issuesPerFile; issue++) {
+                report.add(builder.setFileName(fileName)
+                        .setLineStart(3 + issue * LINES_PER_FILE / issuesPerFile)
+                        .setMessage("Issue " + issue)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Creates the fingerprints for all issues.
+     *
+     * @return the report
+     */
+    @Benchmark
+    public Report createFingerprints() {
+        new FingerprintGenerator().run(new FullTextFingerprint(), report, CHARSET);
+        return report;
+    }
+
+    /**
+     * Resolves the package names for all issues.
+     *
+     * @return the report
+     */
+    @Benchmark
+    public Report resolvePackageNames() {
+        new PackageNameResolver().run(report, CHARSET);
+        return report;
+    }
+
+    /**
+     * Creates a new module detector that needs to read all Maven, Ant, and OSGi project files.
+     *
+     * @return the module detector
+     */
+    @Benchmark
+    public ModuleDetector createModuleDetector() {
+        return new ModuleDetector(workspace, moduleFileSystem);
+    }
+
+    /**
+     * In memory file system that contains the project files of a large number of modules.
+     */
+    private static class ModuleFileSystem implements FileSystem {
+        private final Map<String, byte[]> files = new HashMap<>();
+        private String prefix = StringUtils.EMPTY;
+
+        void createModules(final int numberOfModules) {
+            files.clear();
+            for (int module = 0; module < numberOfModules; module++) {
+                switch (module % 3) {
+                    case 0:
+                        add("maven-" + module + "/pom.xml", String.format(
+                                "<?xml version=\"1.0\"?>%n<project><artifactId>maven-%d</artifactId>"
+                                        + "<name>Maven Module %d</name></project>%n", module, module));
+                        break;
+                    case 1:
+                        add("ant-" + module + "/build.xml", String.format(
+                                "<?xml version=\"1.0\"?>%n<project name=\"Ant Module %d\"/>%n", module));
+                        break;
+                    default:
+                        add("osgi-" + module + "/META-INF/MANIFEST.MF", String.format(
+                                "Manifest-Version: 1.0%nBundle-SymbolicName: osgi.module%d;singleton:=true%n"
+                                        + "Bundle-Vendor: Benchmark%n", module));
+                        break;
+                }
+            }
+        }
+
+        private void add(final String fileName, final String content) {
+            files.put(fileName, content.getBytes(CHARSET));
+        }
+
+        @Override
+        public String[] find(final Path root, final String pattern) {
+            prefix = new PathUtil().getAbsolutePath(root) + "/";
+            return files.keySet().toArray(new String[0]);
+        }
+
+        @Override
+        public InputStream open(final String fileName) throws IOException {
+            byte[] content = files.get(StringUtils.removeStart(fileName, prefix));
+            if (content == null) {
+                throw new IOException("No such file " + fileName);
+            }
+            return new ByteArrayInputStream(content);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Report.IssueFilterBuilder;
+import edu.hm.hafner.analysis.Severity;
+
+/**
+ * Measures the throughput of the most important {@link Report} operations.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReportBenchmark {
+    private static final int NUMBER_OF_FILES = 1000;
+    private static final int NUMBER_OF_MODULES = 20;
+    private static final int NUMBER_OF_CATEGORIES = 50;
+    private static final Severity[] SEVERITIES = {
+            Severity.ERROR, Severity.WARNING_HIGH, Severity.WARNING_NORMAL, Severity.WARNING_LOW};
+
+    @Param({"10000", "100000"})
+    private int numberOfIssues;
+
+    private final List<Issue> issues = new ArrayList<>();
+    private Report report = new Report();
+    private Predicate<Issue> filter = issue -> true;
+
+    /**
+     * Creates the issues and the report that will be used in the benchmarks.
+     */
+    @Setup(Level.Trial)
+    public void createIssues() {
+        issues.clear();
+        issues.addAll(createIssues(numberOfIssues));
+        report = new Report().addAll(issues);
+        filter = new IssueFilterBuilder()
+                .setIncludeModuleNameFilter("module-1.*", "module-2")
+                .setExcludeFileNameFilter(".*/file-9\\d\\d\\.c")
+                .setExcludeCategoryFilter("category-4\\d")
+                .build();
+    }
+
+    /**
+     * Creates the specified number of issues that are distributed over several files, modules, categories, and
+     * severities.
+     *
+     * @param size
+     *         the number of issues to create
+     *
+     * @return the issues
+     */
+    static List<Issue> createIssues(final int size) {
+        List<Issue> created = new ArrayList<>(size);
+        IssueBuilder builder = new IssueBuilder();
+        for (int i = 0; i < size; i++) {
+            int module = i % NUMBER_OF_MODULES;
+            created.add(builder.setFileName(String.format("/workspace/module-%d/src/package-%d/file-%d.c",
+                    module, i % 100, i % NUMBER_OF_FILES))
+                    .setLineStart(i)
+                    .setColumnStart(i % 80)
+                    .setModuleName("module-" + module)
+                    .setPackageName("package-" + i % 100)
+                    .setCategory("category-" + i % NUMBER_OF_CATEGORIES)
+                    .setType("type-" + i % 200)
+                    .setOrigin("benchmark")
+                    .setSeverity(SEVERITIES[i % SEVERITIES.length])
+                    .setMessage("Message of issue " + i)
+                    .build());
+        }
+        return created;
+    }
+
+    /**
+     * Adds all issues to a new report.
+     *
+     * @return the report
+     */
+    @Benchmark
+    public Report add() {
+        Report added = new Report();
+        for (Issue issue : issues) {
+            added.add(issue);
+        }
+        return added;
+    }
+
+    /**
+     * Filters the report using a simple predicate.
+     *
+     * @return the filtered report
+     */
+    @Benchmark
+    public Report filterBySeverity() {
+        return report.filter(Issue.bySeverity(Severity.WARNING_HIGH));
+    }
+
+    /**
+     * Filters the report using the include and exclude patterns of an {@link IssueFilterBuilder}.
+     *
+     * @return the filtered report
+     */
+    @Benchmark
+    public Report filterByPatterns() {
+        return report.filter(filter);
+    }
+
+    /**
+     * Groups the report by the module name.
+     *
+     * @return the reports for each module
+     */
+    @Benchmark
+    public Map<String, Report> groupByProperty() {
+        return report.groupByProperty("moduleName");
+    }
+
+    /**
+     * Computes the number of issues per severity, module, and file.
+     *
+     * @param blackhole
+     *         consumes the results
+     */
+    @Benchmark
+    public void aggregate(final Blackhole blackhole) {
+        blackhole.consume(report.getSizeOf(Severity.WARNING_HIGH));
+        blackhole.consume(report.getModules());
+        blackhole.consume(report.getPropertyCount(Issue::getFileName));
+    }
+}
@@ -0,0 +1,143 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Creates large synthetic reports by scaling up the small example reports of the parser tests. Console logs are
+ * scaled by appending the example log several times. XML reports are scaled by repeating the section between the
+ * first start tag and the last end tag of a given record element (e.g., {@code file} in a CheckStyle report) so that
+ * the resulting document is still well formed.
+ *
+ * @author Ullrich Hafner
+ */
+final class SyntheticReports {
+    private static final int BYTES_PER_MEGA_BYTE = 1024 * 1024;
+
+    /**
+     * Creates a new temporary file that contains the content of the specified example report scaled up to the
+     * specified size.
+     *
+     * @param resource
+     *         the name of the example report in the class path
+     * @param recordElement
+     *         the XML element that should be repeated, or {@code null} if the example is a line based console log
+     * @param sizeInMegaBytes
+     *         the minimum size of the created file
+     *
+     * @return the created file
+     */
+    static Path create(final String resource, @Nullable final String recordElement, final int sizeInMegaBytes) {
+        try {
+            String content = readResource(resource);
+            Path file = Files.createTempFile("synthetic-", "-" + resource.replaceAll(".*/", ""));
+
+            if (recordElement == null) {
+                write(file, "", ensureNewLine(content), "", sizeInMegaBytes);
+            }
+            else {
+                Matcher start = Pattern.compile("<" + recordElement + "[\\s>/]").matcher(content);
+                String endTag = "</" + recordElement + ">";
+                int end = content.lastIndexOf(endTag);
+                if (!start.find() || end < 0) {
+                    throw new IllegalArgumentException(
+                            String.format("Resource %s contains no record element '%s'", resource, recordElement));
+                }
+                end += endTag.length();
+                write(file, content.substring(0, start.start()), content.substring(start.start(), end),
+                        content.substring(end), sizeInMegaBytes);
+            }
+            return file;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Creates a new temporary file that contains the specified content scaled up to the specified size.
+     *
+     * @param header
+     *         the content at the start of the file
+     * @param record
+     *         the content that will be repeated
+     * @param footer
+     *         the content at the end of the file
+     * @param sizeInMegaBytes
+     *         the minimum size of the created file
+     *
+     * @return the created file
+     */
+    static Path create(final String header, final String record, final String footer, final int sizeInMegaBytes) {
+        try {
+            Path file = Files.createTempFile("synthetic-", ".txt");
+            write(file, header, record, footer, sizeInMegaBytes);
+            return file;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Deletes the specified file that has been created by one of the factory methods.
+     *
+     * @param file
+     *         the file to delete
+     */
+    static void delete(@Nullable final Path file) {
+        try {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void write(final Path file, final String header, final String record, final String footer,
+            final int sizeInMegaBytes) throws IOException {
+        byte[] repeated = record.getBytes(StandardCharsets.UTF_8);
+        long size = (long) sizeInMegaBytes * BYTES_PER_MEGA_BYTE;
+
+        try (OutputStream output = Files.newOutputStream(file)) {
+            output.write(header.getBytes(StandardCharsets.UTF_8));
+            for (long written = 0; written < size; written += repeated.length) {
+                output.write(repeated);
+            }
+            output.write(footer.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String ensureNewLine(final String content) {
+        if (content.endsWith("\n")) {
+            return content;
+        }
+        return content + "\n";
+    }
+
+    private static String readResource(final String resource) throws IOException {
+        try (InputStream stream = SyntheticReports.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("No such resource " + resource);
+            }
+            return IOUtils.toString(stream, StandardCharsets.UTF_8);
+        }
+    }
+
+    private SyntheticReports() {
+        // prevents instantiation
+    }
+}
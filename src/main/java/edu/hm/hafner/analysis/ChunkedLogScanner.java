@@ -0,0 +1,403 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import edu.hm.hafner.analysis.LookaheadParser.LineScanner;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Parses a single large log file with a {@link LookaheadParser} in parallel. The file is split at line boundaries into
+ * chunks that are parsed by the tasks of a given {@link Executor}, each task uses its own copy of the parser. The
+ * issues of the chunks are stitched together in the order of the chunks, so the result is the same as if the file
+ * would have been parsed sequentially using {@link LookaheadParser#parse(ReaderFactory)}:
+ * <ul>
+ *     <li>The lines of all chunks are counted in a first parallel pass, so the line numbers provided by {@link
+ *     LookaheadStream#getLine()} are the line numbers in the whole file.</li>
+ *     <li>The first pass also records the last make {@code Entering directory} line of each chunk: a chunk is parsed
+ *     using the directory of the preceding chunks.</li>
+ *     <li>A parser may consume lines of the next chunk if an issue spans several lines. Then the issues of the next
+ *     chunk are taken from the first line that has not been consumed yet (re-sync). If the parser of the next chunk
+ *     did not start parsing at this line or if it used a different directory, then the next chunk is parsed again
+ *     starting at this line.</li>
+ * </ul>
+ * <p>
+ * Since each chunk is parsed by a copy of the parser, parsers that store the parsing state in fields (other than the
+ * {@link IssueBuilder} of the scanner) produce different results. The chunks are read using memory mapped buffers,
+ * see {@link MappedFileReaderFactory} for the limitations. Files with a charset that is not supported by the memory
+ * mapped line source are parsed sequentially. Parsers that {@link LookaheadParser#requiresCompleteReport() require the
+ * complete report} (e.g., since they override {@link LookaheadParser#parse(ReaderFactory)}) parse the file sequentially
+ * as well.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class ChunkedLogScanner {
+    /** Default size of a chunk in bytes. */
+    public static final long DEFAULT_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_CHECKPOINTS = 1024;
+
+    private final Executor executor;
+    private final long chunkSize;
+
+    /**
+     * Creates a new {@link ChunkedLogScanner} that uses the {@link ForkJoinPool#commonPool() common pool} and the
+     * {@link #DEFAULT_CHUNK_SIZE default chunk size}.
+     */
+    public ChunkedLogScanner() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ChunkedLogScanner} that uses the specified executor and the {@link #DEFAULT_CHUNK_SIZE
+     * default chunk size}.
+     *
+     * @param executor
+     *         the executor that runs the parsers
+     */
+    public ChunkedLogScanner(final Executor executor) {
+        this(executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ChunkedLogScanner} that uses the specified executor.
+     *
+     * @param executor
+     *         the executor that runs the parsers
+     * @param chunkSize
+     *         the minimum size of a chunk in bytes, a chunk always ends at a line boundary
+     */
+    public ChunkedLogScanner(final Executor executor, final long chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(String.format("Chunk size must be positive: %d", chunkSize));
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parses the specified file.
+     *
+     * @param parser
+     *         the parser to use
+     * @param file
+     *         the file to parse
+     * @param charset
+     *         the charset to use when reading the file
+     *
+     * @return the issues of the file
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report scan(final LookaheadParser parser, final Path file, final Charset charset)
+            throws ParsingException, ParsingCanceledException {
+        if (parser.requiresCompleteReport() || !MappedLineSource.isSupported(charset)) {
+            return parser.parse(new FileReaderFactory(file, charset));
+        }
+        List<Chunk> chunks = split(file);
+        if (chunks.size() <= 1) {
+            return parser.parse(new FileReaderFactory(file, charset));
+        }
+
+        AtomicBoolean isCanceled = new AtomicBoolean(false);
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        try {
+            List<CompletableFuture<Chunk>> countedChunks = new ArrayList<>();
+            for (Chunk chunk : chunks) {
+                countedChunks.add(submit(tasks, () -> chunk.count(file, charset, isCanceled)));
+            }
+            int firstLine = 1;
+            String directory = null;
+            for (CompletableFuture<Chunk> counted : countedChunks) {
+                Chunk chunk = counted.get();
+                chunk.setStart(firstLine, directory);
+                firstLine += chunk.lineCount;
+                directory = chunk.lastDirectory == null ? directory : chunk.lastDirectory;
+            }
+
+            List<CompletableFuture<ChunkResult>> results = new ArrayList<>();
+            for (Chunk chunk : chunks) {
+                LookaheadParser copy = SerializationUtils.clone(parser);
+                results.add(submit(tasks, () -> chunk.parse(copy, file, charset,
+                        chunk.firstLine, chunk.directory, isCanceled)));
+            }
+
+            return parser.postProcess(stitch(parser, file, charset, chunks, results, isCanceled));
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            throw asRuntimeException(exception.getCause());
+        }
+        finally {
+            isCanceled.set(true);
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(final List<CompletableFuture<?>> tasks, final Supplier<T> task) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(task, executor);
+        tasks.add(future);
+        return future;
+    }
+
+    /**
+     * Concatenates the issues of the chunks. The issues of a chunk are taken starting with the first line that has
+     * not been consumed by the parser of the previous chunk.
+     */
+    private Report stitch(final LookaheadParser parser, final Path file, final Charset charset,
+            final List<Chunk> chunks, final List<CompletableFuture<ChunkResult>> results,
+            final AtomicBoolean isCanceled) throws InterruptedException, ExecutionException {
+        Report report = new Report();
+        int nextLine = 1;
+        String directory = null;
+        for (int index = 0; index < chunks.size(); index++) {
+            Chunk chunk = chunks.get(index);
+            ChunkResult result = results.get(index).get();
+            if (nextLine > chunk.getLastLine()) {
+                continue; // all lines of the chunk have been consumed by the previous chunk
+            }
+
+            Checkpoint checkpoint = result.getCheckpoint(nextLine, directory);
+            if (checkpoint == null) {
+                result = chunk.parse(SerializationUtils.clone(parser), file, charset, nextLine, directory,
+                        isCanceled);
+                checkpoint = result.getCheckpoint(nextLine, directory);
+            }
+            int first = checkpoint == null ? 0 : checkpoint.issueCount;
+            report.addAll(result.issues.subList(first, result.issues.size()));
+
+            nextLine = result.nextLine;
+            directory = result.directory;
+        }
+        return report;
+    }
+
+    /**
+     * Splits the file into chunks of at least the configured size. Each chunk ends after a {@code \n} line terminator
+     * or at the end of the file.
+     */
+    private List<Chunk> split(final Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Chunk> chunks = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long end = findLineStart(channel, start + chunkSize, size);
+                chunks.add(new Chunk(start, end));
+                start = end;
+            }
+            return chunks;
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't scan file for issues: " + file);
+        }
+    }
+
+    private long findLineStart(final FileChannel channel, final long position, final long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long offset = position;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private RuntimeException asRuntimeException(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new ParsingException(cause);
+    }
+
+    /**
+     * A part of the file that starts and ends at a line boundary.
+     */
+    private static class Chunk {
+        private final long start;
+        private final long end;
+        private int lineCount;
+        @Nullable
+        private String lastDirectory;
+        private int firstLine;
+        @Nullable
+        private String directory;
+
+        Chunk(final long start, final long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Counts the lines of this chunk and finds the last make {@code Entering directory} line.
+         */
+        Chunk count(final Path file, final Charset charset, final AtomicBoolean isCanceled) {
+            try (MappedLineSource lines = open(file, charset)) {
+                for (CharSequence line = lines.nextLine(); line != null && lines.getOffset() < end;
+                        line = lines.nextLine()) {
+                    lineCount++;
+                    String entered = LookaheadParser.getEnteredDirectory(line);
+                    if (entered != null) {
+                        lastDirectory = entered;
+                    }
+                    if (isCanceled.get()) {
+                        throw new ParsingCanceledException();
+                    }
+                }
+            }
+            catch (UncheckedIOException exception) {
+                throw new ParsingException(exception, "Can't scan file for issues: " + file);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the line number of the first line and the directory of the preceding chunks.
+         */
+        void setStart(final int firstLineNumber, @Nullable final String precedingDirectory) {
+            firstLine = firstLineNumber;
+            directory = precedingDirectory;
+        }
+
+        int getLastLine() {
+            return firstLine + lineCount - 1;
+        }
+
+        /**
+         * Parses the lines of this chunk, starting with the specified line. The parser may consume lines of the next
+         * chunk to complete an issue.
+         */
+        ChunkResult parse(final LookaheadParser parser, final Path file, final Charset charset, final int startLine,
+                @Nullable final String startDirectory, final AtomicBoolean isCanceled) {
+            try (LookaheadStream lookahead = new LookaheadStream(open(file, charset), firstLine)) {
+                while (lookahead.getLine() < startLine - 1 && lookahead.hasNext()) {
+                    lookahead.nextSequence();
+                }
+
+                List<Issue> issues = new ArrayList<>();
+                LineScanner scanner = parser.createScanner(issues::add);
+                scanner.setDirectory(startDirectory);
+
+                Map<Integer, Checkpoint> checkpoints = new HashMap<>();
+                int lastLine = getLastLine();
+                while (lookahead.getLine() < lastLine && lookahead.hasNext()) {
+                    if (checkpoints.size() < MAX_CHECKPOINTS) {
+                        checkpoints.put(lookahead.getLine() + 1,
+                                new Checkpoint(scanner.getDirectory(), scanner.getIssueCount()));
+                    }
+                    scanner.parseNextLine(lookahead);
+                    if (isCanceled.get()) {
+                        throw new ParsingCanceledException();
+                    }
+                }
+                scanner.finish();
+                return new ChunkResult(issues, checkpoints, lookahead.getLine() + 1,
+                        scanner.getDirectory());
+            }
+            catch (UncheckedIOException exception) {
+                throw new ParsingException(exception, "Can't scan file for issues: " + file);
+            }
+        }
+
+        private MappedLineSource open(final Path file, final Charset charset) {
+            try {
+                return new MappedLineSource(file, charset, start);
+            }
+            catch (IOException exception) {
+                throw new ParsingException(exception, "Can't scan file for issues: " + file);
+            }
+        }
+    }
+
+    /**
+     * The state of the parser before a line has been parsed.
+     */
+    private static class Checkpoint {
+        @Nullable
+        private final String directory;
+        private final int issueCount;
+
+        Checkpoint(@Nullable final String directory, final int issueCount) {
+            this.directory = directory;
+            this.issueCount = issueCount;
+        }
+    }
+
+    /**
+     * The issues of a chunk and the state of the parser after the last line of the chunk has been parsed.
+     */
+    private static class ChunkResult {
+        private final List<Issue> issues;
+        private final Map<Integer, Checkpoint> checkpoints;
+        private final int nextLine;
+        @Nullable
+        private final String directory;
+
+        ChunkResult(final List<Issue> issues, final Map<Integer, Checkpoint> checkpoints, final int nextLine,
+                @Nullable final String directory) {
+            this.issues = issues;
+            this.checkpoints = checkpoints;
+            this.nextLine = nextLine;
+            this.directory = directory;
+        }
+
+        /**
+         * Returns the state of the parser before the specified line has been parsed, if the parser used the
+         * specified directory at this line.
+         *
+         * @param line
+         *         the line number
+         * @param expectedDirectory
+         *         the directory the parser should have used
+         *
+         * @return the checkpoint, or {@code null} if the parser did not start parsing at this line or used a
+         *         different directory
+         */
+        @Nullable
+        Checkpoint getCheckpoint(final int line, @Nullable final String expectedDirectory) {
+            Checkpoint checkpoint = checkpoints.get(line);
+            if (checkpoint != null && Objects.equals(checkpoint.directory, expectedDirectory)) {
+                return checkpoint;
+            }
+            return null;
+        }
+    }
+}
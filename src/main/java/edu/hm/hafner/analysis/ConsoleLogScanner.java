@@ -0,0 +1,333 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+import edu.hm.hafner.util.AhoCorasickMatcher;
+import edu.hm.hafner.util.LineSource;
+import edu.hm.hafner.util.LookaheadStream;
+
+/**
+ * Scans a console log with several {@link LookaheadParser} instances at once. The log is read and decoded only once,
+ * each line is handed over to all registered parsers. Every parser works on its own {@link LookaheadStream}, so it may
+ * consume additional lines without affecting the other parsers. Lines are buffered only as long as they have not been
+ * handed out to all parsers. Each parser uses its own {@link IssueBuilder} and creates its own {@link Report}: the
+ * result is the same as if each parser would have parsed the log individually.
+ * <p>
+ * The {@link LookaheadParser#getRequiredLiterals() required literals} of all parsers are combined into a single
+ * prefilter: each line is searched only once for the literals of all parsers. The regular expression of a parser is
+ * evaluated only for lines that contain one of its literals. The candidate parsers of the buffered lines are stored as
+ * bit masks in a single array of longs, so besides the line itself no objects are created for a line.
+ * </p>
+ * <p>
+ * Parsers that {@link LookaheadParser#requiresCompleteReport() require the complete report} (e.g., since they override
+ * {@link LookaheadParser#parse(ReaderFactory)}) cannot share the lines with the other parsers: these parsers parse the
+ * console log individually afterwards.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class ConsoleLogScanner {
+    private final List<LookaheadParser> parsers = new ArrayList<>();
+    private final List<LookaheadParser> sharedParsers = new ArrayList<>();
+    private final int wordsPerLine;
+    private final long[] unfilteredParsers;
+    private final long[][] parsersOfLiteral;
+    private final AhoCorasickMatcher prefilter;
+
+    /**
+     * Creates a new instance of {@link ConsoleLogScanner} with the specified parsers.
+     *
+     * @param parsers
+     *         the parsers to use
+     */
+    public ConsoleLogScanner(final LookaheadParser... parsers) {
+        this(Arrays.asList(parsers));
+    }
+
+    /**
+     * Creates a new instance of {@link ConsoleLogScanner} with the specified parsers.
+     *
+     * @param parsers
+     *         the parsers to use
+     */
+    public ConsoleLogScanner(final List<? extends LookaheadParser> parsers) {
+        this.parsers.addAll(parsers);
+        for (LookaheadParser parser : parsers) {
+            if (!parser.requiresCompleteReport()) {
+                sharedParsers.add(parser);
+            }
+        }
+
+        wordsPerLine = Math.max(1, (sharedParsers.size() + Long.SIZE - 1) / Long.SIZE);
+        BitSet unfiltered = new BitSet();
+        Map<String, BitSet> literals = new LinkedHashMap<>();
+        for (int index = 0; index < sharedParsers.size(); index++) {
+            Collection<String> required = sharedParsers.get(index).getRequiredLiterals();
+            if (required.isEmpty()) {
+                unfiltered.set(index);
+            }
+            for (String literal : required) {
+                literals.computeIfAbsent(literal, key -> new BitSet()).set(index);
+            }
+        }
+        unfilteredParsers = toMask(unfiltered);
+        parsersOfLiteral = literals.values().stream().map(this::toMask).toArray(long[][]::new);
+        prefilter = new AhoCorasickMatcher(literals.keySet());
+    }
+
+    private long[] toMask(final BitSet parserIndexes) {
+        return Arrays.copyOf(parserIndexes.toLongArray(), wordsPerLine);
+    }
+
+    /**
+     * Parses the console log with all registered parsers.
+     *
+     * @param readerFactory
+     *         factory to read the console log
+     *
+     * @return the issues of each parser, in the order of the registered parsers
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public List<Report> scan(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        Iterator<Report> sharedReports = scanWithSharedParsers(readerFactory).iterator();
+
+        List<Report> reports = new ArrayList<>();
+        for (LookaheadParser parser : parsers) {
+            if (parser.requiresCompleteReport()) {
+                reports.add(parser.parse(readerFactory));
+            }
+            else {
+                reports.add(sharedReports.next());
+            }
+        }
+        return reports;
+    }
+
+    private List<Report> scanWithSharedParsers(final ReaderFactory readerFactory) {
+        if (sharedParsers.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try (LineSource lines = readerFactory.readLines()) {
+            SharedLines sharedLines = new SharedLines(lines);
+
+            List<ParserState> states = new ArrayList<>();
+            for (int index = 0; index < sharedParsers.size(); index++) {
+                states.add(new ParserState(sharedParsers.get(index), index, sharedLines));
+            }
+
+            for (long position = 0; sharedLines.isReadable(position); position++) {
+                long handedOut = Long.MAX_VALUE;
+                for (ParserState state : states) {
+                    state.parseUpTo(position);
+                    handedOut = Math.min(handedOut, state.getHandedOutLines());
+                }
+                sharedLines.discardLinesBefore(handedOut);
+                if (Thread.interrupted()) {
+                    throw new ParsingCanceledException();
+                }
+            }
+
+            List<Report> reports = new ArrayList<>();
+            for (ParserState state : states) {
+                reports.add(state.finish());
+            }
+            return reports;
+        }
+    }
+
+    /**
+     * The parsing state of a single parser.
+     */
+    private static class ParserState implements Predicate<CharSequence> {
+        private final int index;
+        private final SharedLines sharedLines;
+        private final Cursor cursor;
+        private final LookaheadStream lookahead;
+        private final LookaheadParser parser;
+        private final Report report = new Report();
+        private final LookaheadParser.LineScanner scanner;
+
+        ParserState(final LookaheadParser parser, final int index, final SharedLines sharedLines) {
+            this.parser = parser;
+            this.index = index;
+            this.sharedLines = sharedLines;
+            cursor = sharedLines.createCursor();
+            lookahead = new LookaheadStream(StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false));
+            scanner = parser.createScanner(this, report);
+        }
+
+        /**
+         * Returns whether the line that has been handed out by the lookahead stream contains one of the required
+         * literals of the parser.
+         *
+         * @param line
+         *         the line to check
+         *
+         * @return {@code true} if the regular expression of the parser should be evaluated for the line
+         */
+        @Override
+        public boolean test(final CharSequence line) {
+            return sharedLines.isCandidate(lookahead.getLine() - 1, index);
+        }
+
+        /**
+         * Returns the number of lines that have been handed out by the lookahead stream of the parser. Lines that
+         * have been read by the cursor but not yet handed out are part of the lookahead of the stream.
+         *
+         * @return the number of handed out lines
+         */
+        long getHandedOutLines() {
+            return lookahead.getLine();
+        }
+
+        /**
+         * Parses the lines of the log until the line at the specified position has been read by the parser. Lines
+         * that have been consumed already as lookahead are skipped.
+         *
+         * @param position
+         *         the position of the line
+         */
+        void parseUpTo(final long position) {
+            while (cursor.getPosition() <= position && lookahead.hasNext()) {
+                scanner.parseNextLine(lookahead);
+            }
+        }
+
+        Report finish() {
+            while (lookahead.hasNext()) {
+                scanner.parseNextLine(lookahead);
+            }
+            scanner.finish();
+            return parser.postProcess(report);
+        }
+    }
+
+    /**
+     * The lines of the console log that have been read from the underlying stream but not yet by all parsers. For each
+     * line, the parsers that should evaluate their regular expression are stored as a bit mask of {@code wordsPerLine}
+     * longs: if there are at most 64 parsers, then a single long is used per line.
+     */
+    private class SharedLines {
+        private static final int MIN_DISCARD_SIZE = 1024;
+
+        private final LineSource source;
+        private final List<String> buffer = new ArrayList<>();
+        private final BitSet literals = new BitSet();
+        private long[] candidates = new long[MIN_DISCARD_SIZE * wordsPerLine];
+        private long start = 0;
+
+        SharedLines(final LineSource source) {
+            this.source = source;
+        }
+
+        Cursor createCursor() {
+            return new Cursor(this);
+        }
+
+        boolean isReadable(final long position) {
+            while (position >= start + buffer.size()) {
+                CharSequence next = source.nextLine();
+                if (next == null) {
+                    return false;
+                }
+                findCandidates(next, buffer.size());
+                buffer.add(next.toString());
+            }
+            return true;
+        }
+
+        /**
+         * Stores the parsers that should evaluate their regular expression for the specified line.
+         *
+         * @param line
+         *         the line to check
+         * @param index
+         *         the index of the line in the buffer
+         */
+        private void findCandidates(final CharSequence line, final int index) {
+            int offset = index * wordsPerLine;
+            if (offset + wordsPerLine > candidates.length) {
+                candidates = Arrays.copyOf(candidates, candidates.length * 2);
+            }
+            System.arraycopy(unfilteredParsers, 0, candidates, offset, wordsPerLine);
+            prefilter.findAll(line, literals);
+            for (int literal = literals.nextSetBit(0); literal >= 0; literal = literals.nextSetBit(literal + 1)) {
+                long[] parsersOfLine = parsersOfLiteral[literal];
+                for (int word = 0; word < wordsPerLine; word++) {
+                    candidates[offset + word] |= parsersOfLine[word];
+                }
+            }
+        }
+
+        String get(final long position) {
+            return buffer.get((int) (position - start));
+        }
+
+        boolean isCandidate(final long position, final int parser) {
+            long word = candidates[(int) (position - start) * wordsPerLine + parser / Long.SIZE];
+            return (word & 1L << parser) != 0;
+        }
+
+        /**
+         * Discards the lines before the specified position. Lines that are still part of the lookahead of a parser
+         * must not be discarded, since the prefilter results of these lines are still required. In order to minimize
+         * copying, the lines are removed in chunks.
+         *
+         * @param position
+         *         the position of the first line that is still required
+         */
+        void discardLinesBefore(final long position) {
+            int readLines = (int) (Math.min(position, start + buffer.size()) - start);
+            if (readLines >= MIN_DISCARD_SIZE && readLines * 2 >= buffer.size()) {
+                buffer.subList(0, readLines).clear();
+                System.arraycopy(candidates, readLines * wordsPerLine, candidates, 0, buffer.size() * wordsPerLine);
+                start += readLines;
+            }
+        }
+    }
+
+    /**
+     * Iterates over the shared lines of the console log. Each parser uses its own cursor.
+     */
+    private static class Cursor implements Iterator<String> {
+        private final SharedLines lines;
+        private long position = 0;
+
+        Cursor(final SharedLines lines) {
+            this.lines = lines;
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lines.isReadable(position);
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return lines.get(position++);
+        }
+    }
+}
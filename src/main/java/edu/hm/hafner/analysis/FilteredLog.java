@@ -8,7 +8,8 @@ import com.google.errorprone.annotations.FormatMethod;
 
 /**
  * Filters the log of a {@link Report} instance so that only a limited number of errors will be reported. If the number
- * of errors exceeds this limit, then subsequent error messages will be skipped.
+ * of errors exceeds this limit, then subsequent error messages will be skipped. The log methods are synchronized so
+ * that a log can be shared by several threads.
  *
  * @author Ullrich Hafner
  */
@@ -61,7 +62,7 @@ public class FilteredLog {
      *         zero.
      */
     @FormatMethod
-    public void logInfo(final String format, final Object... args) {
+    public synchronized void logInfo(final String format, final Object... args) {
         delegate.logInfo(format, args);
     }
 
@@ -76,7 +77,7 @@ public class FilteredLog {
      *         zero.
      */
     @FormatMethod
-    public void logError(final String format, final Object... args) {
+    public synchronized void logError(final String format, final Object... args) {
         printTitle();
 
         if (lines < maxLines) {
@@ -104,7 +105,7 @@ public class FilteredLog {
      *         zero.
      */
     @FormatMethod
-    public void logException(final Exception exception, final String format, final Object... args) {
+    public synchronized void logException(final Exception exception, final String format, final Object... args) {
         printTitle();
 
         if (lines < maxLines) {
@@ -119,7 +120,7 @@ public class FilteredLog {
      *
      * @return the total number of errors
      */
-    public int size() {
+    public synchronized int size() {
         return lines;
     }
 
@@ -127,7 +128,7 @@ public class FilteredLog {
      * Writes a summary message to the reports' error log that denotes the total number of errors that have been
      * reported.
      */
-    public void logSummary() {
+    public synchronized void logSummary() {
         if (lines > maxLines) {
             delegate.logError(SKIPPED_MESSAGE, lines - maxLines);
         }
@@ -0,0 +1,258 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Caches the fingerprints of source files between subsequent runs of the {@link FingerprintGenerator}. The cached
+ * fingerprints of a file are valid as long as the size and the modification time of the file do not change. The cache
+ * is bounded: if the maximum number of files is exceeded then the least recently used files will be removed. The cache
+ * can be stored in a compact binary file and loaded again by a subsequent build.
+ *
+ * @author Ullrich Hafner
+ */
+public class FingerprintCache {
+    private static final int MAGIC = 0x46505243;
+    private static final int VERSION = 1;
+    private static final int DIGEST_LENGTH = 16;
+    private static final String HEX_CHARACTERS = "0123456789ABCDEF";
+
+    private final int maxFiles;
+    private final Map<String, CachedFile> files;
+    private int hits = 0;
+    private int misses = 0;
+
+    /**
+     * Creates a new empty {@link FingerprintCache}.
+     *
+     * @param maxFiles
+     *         the maximum number of files to cache
+     */
+    public FingerprintCache(final int maxFiles) {
+        this.maxFiles = maxFiles;
+        files = new LinkedHashMap<String, CachedFile>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Entry<String, CachedFile> eldest) {
+                return size() > FingerprintCache.this.maxFiles;
+            }
+        };
+    }
+
+    /**
+     * Reads a cache that has been written using {@link #write(Path)}. If the file does not exist or is not a valid
+     * cache file, then an empty cache will be returned.
+     *
+     * @param cacheFile
+     *         the file to read the cache from
+     * @param maxFiles
+     *         the maximum number of files to cache
+     *
+     * @return the cache
+     */
+    public static FingerprintCache read(final Path cacheFile, final int maxFiles) {
+        FingerprintCache cache = new FingerprintCache(maxFiles);
+        try (InputStream stream = Files.newInputStream(cacheFile);
+                DataInputStream input = new DataInputStream(new BufferedInputStream(stream))) {
+            if (input.readInt() == MAGIC && input.readInt() == VERSION) {
+                cache.read(input);
+            }
+        }
+        catch (NoSuchFileException ignored) {
+            // start with an empty cache
+        }
+        catch (IOException exception) {
+            cache.files.clear(); // start with an empty cache if the file is corrupt
+        }
+        return cache;
+    }
+
+    private void read(final DataInputStream input) throws IOException {
+        int size = input.readInt();
+        byte[] digest = new byte[DIGEST_LENGTH];
+        for (int file = 0; file < size; file++) {
+            String key = input.readUTF();
+            CachedFile cachedFile = new CachedFile(input.readLong(), input.readLong());
+            int lines = input.readInt();
+            for (int line = 0; line < lines; line++) {
+                int lineNumber = input.readInt();
+                input.readFully(digest);
+                cachedFile.fingerprints.put(lineNumber, asHex(digest));
+            }
+            files.put(key, cachedFile);
+        }
+    }
+
+    /**
+     * Writes this cache to the specified file.
+     *
+     * @param cacheFile
+     *         the file to write the cache to
+     *
+     * @throws IOException
+     *         if the file could not be written
+     */
+    public synchronized void write(final Path cacheFile) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(cacheFile);
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(files.size());
+            for (Entry<String, CachedFile> file : files.entrySet()) {
+                output.writeUTF(file.getKey());
+                CachedFile cachedFile = file.getValue();
+                output.writeLong(cachedFile.size);
+                output.writeLong(cachedFile.lastModified);
+                output.writeInt(cachedFile.fingerprints.size());
+                for (Entry<Integer, String> fingerprint : cachedFile.fingerprints.entrySet()) {
+                    output.writeInt(fingerprint.getKey());
+                    output.write(asBytes(fingerprint.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the cached fingerprints of the specified lines of a file. Fingerprints are returned only if the file has
+     * not been changed and if the fingerprints of all lines are available.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param charset
+     *         the encoding that is used to read the affected file
+     * @param size
+     *         the size of the file
+     * @param lastModified
+     *         the modification time of the file
+     * @param lines
+     *         the lines to get the fingerprints for
+     *
+     * @return a mapping of: line to fingerprint, or {@code null} if the fingerprints are not cached
+     */
+    @Nullable
+    synchronized Map<Integer, String> get(final String fileName, final Charset charset, final long size,
+            final long lastModified, final Collection<Integer> lines) {
+        CachedFile cachedFile = files.get(createKey(fileName, charset));
+        if (cachedFile != null && cachedFile.isUpToDate(size, lastModified)
+                && cachedFile.fingerprints.keySet().containsAll(lines)) {
+            hits++;
+            Map<Integer, String> fingerprints = new HashMap<>();
+            for (Integer line : lines) {
+                fingerprints.put(line, cachedFile.fingerprints.get(line));
+            }
+            return fingerprints;
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Stores the fingerprints of the specified file in the cache.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param charset
+     *         the encoding that has been used to read the affected file
+     * @param size
+     *         the size of the file
+     * @param lastModified
+     *         the modification time of the file
+     * @param fingerprints
+     *         a mapping of: line to fingerprint
+     */
+    synchronized void put(final String fileName, final Charset charset, final long size, final long lastModified,
+            final Map<Integer, String> fingerprints) {
+        String key = createKey(fileName, charset);
+        CachedFile cachedFile = files.get(key);
+        if (cachedFile == null || !cachedFile.isUpToDate(size, lastModified)) {
+            cachedFile = new CachedFile(size, lastModified);
+            files.put(key, cachedFile);
+        }
+        cachedFile.fingerprints.putAll(fingerprints);
+    }
+
+    private String createKey(final String fileName, final Charset charset) {
+        return charset.name() + ':' + fileName;
+    }
+
+    /**
+     * Returns the number of files in this cache.
+     *
+     * @return the number of files
+     */
+    public synchronized int size() {
+        return files.size();
+    }
+
+    /**
+     * Returns the number of files whose fingerprints have been found in this cache.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of files whose fingerprints have not been found in this cache.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    private static String asHex(final byte[] bytes) {
+        char[] hexChars = new char[bytes.length * 2];
+        for (int j = 0; j < bytes.length; j++) {
+            int v = bytes[j] & 0xFF;
+            hexChars[j * 2] = HEX_CHARACTERS.charAt(v >>> 4);
+            hexChars[j * 2 + 1] = HEX_CHARACTERS.charAt(v & 0x0F);
+        }
+        return new String(hexChars);
+    }
+
+    private static byte[] asBytes(final String hex) {
+        byte[] bytes = new byte[DIGEST_LENGTH];
+        for (int j = 0; j < bytes.length && j * 2 + 1 < hex.length(); j++) {
+            bytes[j] = (byte) (HEX_CHARACTERS.indexOf(hex.charAt(j * 2)) << 4
+                    | HEX_CHARACTERS.indexOf(hex.charAt(j * 2 + 1)));
+        }
+        return bytes;
+    }
+
+    /**
+     * The cached fingerprints of a file.
+     */
+    private static class CachedFile {
+        private final long size;
+        private final long lastModified;
+        private final Map<Integer, String> fingerprints = new HashMap<>();
+
+        CachedFile(final long size, final long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        boolean isUpToDate(final long actualSize, final long actualLastModified) {
+            return size == actualSize && lastModified == actualLastModified;
+        }
+    }
+}
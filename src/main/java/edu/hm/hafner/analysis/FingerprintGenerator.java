@@ -6,10 +6,23 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.InvalidPathException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Creates fingerprints for a set of issues.
@@ -17,8 +30,31 @@ import edu.hm.hafner.util.VisibleForTesting;
  * @author Ullrich Hafner
  */
 public class FingerprintGenerator {
+    @Nullable
+    private final FingerprintCache cache;
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator} that computes the fingerprints using the content of the
+     * affected files.
+     */
+    public FingerprintGenerator() {
+        this(null);
+    }
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator} that obtains the fingerprints from the specified cache
+     * if the affected files have not been changed.
+     *
+     * @param cache
+     *         the cache of fingerprints, or {@code null} if no cache should be used
+     */
+    public FingerprintGenerator(@Nullable final FingerprintCache cache) {
+        this.cache = cache;
+    }
+
     /**
-     * Creates fingerprints for the specified set of issues.
+     * Creates fingerprints for the specified set of issues. The issues are grouped by their affected file so that
+     * each file needs to be read only once.
      *
      * @param algorithm
      *         fingerprinting algorithm
@@ -28,39 +64,116 @@ public class FingerprintGenerator {
      *         the character set to use when reading the source files
      */
     public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset) {
+        run(algorithm, report, charset, Runnable::run);
+    }
+
+    /**
+     * Creates fingerprints for the specified set of issues. The issues are grouped by their affected file, the files
+     * are processed in parallel using a fixed number of worker threads.
+     *
+     * @param algorithm
+     *         fingerprinting algorithm
+     * @param report
+     *         the issues to analyze
+     * @param charset
+     *         the character set to use when reading the source files
+     * @param parallelism
+     *         the number of files that should be processed in parallel
+     */
+    public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset,
+            final int parallelism) {
+        if (parallelism <= 1) {
+            run(algorithm, report, charset);
+        }
+        else {
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                run(algorithm, report, charset, executor);
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Creates fingerprints for the specified set of issues. The issues are grouped by their affected file, the files
+     * are processed by the specified executor. The results are independent of the executor: the fingerprints and the
+     * error messages are assigned in the order of the issues in the report.
+     *
+     * @param algorithm
+     *         fingerprinting algorithm
+     * @param report
+     *         the issues to analyze
+     * @param charset
+     *         the character set to use when reading the source files
+     * @param executor
+     *         the executor that reads the affected files
+     */
+    public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset,
+            final Executor executor) {
         FilteredLog log = new FilteredLog(report, "Can't create fingerprints for some files:");
+        int hits = cache == null ? 0 : cache.getHits();
+        int misses = cache == null ? 0 : cache.getMisses();
+
+        List<CompletableFuture<FileFingerprints>> files = new ArrayList<>();
+        for (Entry<String, List<Issue>> file : groupByFileName(report).entrySet()) {
+            files.add(CompletableFuture.supplyAsync(
+                    () -> computeFingerprints(file.getKey(), file.getValue(), algorithm, charset), executor));
+        }
+
         int sum = 0;
+        for (CompletableFuture<FileFingerprints> file : files) {
+            sum += file.join().assign(log);
+        }
+        report.logInfo("-> created fingerprints for %d issues", sum);
+        if (cache != null) {
+            report.logInfo("-> fingerprint cache: %d hits, %d misses",
+                    cache.getHits() - hits, cache.getMisses() - misses);
+        }
+        log.logSummary();
+    }
+
+    private Map<String, List<Issue>> groupByFileName(final Report report) {
+        Map<String, List<Issue>> issuesByFileName = new LinkedHashMap<>();
         for (Issue issue : report) {
             if (!issue.hasFingerprint()) {
-                sum += computeFingerprint(issue, algorithm, charset, log);
+                if (issue.hasFileName()) {
+                    issuesByFileName.computeIfAbsent(issue.getFileName(), key -> new ArrayList<>()).add(issue);
+                }
+                else {
+                    issue.setFingerprint(createDefaultFingerprint(issue));
+                }
             }
         }
-        report.logInfo("-> created fingerprints for %d issues", sum);
-        log.logSummary();
+        return issuesByFileName;
     }
 
-    private int computeFingerprint(final Issue issue, final FullTextFingerprint algorithm, final Charset charset,
-            final FilteredLog log) {
+    private FileFingerprints computeFingerprints(final String fileName, final List<Issue> issues,
+            final FullTextFingerprint algorithm, final Charset charset) {
         try {
-            if (issue.hasFileName()) {
-                String digest = algorithm.compute(issue.getFileName(), issue.getLineStart(), charset);
-                issue.setFingerprint(digest);
-                return 1;
+            Set<Integer> lines = new HashSet<>();
+            for (Issue issue : issues) {
+                lines.add(issue.getLineStart());
+            }
+            if (cache == null) {
+                return new FileFingerprints(issues, algorithm.compute(fileName, lines, charset));
             }
+            return new FileFingerprints(issues, algorithm.compute(fileName, lines, charset, cache));
         }
         catch (FileNotFoundException exception) {
-            log.logError("- '%s' file not found", issue.getFileName());
+            return new FileFingerprints(issues, String.format("- '%s' file not found", fileName));
         }
         catch (IOException | InvalidPathException | UncheckedIOException exception) {
             if (exception.getCause() instanceof MalformedInputException) {
-                log.logError("- '%s', provided encoding '%s' seems to be wrong", issue.getFileName(), charset);
+                return new FileFingerprints(issues,
+                        String.format("- '%s', provided encoding '%s' seems to be wrong", fileName, charset));
             }
             else {
-                log.logError("- '%s', IO exception has been thrown: %s", issue.getFileName(), exception);
+                return new FileFingerprints(issues,
+                        String.format("- '%s', IO exception has been thrown: %s", fileName, exception));
             }
         }
-        issue.setFingerprint(createDefaultFingerprint(issue));
-        return 0;
     }
 
     @VisibleForTesting
@@ -74,4 +187,51 @@ public class FingerprintGenerator {
                         .append(issue.getOrigin())
                         .append(issue.getLineStart()).build());
     }
+
+    /**
+     * The fingerprints of the issues of a single file. If the file could not be read then the error message is
+     * stored instead.
+     */
+    private static class FileFingerprints {
+        private final List<Issue> issues;
+        private final Map<Integer, String> digests;
+        @Nullable
+        private final String errorMessage;
+
+        FileFingerprints(final List<Issue> issues, final Map<Integer, String> digests) {
+            this.issues = issues;
+            this.digests = digests;
+            errorMessage = null;
+        }
+
+        FileFingerprints(final List<Issue> issues, final String errorMessage) {
+            this.issues = issues;
+            this.digests = Collections.emptyMap();
+            this.errorMessage = errorMessage;
+        }
+
+        /**
+         * Assigns the fingerprints to the issues. If the file could not be read, then the error is logged and the
+         * default fingerprints are assigned.
+         *
+         * @param log
+         *         the log for errors
+         *
+         * @return the number of issues that got a fingerprint of the file content
+         */
+        int assign(final FilteredLog log) {
+            if (errorMessage == null) {
+                for (Issue issue : issues) {
+                    issue.setFingerprint(digests.get(issue.getLineStart()));
+                }
+                return issues.size();
+            }
+
+            log.logError("%s", errorMessage);
+            for (Issue issue : issues) {
+                issue.setFingerprint(createDefaultFingerprint(issue));
+            }
+            return 0;
+        }
+    }
 }
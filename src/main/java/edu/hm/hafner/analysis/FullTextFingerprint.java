@@ -5,10 +5,19 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -20,16 +29,18 @@ import edu.hm.hafner.util.VisibleForTesting;
 /**
  * Creates a fingerprint of the specified issue using the source code at the affected line. The fingerprint is computed
  * using the 1:1 content of a small number of lines before and after the affected line (see {@link #LINES_LOOK_AHEAD}).
+ * Instances of this class are thread safe: each thread uses its own message digest.
  *
  * @author Ullrich Hafner
  */
 public class FullTextFingerprint {
     /** Number of lines before and after current line to consider. */
     private static final int LINES_LOOK_AHEAD = 3;
+    private static final int CONTEXT_SIZE = 2 * LINES_LOOK_AHEAD + 1;
     private static final int LINE_RANGE_BUFFER_SIZE = 1000;
     private static final char[] HEX_CHARACTERS = "0123456789ABCDEF".toCharArray();
 
-    private final MessageDigest digest;
+    private final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(FullTextFingerprint::createMessageDigest);
     private final FileSystem fileSystem;
 
 
@@ -43,8 +54,11 @@ public class FullTextFingerprint {
     @VisibleForTesting
     FullTextFingerprint(final FileSystem fileSystem) {
         this.fileSystem = fileSystem;
+    }
+
+    private static MessageDigest createMessageDigest() {
         try {
-            digest = MessageDigest.getInstance("MD5");
+            return MessageDigest.getInstance("MD5");
         }
         catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException(e);
@@ -74,6 +88,62 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * Creates fingerprints for several issues in the same file. The file is read only once: the contexts of all
+     * affected lines are extracted in a single pass. Each fingerprint is identical to the fingerprint that {@link
+     * #compute(String, int, Charset)} would create for the same line.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param lines
+     *         the lines of the issues
+     * @param charset
+     *         the encoding to be used when reading the affected file
+     *
+     * @return a mapping of: affected line to fingerprint of the selected range of source code lines
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public Map<Integer, String> compute(final String fileName, final Collection<Integer> lines,
+            final Charset charset) throws IOException {
+        try (Stream<String> content = fileSystem.readLinesFromFile(fileName, charset)) {
+            return createFingerprints(lines, content.iterator(), charset);
+        }
+    }
+
+    /**
+     * Creates fingerprints for several issues in the same file. If the file has not been changed since the
+     * fingerprints have been stored in the specified cache, then the cached fingerprints are returned without
+     * reading the file. Otherwise, the fingerprints are computed and stored in the cache.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param lines
+     *         the lines of the issues
+     * @param charset
+     *         the encoding to be used when reading the affected file
+     * @param cache
+     *         the cache of fingerprints
+     *
+     * @return a mapping of: affected line to fingerprint of the selected range of source code lines
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public Map<Integer, String> compute(final String fileName, final Collection<Integer> lines,
+            final Charset charset, final FingerprintCache cache) throws IOException {
+        BasicFileAttributes attributes = fileSystem.readAttributes(fileName);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+
+        Map<Integer, String> cached = cache.get(fileName, charset, size, lastModified, lines);
+        if (cached != null) {
+            return cached;
+        }
+        Map<Integer, String> fingerprints = compute(fileName, lines, charset);
+        cache.put(fileName, charset, size, lastModified, fingerprints);
+        return fingerprints;
+    }
+
     @VisibleForTesting
     String getFallbackFingerprint(final String fileName) {
         return String.format("%x", fileName.hashCode());
@@ -83,9 +153,24 @@ public class FullTextFingerprint {
     String createFingerprint(final int line, final Stream<String> lines, final Charset charset) {
         String context = extractContext(line, lines.iterator());
         lines.close();
-        digest.update(context.getBytes(charset));
 
-        return asHex(digest.digest()).toUpperCase(Locale.ENGLISH);
+        return createDigest(context, charset);
+    }
+
+    @VisibleForTesting
+    Map<Integer, String> createFingerprints(final Collection<Integer> affectedLines, final Iterator<String> lines,
+            final Charset charset) {
+        Map<Integer, String> fingerprints = new HashMap<>();
+        extractContexts(affectedLines, lines).forEach(
+                (line, context) -> fingerprints.put(line, createDigest(context, charset)));
+        return fingerprints;
+    }
+
+    private String createDigest(final String context, final Charset charset) {
+        MessageDigest md5 = digest.get();
+        md5.update(context.getBytes(charset));
+
+        return asHex(md5.digest()).toUpperCase(Locale.ENGLISH);
     }
 
     private String asHex(final byte[] bytes) {
@@ -100,21 +185,64 @@ public class FullTextFingerprint {
 
     @VisibleForTesting
     String extractContext(final int affectedLine, final Iterator<String> lines) {
-        if (affectedLine < 0) {
-            return StringUtils.EMPTY;
-        }
+        return extractContexts(Collections.singleton(affectedLine), lines).get(affectedLine);
+    }
 
-        int start = computeStartLine(affectedLine);
+    /**
+     * Extracts the contexts of all affected lines while reading the lines only once. The affected lines are processed
+     * in ascending order, the lines of the current context are stored in a sliding window.
+     *
+     * @param affectedLines
+     *         the affected lines
+     * @param lines
+     *         the lines of the file
+     *
+     * @return a mapping of: affected line to its context
+     */
+    private Map<Integer, String> extractContexts(final Collection<Integer> affectedLines,
+            final Iterator<String> lines) {
+        Map<Integer, String> contexts = new HashMap<>();
 
-        StringBuilder context = new StringBuilder(LINE_RANGE_BUFFER_SIZE);
-        int line = 1;
-        for (; lines.hasNext() && line < start - LINES_LOOK_AHEAD; line++) {
-            lines.next(); // skip the first lines
+        SortedSet<Integer> startLines = new TreeSet<>();
+        for (Integer affectedLine : affectedLines) {
+            if (affectedLine < 0) {
+                contexts.put(affectedLine, StringUtils.EMPTY);
+            }
+            else {
+                startLines.add(computeStartLine(affectedLine));
+            }
+        }
+
+        Map<Integer, String> contextOfStartLine = new HashMap<>();
+        Deque<String> window = new ArrayDeque<>(CONTEXT_SIZE);
+        int line = 0;
+        for (Integer start : startLines) {
+            for (; lines.hasNext() && line < start + LINES_LOOK_AHEAD; line++) {
+                if (window.size() == CONTEXT_SIZE) {
+                    window.removeFirst();
+                }
+                window.addLast(lines.next());
+            }
+            contextOfStartLine.put(start, createContext(window, line - window.size() + 1, start - LINES_LOOK_AHEAD));
         }
-        for (; lines.hasNext() && line <= start + LINES_LOOK_AHEAD; line++) {
-            context.append(lines.next());
+
+        for (Integer affectedLine : affectedLines) {
+            if (affectedLine >= 0) {
+                contexts.put(affectedLine, contextOfStartLine.get(computeStartLine(affectedLine)));
+            }
         }
+        return contexts;
+    }
 
+    private String createContext(final Deque<String> window, final int firstLineOfWindow, final int firstLine) {
+        StringBuilder context = new StringBuilder(LINE_RANGE_BUFFER_SIZE);
+        int line = firstLineOfWindow;
+        for (String content : window) {
+            if (line >= firstLine) {
+                context.append(content);
+            }
+            line++;
+        }
         return context.toString();
     }
 
@@ -137,6 +265,10 @@ public class FullTextFingerprint {
                 throws IOException, InvalidPathException {
             return Files.lines(Paths.get(fileName), charset);
         }
+
+        BasicFileAttributes readAttributes(final String fileName) throws IOException, InvalidPathException {
+            return Files.readAttributes(Paths.get(fileName), BasicFileAttributes.class);
+        }
     }
 }
 
@@ -0,0 +1,297 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.hm.hafner.analysis.LookaheadParser.LineScanner;
+import edu.hm.hafner.util.LineSource;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Parses a log file that is still growing (e.g. the console log of a running build) with a {@link LookaheadParser}.
+ * Each invocation of {@link #scan()} parses only the lines that have been appended since the last invocation and adds
+ * the new issues to the report of this scanner. After each scan the scanner records the byte offset and the line
+ * number of the next line to parse and the directory of the last make {@code Entering directory} line.
+ * <p>
+ * Only complete lines (i.e. lines that are terminated by {@code \n}) are parsed. Since the last line that has been
+ * parsed might be the start of an issue that spans several lines, the issue that has been created from the last
+ * line is still pending: it is not added to the report and its first line is parsed again by the next scan. When the
+ * log is complete, {@link #finish()} parses the remaining lines and adds the pending issue. If the file has been
+ * truncated, then the scanner starts again with an empty report.
+ * </p>
+ * <p>
+ * The parser must not store the parsing state in fields (other than the {@link IssueBuilder} of the scanner), and an
+ * issue must not depend on lines beyond the lines that have been consumed to create the issue. Parsers that {@link
+ * LookaheadParser#requiresCompleteReport() require the complete report} (e.g., since they override {@link
+ * LookaheadParser#parse(ReaderFactory)} or {@link LookaheadParser#postProcess(Report)}) are not supported. Instances of
+ * this class are not thread safe.
+ * </p>
+ * <p>
+ * The appended lines are read using memory mapped buffers, see {@link MappedFileReaderFactory} for the limitations.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class IncrementalLogScanner {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final LookaheadParser parser;
+    private final Path file;
+    private final Charset charset;
+
+    private Report report = new Report();
+    private long offset = 0;
+    private int line = 0;
+    @Nullable
+    private String directory;
+
+    /**
+     * Creates a new {@link IncrementalLogScanner}.
+     *
+     * @param parser
+     *         the parser to use
+     * @param file
+     *         the file to parse
+     * @param charset
+     *         the charset of the file, must be UTF-8, US-ASCII, or ISO-8859-1
+     *
+     * @throws IllegalArgumentException
+     *         if the charset is not supported or if the parser requires the complete report
+     */
+    public IncrementalLogScanner(final LookaheadParser parser, final Path file, final Charset charset) {
+        if (!MappedLineSource.isSupported(charset)) {
+            throw new IllegalArgumentException(String.format("Unsupported charset: %s", charset));
+        }
+        if (parser.requiresCompleteReport()) {
+            throw new IllegalArgumentException(
+                    String.format("Parser requires the complete report: %s", parser.getClass().getName()));
+        }
+        this.parser = parser;
+        this.file = file;
+        this.charset = charset;
+    }
+
+    /**
+     * Parses the complete lines that have been appended to the file since the last scan.
+     *
+     * @return the report with all issues that have been found so far, this instance is updated by the subsequent
+     *         scans
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report scan() throws ParsingException, ParsingCanceledException {
+        return scan(false);
+    }
+
+    /**
+     * Parses all lines that have not been parsed yet, including an incomplete last line, and adds the pending issue to
+     * the report. Call this method when the log file is complete.
+     *
+     * @return the report with all issues of the file
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report finish() throws ParsingException, ParsingCanceledException {
+        return scan(true);
+    }
+
+    /**
+     * Returns the report with all issues that have been found so far.
+     *
+     * @return the report
+     */
+    public Report getReport() {
+        return report;
+    }
+
+    /**
+     * Returns the byte offset of the line that will be parsed next.
+     *
+     * @return the byte offset
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of lines that have been parsed, i.e. the line number of the last line that will not be parsed
+     * again.
+     *
+     * @return the number of parsed lines
+     */
+    public int getLine() {
+        return line;
+    }
+
+    private Report scan(final boolean isComplete) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < offset) {
+                report = new Report();
+                offset = 0;
+                line = 0;
+                directory = null;
+            }
+            long end = isComplete ? size : findEndOfLastLine(channel, size);
+            if (end > offset) {
+                parse(end, isComplete);
+            }
+            return report;
+        }
+        catch (IOException | UncheckedIOException exception) {
+            throw new ParsingException(exception, "Can't scan file for issues: " + file);
+        }
+    }
+
+    private long findEndOfLastLine(final FileChannel channel, final long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long end = size;
+        while (end > offset) {
+            long start = Math.max(offset, end - BUFFER_SIZE);
+            buffer.clear();
+            buffer.limit((int) (end - start));
+            while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+                // read until the buffer is filled
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return offset;
+    }
+
+    private void parse(final long end, final boolean isComplete) throws IOException {
+        AppendedLines lines = new AppendedLines(new MappedLineSource(file, charset, offset), end, line, !isComplete);
+        try (LookaheadStream lookahead = new LookaheadStream(lines, line + 1)) {
+            List<Issue> issues = new ArrayList<>();
+            LineScanner scanner = parser.createScanner(issues::add);
+            scanner.setDirectory(directory);
+
+            long nextOffset = offset;
+            int parsedLines = line;
+            String nextDirectory = directory;
+            int issueCount = 0;
+            while (lookahead.hasNext()) {
+                if (!isComplete) { // remember the state before the last line, since it will be parsed again
+                    parsedLines = lookahead.getLine();
+                    nextOffset = lines.getOffsetOf(parsedLines + 1);
+                    nextDirectory = scanner.getDirectory();
+                    issueCount = scanner.getIssueCount();
+                }
+                scanner.parseNextLine(lookahead);
+                if (Thread.interrupted()) {
+                    throw new ParsingCanceledException();
+                }
+            }
+            scanner.finish();
+
+            if (isComplete) {
+                nextOffset = end;
+                parsedLines = lookahead.getLine();
+                nextDirectory = scanner.getDirectory();
+                issueCount = issues.size();
+            }
+
+            Report appended = new Report();
+            appended.addAll(issues.subList(0, issueCount));
+            report.addAll(parser.postProcess(appended));
+
+            offset = nextOffset;
+            line = parsedLines;
+            directory = nextDirectory;
+        }
+    }
+
+    /**
+     * The lines of the file up to a given byte offset. If the scan needs to be resumed, then the offsets of the lines
+     * that have been read but not yet parsed are recorded, so that the scan can be resumed at each of these lines.
+     * These are the line that is parsed next and the lines in the lookahead of the parser, so the offsets are stored
+     * in a small ring buffer that grows only if the parser peeks at many lines.
+     */
+    private static class AppendedLines implements LineSource {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final LineSource source;
+        private final long end;
+        private final boolean isRecording;
+        private long[] offsets = new long[INITIAL_CAPACITY];
+        private int head;
+        private int size;
+        private int firstLine;
+
+        AppendedLines(final LineSource source, final long end, final int parsedLines, final boolean isRecording) {
+            this.source = source;
+            this.end = end;
+            this.isRecording = isRecording;
+            firstLine = parsedLines + 1;
+        }
+
+        @Override
+        @Nullable
+        public CharSequence nextLine() {
+            CharSequence next = source.nextLine();
+            if (next == null || source.getOffset() >= end) {
+                return null;
+            }
+            if (isRecording) {
+                record(source.getOffset());
+            }
+            return next;
+        }
+
+        private void record(final long offset) {
+            if (size == offsets.length) {
+                long[] grown = new long[2 * offsets.length];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = offsets[(head + i) & (offsets.length - 1)];
+                }
+                offsets = grown;
+                head = 0;
+            }
+            offsets[(head + size) & (offsets.length - 1)] = offset;
+            size++;
+        }
+
+        /**
+         * Returns the byte offset of the specified line. The offsets of the preceding lines are discarded.
+         *
+         * @param lineNumber
+         *         the number of a line that has been read already
+         *
+         * @return the byte offset of the line
+         */
+        long getOffsetOf(final int lineNumber) {
+            while (firstLine < lineNumber) {
+                head = (head + 1) & (offsets.length - 1);
+                size--;
+                firstLine++;
+            }
+            return offsets[head];
+        }
+
+        @Override
+        public long getOffset() {
+            return source.getOffset();
+        }
+
+        @Override
+        public void close() {
+            source.close();
+        }
+    }
+}
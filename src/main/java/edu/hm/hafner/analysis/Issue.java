@@ -172,6 +172,8 @@ public class Issue implements Serializable {
 
     private String fingerprint;     // mutable, not part of equals
 
+    private transient int modifications; // number of changes of file name, package name, module name, or origin
+
     /**
      * Creates a new instance of {@link Issue} using the properties of the other issue instance. The new issue has the
      * same ID as the copy.
@@ -289,8 +291,64 @@ public class Issue implements Serializable {
             @Nullable final String origin, @Nullable final String reference,
             @Nullable final String fingerprint, @Nullable final Serializable additionalProperties,
             final UUID id) {
-        TreeStringBuilder builder = new TreeStringBuilder();
+        this(fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type, packageName, moduleName,
+                severity, message, description, origin, reference, fingerprint, additionalProperties, id,
+                new TreeStringBuilder());
+    }
 
+    /**
+     * Creates a new instance of {@link Issue} using the specified properties. The file name, package name, message and
+     * description are interned using the specified {@link TreeStringBuilder}, so that issues that are created with the
+     * same builder share the common prefixes of these strings.
+     *
+     * @param fileName
+     *         the name of the file that contains this issue
+     * @param lineStart
+     *         the first line of this issue (lines start at 1; 0 indicates the whole file)
+     * @param lineEnd
+     *         the last line of this issue (lines start at 1)
+     * @param columnStart
+     *         the first column of this issue (columns start at 1, 0 indicates the whole line)
+     * @param columnEnd
+     *         the last column of this issue (columns start at 1)
+     * @param lineRanges
+     *         additional line ranges of this issue
+     * @param category
+     *         the category of this issue (depends on the available categories of the static analysis tool)
+     * @param type
+     *         the type of this issue (depends on the available types of the static analysis tool)
+     * @param packageName
+     *         the name of the package (or name space) that contains this issue
+     * @param moduleName
+     *         the name of the moduleName (or project) that contains this issue
+     * @param severity
+     *         the severity of this issue
+     * @param message
+     *         the detail message of this issue
+     * @param description
+     *         the description for this issue
+     * @param origin
+     *         the ID of the tool that did report this issue
+     * @param reference
+     *         an arbitrary reference to the execution of the static analysis tool (build ID, timestamp, etc.)
+     * @param fingerprint
+     *         the finger print for this issue
+     * @param additionalProperties
+     *         additional properties from the statical analysis tool
+     * @param id
+     *         the ID of this issue
+     * @param builder
+     *         the builder that interns the strings of this issue
+     */
+    @SuppressWarnings("ParameterNumber")
+    Issue(@Nullable final String fileName, final int lineStart, final int lineEnd, final int columnStart,
+            final int columnEnd, @Nullable final LineRangeList lineRanges, @Nullable final String category,
+            @Nullable final String type, @Nullable final String packageName,
+            @Nullable final String moduleName, @Nullable final Severity severity,
+            @Nullable final String message, @Nullable final String description,
+            @Nullable final String origin, @Nullable final String reference,
+            @Nullable final String fingerprint, @Nullable final Serializable additionalProperties,
+            final UUID id, final TreeStringBuilder builder) {
         this.fileName = builder.intern(normalizeFileName(fileName));
 
         int providedLineStart = defaultInteger(lineStart);
@@ -318,6 +376,7 @@ public class Issue implements Serializable {
         if (lineRanges != null) {
             this.lineRanges.addAll(lineRanges);
         }
+        this.lineRanges.trim();
         this.category = StringUtils.defaultString(category).intern();
         this.type = defaultString(type);
 
@@ -437,6 +496,7 @@ public class Issue implements Serializable {
      */
     public void setFileName(@Nullable final String fileName) {
         this.fileName = TreeString.valueOf(normalizeFileName(fileName));
+        modifications++;
     }
 
     /**
@@ -560,6 +620,7 @@ public class Issue implements Serializable {
      */
     public void setPackageName(@Nullable final String packageName) {
         this.packageName = TreeString.valueOf(StringUtils.stripToEmpty(packageName));
+        modifications++;
     }
 
     /**
@@ -589,6 +650,7 @@ public class Issue implements Serializable {
      */
     public void setModuleName(@Nullable final String moduleName) {
         this.moduleName = stripToEmpty(moduleName);
+        modifications++;
     }
 
     /**
@@ -620,6 +682,17 @@ public class Issue implements Serializable {
         Ensure.that(origin).isNotBlank("Issue origin '%s' must be not blank (%s)", id, toString());
 
         this.origin = origin.intern();
+        modifications++;
+    }
+
+    /**
+     * Returns the number of times the file name, package name, module name, or origin of this issue have been changed.
+     * A {@link Report} uses this value to detect whether its aggregated property values are outdated.
+     *
+     * @return the number of modifications
+     */
+    int getModifications() {
+        return modifications;
     }
 
     /**
@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.util.PathUtil;
+import edu.hm.hafner.util.TreeStringBuilder;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import static edu.hm.hafner.util.IntegerParser.*;
@@ -63,6 +64,30 @@ public class IssueBuilder {
 
     private UUID id = UUID.randomUUID();
 
+    private final TreeStringBuilder stringBuilder;
+
+    /**
+     * Creates a new {@link IssueBuilder}. All issues that are created by this builder share the common prefixes of
+     * their file names, package names, messages and descriptions.
+     */
+    public IssueBuilder() {
+        this(new TreeStringBuilder());
+    }
+
+    /**
+     * Creates a new {@link IssueBuilder} that uses the specified {@link TreeStringBuilder} to intern the file names,
+     * package names, messages and descriptions of the created issues. Use this constructor to share these strings
+     * between the issues of several builders, e.g. if a parser creates a new builder for each issue. The string
+     * builder (and all issue builders that use it) must be confined to the thread and the parse run that creates the
+     * issues.
+     *
+     * @param stringBuilder
+     *         the builder that interns the strings of the created issues
+     */
+    public IssueBuilder(final TreeStringBuilder stringBuilder) {
+        this.stringBuilder = stringBuilder;
+    }
+
     public IssueBuilder setId(final UUID id) {
         this.id = id;
         return this;
@@ -226,11 +251,19 @@ public class IssueBuilder {
     public Issue build() {
         Issue issue = new Issue(fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type,
                 packageName, moduleName, severity, message, description, origin, reference, fingerprint,
-                additionalProperties, id);
+                additionalProperties, id, stringBuilder);
         id = UUID.randomUUID(); // make sure that multiple invocations will create different IDs
         return issue;
     }
 
+    /**
+     * Further reduces the memory footprint of the created issues by finding the same labels across the interned
+     * strings of all issues. Call this method after all issues have been created, e.g. at the end of parsing.
+     */
+    public void dedup() {
+        stringBuilder.dedup();
+    }
+
     /**
      * Creates a new {@link Issue} based on the specified properties. The returned issue is wrapped in an {@link
      * Optional}.
@@ -0,0 +1,25 @@
+package edu.hm.hafner.analysis;
+
+/**
+ * Receives the issues of a parser while the report file is parsed. In contrast to a {@link Report}, a consumer does
+ * not need to keep the issues in memory: it might count, filter, or forward each issue right after it has been
+ * created.
+ * <p>
+ * Consumers receive the issues in the order of the report file. Duplicate issues are not removed by the parser: a
+ * {@link Report} used as consumer skips duplicates just like the report returned by {@link
+ * IssueParser#parse(ReaderFactory)}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ * @see IssueParser#parse(ReaderFactory, IssueConsumer)
+ */
+@FunctionalInterface
+public interface IssueConsumer {
+    /**
+     * Receives the next issue of the report file.
+     *
+     * @param issue
+     *         the issue
+     */
+    void accept(Issue issue);
+}
@@ -26,6 +26,29 @@ public abstract class IssueParser implements Serializable {
     public abstract Report parse(ReaderFactory readerFactory)
             throws ParsingException, ParsingCanceledException;
 
+    /**
+     * Parses the specified file for issues and hands each issue over to the specified consumer. This default
+     * implementation creates the complete {@link Report} using {@link #parse(ReaderFactory)} and then hands over the
+     * issues of this report. Parsers that are capable of reporting their issues while the file is read override this
+     * method so that the issues do not need to be kept in memory.
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     * @param consumer
+     *         the consumer that receives the issues
+     *
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        for (Issue issue : parse(readerFactory)) {
+            consumer.accept(issue);
+        }
+    }
+
     /**
      * Returns whether this parser accepts the specified file as valid input. Parsers may reject a file if it is in the
      * wrong format to avoid exceptions during parsing.
@@ -0,0 +1,617 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.hm.hafner.util.TreeStringBuilder;
+
+/**
+ * A memory efficient container of a large number of issues. In contrast to a {@link Report}, the issues are not stored
+ * as {@link Issue} instances: the properties of the issues are stored column by column. Line and column numbers are
+ * stored in arrays of primitive values, the remaining properties are stored as indexes into dictionaries of the
+ * distinct values of the property (messages and descriptions share one dictionary). An {@link Issue} instance is
+ * created only if an issue is accessed using {@link #get(int)}, {@link #iterator()}, or {@link #stream()}.
+ * <p>
+ * Aggregations and filters for severities and for the properties of {@link Property} work on the columns only, so they
+ * do not create any issues. Since issues are created on demand, changing the properties of an issue obtained from a
+ * table does not change the table. In contrast to {@link Report}, a table does not detect duplicates. Use {@link
+ * #toReport()} to obtain a report with all issues of the table. Instances of this class are not thread safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class IssueTable implements Iterable<Issue>, IssueConsumer {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IntColumn lineStarts = new IntColumn();
+    private final IntColumn lineEnds = new IntColumn();
+    private final IntColumn columnStarts = new IntColumn();
+    private final IntColumn columnEnds = new IntColumn();
+    private final LongColumn ids = new LongColumn();
+
+    private final DictionaryColumn<String> fileNames;
+    private final DictionaryColumn<String> packageNames;
+    private final DictionaryColumn<String> moduleNames;
+    private final DictionaryColumn<String> categories;
+    private final DictionaryColumn<String> types;
+    private final DictionaryColumn<String> origins;
+    private final DictionaryColumn<Severity> severities;
+    private final DictionaryColumn<String> messages;
+    private final DictionaryColumn<String> descriptions;
+    private final DictionaryColumn<String> references;
+    private final DictionaryColumn<String> fingerprints;
+
+    private final Map<Integer, LineRangeList> lineRanges = new HashMap<>();
+    private final Map<Integer, Serializable> additionalProperties = new HashMap<>();
+
+    private int size = 0;
+
+    /**
+     * The properties of an issue that are stored as dictionary encoded columns and can be aggregated or filtered
+     * without creating issues.
+     */
+    public enum Property {
+        /** The file name of an issue, see {@link Issue#getFileName()}. */
+        FILE_NAME,
+        /** The package name of an issue, see {@link Issue#getPackageName()}. */
+        PACKAGE_NAME,
+        /** The module name of an issue, see {@link Issue#getModuleName()}. */
+        MODULE_NAME,
+        /** The category of an issue, see {@link Issue#getCategory()}. */
+        CATEGORY,
+        /** The type of an issue, see {@link Issue#getType()}. */
+        TYPE,
+        /** The tool that reported an issue, see {@link Issue#getOrigin()}. */
+        ORIGIN
+    }
+
+    /**
+     * Creates a new empty {@link IssueTable}.
+     */
+    public IssueTable() {
+        Dictionary<String> messagePool = new Dictionary<>();
+
+        fileNames = new DictionaryColumn<>(new Dictionary<>());
+        packageNames = new DictionaryColumn<>(new Dictionary<>());
+        moduleNames = new DictionaryColumn<>(new Dictionary<>());
+        categories = new DictionaryColumn<>(new Dictionary<>());
+        types = new DictionaryColumn<>(new Dictionary<>());
+        origins = new DictionaryColumn<>(new Dictionary<>());
+        severities = new DictionaryColumn<>(new Dictionary<>());
+        messages = new DictionaryColumn<>(messagePool);
+        descriptions = new DictionaryColumn<>(messagePool);
+        references = new DictionaryColumn<>(new Dictionary<>());
+        fingerprints = new DictionaryColumn<>(new Dictionary<>());
+    }
+
+    /**
+     * Creates a new {@link IssueTable} that contains the issues of the specified report.
+     *
+     * @param report
+     *         the report with the issues to add
+     */
+    public IssueTable(final Report report) {
+        this();
+
+        addAll(report);
+    }
+
+    /**
+     * Creates a new empty {@link IssueTable} that shares the dictionaries of the specified table.
+     *
+     * @param template
+     *         the table to share the dictionaries with
+     */
+    private IssueTable(final IssueTable template) {
+        fileNames = new DictionaryColumn<>(template.fileNames.dictionary);
+        packageNames = new DictionaryColumn<>(template.packageNames.dictionary);
+        moduleNames = new DictionaryColumn<>(template.moduleNames.dictionary);
+        categories = new DictionaryColumn<>(template.categories.dictionary);
+        types = new DictionaryColumn<>(template.types.dictionary);
+        origins = new DictionaryColumn<>(template.origins.dictionary);
+        severities = new DictionaryColumn<>(template.severities.dictionary);
+        messages = new DictionaryColumn<>(template.messages.dictionary);
+        descriptions = new DictionaryColumn<>(template.descriptions.dictionary);
+        references = new DictionaryColumn<>(template.references.dictionary);
+        fingerprints = new DictionaryColumn<>(template.fingerprints.dictionary);
+    }
+
+    /**
+     * Appends the specified issue to this table. The issue is not referenced by this table.
+     *
+     * @param issue
+     *         the issue to append
+     *
+     * @return this
+     */
+    public IssueTable add(final Issue issue) {
+        lineStarts.add(issue.getLineStart());
+        lineEnds.add(issue.getLineEnd());
+        columnStarts.add(issue.getColumnStart());
+        columnEnds.add(issue.getColumnEnd());
+        ids.add(issue.getId().getMostSignificantBits());
+        ids.add(issue.getId().getLeastSignificantBits());
+
+        fileNames.add(issue.getFileName());
+        packageNames.add(issue.getPackageName());
+        moduleNames.add(issue.getModuleName());
+        categories.add(issue.getCategory());
+        types.add(issue.getType());
+        origins.add(issue.getOrigin());
+        severities.add(issue.getSeverity());
+        messages.add(issue.getMessage());
+        descriptions.add(issue.getDescription());
+        references.add(issue.getReference());
+        fingerprints.add(issue.getFingerprint());
+
+        if (!issue.getLineRanges().isEmpty()) {
+            lineRanges.put(size, new LineRangeList(issue.getLineRanges()));
+        }
+        if (issue.getAdditionalProperties() != null) {
+            additionalProperties.put(size, issue.getAdditionalProperties());
+        }
+        size++;
+
+        return this;
+    }
+
+    /**
+     * Appends the specified issue to this table.
+     *
+     * @param issue
+     *         the issue to append
+     */
+    @Override
+    public void accept(final Issue issue) {
+        add(issue);
+    }
+
+    /**
+     * Appends all of the specified issues to this table.
+     *
+     * @param issues
+     *         the issues to append
+     *
+     * @return this
+     */
+    public IssueTable addAll(final Iterable<? extends Issue> issues) {
+        for (Issue issue : issues) {
+            add(issue);
+        }
+        return this;
+    }
+
+    private void addRow(final IssueTable source, final int row) {
+        lineStarts.add(source.lineStarts.get(row));
+        lineEnds.add(source.lineEnds.get(row));
+        columnStarts.add(source.columnStarts.get(row));
+        columnEnds.add(source.columnEnds.get(row));
+        ids.add(source.ids.get(2 * row));
+        ids.add(source.ids.get(2 * row + 1));
+
+        fileNames.addIndex(source.fileNames.getIndex(row));
+        packageNames.addIndex(source.packageNames.getIndex(row));
+        moduleNames.addIndex(source.moduleNames.getIndex(row));
+        categories.addIndex(source.categories.getIndex(row));
+        types.addIndex(source.types.getIndex(row));
+        origins.addIndex(source.origins.getIndex(row));
+        severities.addIndex(source.severities.getIndex(row));
+        messages.addIndex(source.messages.getIndex(row));
+        descriptions.addIndex(source.descriptions.getIndex(row));
+        references.addIndex(source.references.getIndex(row));
+        fingerprints.addIndex(source.fingerprints.getIndex(row));
+
+        LineRangeList ranges = source.lineRanges.get(row);
+        if (ranges != null) {
+            lineRanges.put(size, ranges);
+        }
+        Serializable properties = source.additionalProperties.get(row);
+        if (properties != null) {
+            additionalProperties.put(size, properties);
+        }
+        size++;
+    }
+
+    /**
+     * Returns the number of issues in this table.
+     *
+     * @return number of issues
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this table is empty.
+     *
+     * @return {@code true} if this table is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Creates the issue with the specified index. Each invocation creates a new instance.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the issue at the specified index
+     * @throws IndexOutOfBoundsException
+     *         if there is no element for the given index
+     */
+    public Issue get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No such index " + index + " in " + toString());
+        }
+        return createIssue(index, new TreeStringBuilder());
+    }
+
+    private Issue createIssue(final int index, final TreeStringBuilder builder) {
+        return new Issue(fileNames.get(index),
+                lineStarts.get(index), lineEnds.get(index), columnStarts.get(index), columnEnds.get(index),
+                lineRanges.get(index), categories.get(index), types.get(index),
+                packageNames.get(index), moduleNames.get(index), severities.get(index),
+                messages.get(index), descriptions.get(index),
+                origins.get(index), references.get(index), fingerprints.get(index),
+                additionalProperties.get(index),
+                new UUID(ids.get(2 * index), ids.get(2 * index + 1)), builder);
+    }
+
+    @Override
+    public Iterator<Issue> iterator() {
+        return new Iterator<Issue>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Issue next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Issue> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Creates a new sequential {@code Stream} of the issues of this table.
+     *
+     * @return a sequential {@code Stream} over the issues in this table
+     */
+    public Stream<Issue> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns the number of issues with the specified severity.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final Severity severity) {
+        return severities.count(severity);
+    }
+
+    /**
+     * Returns the number of issues with the specified value of the specified property.
+     *
+     * @param property
+     *         the property to evaluate
+     * @param value
+     *         the value of the property
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final Property property, final String value) {
+        return getColumn(property).count(value);
+    }
+
+    /**
+     * Returns the severities of all issues.
+     *
+     * @return the severities
+     */
+    public Set<Severity> getSeverities() {
+        return severities.getCounts().keySet();
+    }
+
+    /**
+     * Returns the different values of the specified property for all issues.
+     *
+     * @param property
+     *         the property to evaluate
+     *
+     * @return the set of different values
+     */
+    public Set<String> getProperties(final Property property) {
+        return getPropertyCount(property).keySet();
+    }
+
+    /**
+     * Returns the number of occurrences for every existing severity.
+     *
+     * @return a mapping of: severity to the number of issues with that severity
+     */
+    public Map<Severity, Integer> getSeverityCount() {
+        return severities.getCounts();
+    }
+
+    /**
+     * Returns the number of occurrences for every existing value of the specified property.
+     *
+     * @param property
+     *         the property to evaluate
+     *
+     * @return a mapping of: property value to the number of issues for that value
+     */
+    public Map<String, Integer> getPropertyCount(final Property property) {
+        return getColumn(property).getCounts();
+    }
+
+    /**
+     * Returns a new table with all issues that have the specified severity.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return the issues with the specified severity
+     */
+    public IssueTable filter(final Severity severity) {
+        return filter(severities, severity);
+    }
+
+    /**
+     * Returns a new table with all issues that have the specified value of the specified property.
+     *
+     * @param property
+     *         the property to evaluate
+     * @param value
+     *         the value of the property
+     *
+     * @return the issues with the specified value
+     */
+    public IssueTable filter(final Property property, final String value) {
+        return filter(getColumn(property), value);
+    }
+
+    private <T> IssueTable filter(final DictionaryColumn<T> column, final T value) {
+        IssueTable filtered = new IssueTable(this);
+        int index = column.dictionary.find(value);
+        if (index >= 0) {
+            int[] indexes = column.indexes.values;
+            for (int row = 0; row < size; row++) {
+                if (indexes[row] == index) {
+                    filtered.addRow(this, row);
+                }
+            }
+        }
+        return filtered;
+    }
+
+    private DictionaryColumn<String> getColumn(final Property property) {
+        switch (property) {
+            case FILE_NAME:
+                return fileNames;
+            case PACKAGE_NAME:
+                return packageNames;
+            case MODULE_NAME:
+                return moduleNames;
+            case CATEGORY:
+                return categories;
+            case TYPE:
+                return types;
+            case ORIGIN:
+                return origins;
+            default:
+                throw new IllegalArgumentException(String.format("Unsupported property: %s", property));
+        }
+    }
+
+    /**
+     * Creates a new report with all issues of this table. Duplicates are removed from the report.
+     *
+     * @return the report
+     */
+    public Report toReport() {
+        Report report = new Report();
+        TreeStringBuilder builder = new TreeStringBuilder();
+        for (int index = 0; index < size; index++) {
+            report.add(createIssue(index, builder));
+        }
+        builder.dedup();
+        return report;
+    }
+
+    /**
+     * Minimizes the storage of this table, i.e. trims the capacity of the columns to the number of issues.
+     */
+    public void trim() {
+        lineStarts.trim();
+        lineEnds.trim();
+        columnStarts.trim();
+        columnEnds.trim();
+        ids.trim();
+
+        fileNames.indexes.trim();
+        packageNames.indexes.trim();
+        moduleNames.indexes.trim();
+        categories.indexes.trim();
+        types.indexes.trim();
+        origins.indexes.trim();
+        severities.indexes.trim();
+        messages.indexes.trim();
+        descriptions.indexes.trim();
+        references.indexes.trim();
+        fingerprints.indexes.trim();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d issues", size());
+    }
+
+    /**
+     * A growing array of {@code int} values.
+     */
+    private static class IntColumn {
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int size = 0;
+
+        void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+            }
+            values[size++] = value;
+        }
+
+        int get(final int index) {
+            return values[index];
+        }
+
+        void trim() {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * A growing array of {@code long} values.
+     */
+    private static class LongColumn {
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        void add(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+            }
+            values[size++] = value;
+        }
+
+        long get(final int index) {
+            return values[index];
+        }
+
+        void trim() {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * The distinct values of a column. Each value is identified by the index of its first occurrence.
+     *
+     * @param <T>
+     *         type of the values
+     */
+    private static class Dictionary<T> {
+        private final List<T> values = new ArrayList<>();
+        private final Map<T, Integer> indexes = new HashMap<>();
+
+        int add(final T value) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                values.add(value);
+                indexes.put(value, index);
+            }
+            return index;
+        }
+
+        int find(final T value) {
+            return indexes.getOrDefault(value, -1);
+        }
+
+        T get(final int index) {
+            return values.get(index);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * A column that stores for each issue the index of its value in a {@link Dictionary}.
+     *
+     * @param <T>
+     *         type of the values
+     */
+    private static class DictionaryColumn<T> {
+        private final Dictionary<T> dictionary;
+        private final IntColumn indexes = new IntColumn();
+
+        DictionaryColumn(final Dictionary<T> dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        void add(final T value) {
+            indexes.add(dictionary.add(value));
+        }
+
+        void addIndex(final int index) {
+            indexes.add(index);
+        }
+
+        int getIndex(final int row) {
+            return indexes.get(row);
+        }
+
+        T get(final int row) {
+            return dictionary.get(indexes.get(row));
+        }
+
+        int count(final T value) {
+            int index = dictionary.find(value);
+            if (index < 0) {
+                return 0;
+            }
+            int count = 0;
+            int[] values = indexes.values;
+            for (int row = 0; row < indexes.size; row++) {
+                if (values[row] == index) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        Map<T, Integer> getCounts() {
+            int[] counts = new int[dictionary.size()];
+            int[] values = indexes.values;
+            for (int row = 0; row < indexes.size; row++) {
+                counts[values[row]]++;
+            }
+
+            Map<T, Integer> valueCounts = new HashMap<>();
+            for (int index = 0; index < counts.length; index++) {
+                if (counts[index] > 0) {
+                    valueCounts.put(dictionary.get(index), counts[index]);
+                }
+            }
+            return valueCounts;
+        }
+    }
+}
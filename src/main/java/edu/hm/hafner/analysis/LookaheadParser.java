@@ -1,11 +1,17 @@
 package edu.hm.hafner.analysis;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.util.AhoCorasickMatcher;
 import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Parses a report file line by line for issues using a pre-defined regular expression. If the regular expression
@@ -43,30 +49,223 @@ public abstract class LookaheadParser extends IssueParser {
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
         Report report = new Report();
-        try (Stream<String> lines = readerFactory.readStream()) {
-            LookaheadStream lookahead = new LookaheadStream(lines);
-            IssueBuilder builder = new IssueBuilder();
+        scan(readerFactory, report);
+        return postProcess(report);
+    }
+
+    /**
+     * Parses the specified file for issues and hands each issue over to the specified consumer right after it has been
+     * created. If a sub class {@link #requiresCompleteReport() requires the complete report}, then the issues need to
+     * be post processed as a whole: in this case the report is created first.
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     * @param consumer
+     *         the consumer that receives the issues
+     *
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        if (requiresCompleteReport()) {
+            super.parse(readerFactory, consumer);
+        }
+        else {
+            scan(readerFactory, consumer);
+        }
+    }
+
+    private void scan(final ReaderFactory readerFactory, final IssueConsumer consumer) {
+        try (LookaheadStream lookahead = new LookaheadStream(readerFactory.readLines())) {
+            LineScanner scanner = createScanner(consumer);
             while (lookahead.hasNext()) {
-                String line = lookahead.next();
-                if (line.contains(ENTERING_DIRECTORY)) {
-                    Matcher makeLineMatcher = MAKE_PATH.matcher(line);
-                    if (makeLineMatcher.matches()) {
-                        builder.setDirectory(makeLineMatcher.group("dir"));
-                    }
-                }
-                else if (isLineInteresting(line)) {
-                    Matcher matcher = pattern.matcher(line);
-                    if (matcher.find()) {
-                        createIssue(matcher, lookahead, builder).ifPresent(report::add);
-                    }
-                }
+                scanner.parseNextLine(lookahead);
                 if (Thread.interrupted()) {
                     throw new ParsingCanceledException();
                 }
             }
+            scanner.finish();
+        }
+    }
+
+    private Predicate<CharSequence> createPrefilter() {
+        Collection<String> literals = getRequiredLiterals();
+        if (literals.isEmpty()) {
+            return line -> true;
         }
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(literals);
+        return matcher::containsAny;
+    }
 
-        return postProcess(report);
+    /**
+     * Creates a new scanner that parses the lines of a single report with this parser. The scanner uses the {@link
+     * #getRequiredLiterals() required literals} of this parser as prefilter.
+     *
+     * @param consumer
+     *         the consumer that receives the issues
+     *
+     * @return the scanner
+     */
+    LineScanner createScanner(final IssueConsumer consumer) {
+        return createScanner(createPrefilter(), consumer);
+    }
+
+    /**
+     * Creates a new scanner that parses the lines of a single report with this parser.
+     *
+     * @param prefilter
+     *         determines whether a line contains one of the {@link #getRequiredLiterals() required literals}, only
+     *         those lines are matched against the regular expression
+     * @param consumer
+     *         the consumer that receives the issues
+     *
+     * @return the scanner
+     */
+    LineScanner createScanner(final Predicate<CharSequence> prefilter, final IssueConsumer consumer) {
+        return new LineScanner(prefilter, hasLineFilter(), consumer);
+    }
+
+    /**
+     * Parses the lines of a single report. The lines are inspected as {@link CharSequence} views: a line is converted
+     * into a string only if it might contain an issue. All lines are matched using the same {@link Matcher} instance.
+     */
+    class LineScanner {
+        private final Predicate<CharSequence> prefilter;
+        private final boolean hasLineFilter;
+        private final Matcher matcher = pattern.matcher(StringUtils.EMPTY);
+        private final IssueBuilder builder = new IssueBuilder();
+        private final IssueConsumer consumer;
+        private int issueCount;
+        @Nullable
+        private String directory;
+
+        LineScanner(final Predicate<CharSequence> prefilter, final boolean hasLineFilter,
+                final IssueConsumer consumer) {
+            this.prefilter = prefilter;
+            this.hasLineFilter = hasLineFilter;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Parses the next line of the specified lookahead stream. If the line contains an issue, then the issue is
+         * handed over to the consumer. Sub classes may consume additional lines of the stream while creating the issue.
+         *
+         * @param lookahead
+         *         the lookahead stream to read the lines from
+         *
+         * @throws ParsingException
+         *         Signals that during parsing a non recoverable error has been occurred
+         */
+        void parseNextLine(final LookaheadStream lookahead) throws ParsingException {
+            CharSequence view = lookahead.nextSequence();
+            if (contains(view, ENTERING_DIRECTORY)) {
+                Matcher makeLineMatcher = MAKE_PATH.matcher(view);
+                if (makeLineMatcher.matches()) {
+                    setDirectory(makeLineMatcher.group("dir"));
+                }
+            }
+            else if (hasLineFilter) {
+                String line = view.toString();
+                if (isLineInteresting(line) && prefilter.test(line)) {
+                    findIssue(line, lookahead);
+                }
+            }
+            else if (prefilter.test(view)) {
+                findIssue(view.toString(), lookahead);
+            }
+        }
+
+        private void findIssue(final String line, final LookaheadStream lookahead) {
+            matcher.reset(line);
+            if (matcher.find()) {
+                Optional<Issue> issue = createIssue(matcher, lookahead, builder);
+                if (issue.isPresent()) {
+                    issueCount++;
+                    consumer.accept(issue.get());
+                }
+            }
+        }
+
+        /**
+         * Sets the directory of the last make {@code Entering directory} line. The directory is used to resolve the
+         * file names of subsequent issues.
+         *
+         * @param directory
+         *         the directory, or {@code null} if no directory has been entered yet
+         */
+        void setDirectory(@Nullable final String directory) {
+            this.directory = directory;
+            builder.setDirectory(directory);
+        }
+
+        /**
+         * Returns the directory of the last make {@code Entering directory} line.
+         *
+         * @return the directory, or {@code null} if no directory has been entered yet
+         */
+        @Nullable
+        String getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Returns the number of issues that have been handed over to the consumer so far.
+         *
+         * @return the number of issues
+         */
+        int getIssueCount() {
+            return issueCount;
+        }
+
+        /**
+         * Finishes the parsing after all lines have been parsed. The issues are not post processed.
+         */
+        void finish() {
+            builder.dedup();
+        }
+    }
+
+    /**
+     * Returns the directory of a make {@code Entering directory} line.
+     *
+     * @param line
+     *         the line to inspect
+     *
+     * @return the entered directory, or {@code null} if the line does not enter a directory
+     */
+    @Nullable
+    static String getEnteredDirectory(final CharSequence line) {
+        if (contains(line, ENTERING_DIRECTORY)) {
+            Matcher makeLineMatcher = MAKE_PATH.matcher(line);
+            if (makeLineMatcher.matches()) {
+                return makeLineMatcher.group("dir");
+            }
+        }
+        return null;
+    }
+
+    private static boolean contains(final CharSequence line, final String text) {
+        int last = line.length() - text.length();
+        char first = text.charAt(0);
+        for (int start = 0; start <= last; start++) {
+            if (line.charAt(start) == first && regionMatches(line, start, text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(final CharSequence line, final int start, final String text) {
+        for (int i = 1; i < text.length(); i++) {
+            if (line.charAt(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -90,7 +289,8 @@ public abstract class LookaheadParser extends IssueParser {
     /**
      * Returns whether the specified line is interesting. Each interesting line will be matched by the defined regular
      * expression. Here a parser can implement some fast checks (i.e. string or character comparisons) in order to see
-     * if a required condition is met. This default implementation does always return {@code true}.
+     * if a required condition is met. This method is called only if {@link #hasLineFilter()} returns {@code true}.
+     * This default implementation does always return {@code true}.
      *
      * @param line
      *         the line to inspect
@@ -103,7 +303,49 @@ public abstract class LookaheadParser extends IssueParser {
     }
 
     /**
-     * Post processes the issues. This default implementation does nothing.
+     * Returns whether this parser filters the lines using {@link #isLineInteresting(String)}. The filter requires a
+     * copy of each line as {@link String}: sub classes that do not override {@link #isLineInteresting(String)} should
+     * override this method and return {@code false} so that only the lines that contain one of the {@link
+     * #getRequiredLiterals() required literals} are copied. This default implementation returns {@code true}.
+     *
+     * @return {@code true} if {@link #isLineInteresting(String)} should be called for each line, {@code false} otherwise
+     */
+    protected boolean hasLineFilter() {
+        return true;
+    }
+
+    /**
+     * Returns literals of which at least one is contained in every line that matches the regular expression of this
+     * parser. Lines that contain none of these literals are skipped without evaluating the regular expression. This
+     * default implementation derives the literals from the regular expression. Sub classes may override this method to
+     * declare the literals explicitly, an empty collection disables the prefilter.
+     *
+     * @return the required literals
+     */
+    protected Collection<String> getRequiredLiterals() {
+        if (pattern.flags() != 0) {
+            return Collections.emptySet();
+        }
+        return RequiredLiterals.of(pattern.pattern());
+    }
+
+    /**
+     * Returns whether the issues of this parser are available only after the whole file has been parsed. In this case,
+     * {@link #parse(ReaderFactory, IssueConsumer)} creates the complete report first and hands the issues over to the
+     * consumer afterwards. Sub classes that neither override {@link #postProcess(Report)} nor {@link
+     * #parse(ReaderFactory)} should override this method and return {@code false} so that the issues are handed over
+     * while the file is parsed. This default implementation returns {@code true}.
+     *
+     * @return {@code true} if the issues need to be post processed as a whole, {@code false} if each issue can be
+     *         handed over to the consumer right after it has been created
+     */
+    protected boolean requiresCompleteReport() {
+        return true;
+    }
+
+    /**
+     * Post processes the issues. This default implementation does nothing. Sub classes that override this method must
+     * not return {@code false} in {@link #requiresCompleteReport()}.
      *
      * @param report
      *         the issues after the parsing process
@@ -0,0 +1,74 @@
+package edu.hm.hafner.analysis;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import com.google.errorprone.annotations.MustBeClosed;
+
+import edu.hm.hafner.util.LineSource;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Provides a {@link ReaderFactory} that reads the lines of a given file using a memory mapped buffer. If the file is a
+ * regular file that uses UTF-8, US-ASCII, or ISO-8859-1 encoding, then {@link #readLines()} decodes the lines without
+ * creating a new string for each line. Otherwise, the lines are read with the reader of {@link FileReaderFactory}.
+ * <p>
+ * Memory mapping has some limitations, so it needs to be enabled explicitly by using this factory:
+ * </p>
+ * <ul>
+ *     <li>A mapped buffer cannot be released explicitly, it is unmapped when the buffer is garbage collected. On
+ *     Windows, the file cannot be deleted or truncated until then, even if the line source has been closed.</li>
+ *     <li>If the file is truncated by another process while it is read, then reading the missing part of the mapped
+ *     buffer fails. This failure is reported as {@link UncheckedIOException}.</li>
+ * </ul>
+ *
+ * @author Ullrich Hafner
+ */
+public final class MappedFileReaderFactory extends FileReaderFactory {
+    private final Path file;
+
+    /**
+     * Creates a new factory to read the specified file with a given charset.
+     *
+     * @param file
+     *         the file to open
+     * @param charset
+     *         the charset to use when reading the file
+     */
+    public MappedFileReaderFactory(final Path file, final @Nullable Charset charset) {
+        super(file, charset);
+
+        this.file = file;
+    }
+
+    /**
+     * Provides the lines of the file as a {@link LineSource}. If the file is a regular file that uses UTF-8, US-ASCII,
+     * or ISO-8859-1 encoding, then the file is read using a memory mapped buffer that decodes the lines without
+     * creating a new string for each line.
+     *
+     * @return the file content as line source
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    @Override
+    @MustBeClosed
+    public LineSource readLines() {
+        if (!MappedLineSource.isSupported(getCharset()) || !Files.isRegularFile(file)) {
+            return super.readLines();
+        }
+        try {
+            return new MappedLineSource(file, getCharset());
+        }
+        catch (FileNotFoundException | InvalidPathException exception) {
+            throw new ParsingException(exception, "Can't find file: " + getFileName());
+        }
+        catch (IOException | UncheckedIOException exception) {
+            throw new ParsingException(exception, "Can't scan file for issues: " + getFileName());
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import edu.hm.hafner.util.LineSource;
+import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Reads the lines of a file using a memory mapped buffer. The file is mapped in windows of a fixed size, so files
+ * larger than 2 GB are supported as well. The lines are decoded into a reused character buffer: ASCII characters are
+ * copied directly, only lines with other characters are decoded using a {@link CharsetDecoder}. Lines are separated by
+ * {@code \n}, {@code \r}, or {@code \r\n}, just like in {@link java.io.BufferedReader#readLine()}. A UTF-8 byte order
+ * mark at the beginning of the file is skipped.
+ * <p>
+ * This source supports only charsets that encode the line terminators as single bytes that do not occur in other
+ * characters, see {@link #isSupported(Charset)}.
+ * </p>
+ * <p>
+ * A mapped window is released only when it is garbage collected, closing the source just drops the reference to the
+ * current window. On Windows, the file cannot be deleted or truncated until the window has been unmapped. If the file
+ * is truncated while it is read, then the JVM reports the access to the missing part of a window as {@link
+ * InternalError}: this error is converted into an {@link UncheckedIOException}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class MappedLineSource implements LineSource {
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int INITIAL_LINE_LENGTH = 256;
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long size;
+    private final Charset charset;
+    private final CharsetDecoder decoder;
+    private int windowSize;
+
+    private ByteBuffer window = ByteBuffer.allocate(0);
+    private long windowStart = 0;
+    private long position = 0;
+    private long offset = -1;
+
+    private char[] characters = new char[INITIAL_LINE_LENGTH];
+    private CharBuffer line = CharBuffer.wrap(characters);
+
+    /**
+     * Returns whether the specified charset is supported by this line source.
+     *
+     * @param charset
+     *         the charset to check
+     *
+     * @return {@code true} if the charset is supported, {@code false} otherwise
+     */
+    static boolean isSupported(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    /**
+     * Creates a new {@link MappedLineSource} for the specified file.
+     *
+     * @param file
+     *         the file to read
+     * @param charset
+     *         the charset of the file, see {@link #isSupported(Charset)}
+     *
+     * @throws IOException
+     *         if the file could not be opened
+     */
+    MappedLineSource(final Path file, final Charset charset) throws IOException {
+        this(file, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a new {@link MappedLineSource} that reads the lines of the specified file starting at the given byte
+     * offset. The offset must be the start of a line.
+     *
+     * @param file
+     *         the file to read
+     * @param charset
+     *         the charset of the file, see {@link #isSupported(Charset)}
+     * @param start
+     *         the byte offset of the first line to read
+     *
+     * @throws IOException
+     *         if the file could not be opened
+     */
+    MappedLineSource(final Path file, final Charset charset, final long start) throws IOException {
+        this(file, charset, DEFAULT_WINDOW_SIZE);
+
+        position = Math.max(position, start);
+    }
+
+    @VisibleForTesting
+    MappedLineSource(final Path file, final Charset charset, final int windowSize) throws IOException {
+        if (!isSupported(charset)) {
+            throw new IllegalArgumentException("Unsupported charset: " + charset);
+        }
+        this.file = file;
+        this.charset = charset;
+        this.windowSize = windowSize;
+
+        decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        size = channel.size();
+
+        skipByteOrderMark();
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        ByteBuffer start = ByteBuffer.allocate(3);
+        while (start.hasRemaining() && channel.read(start, start.position()) > 0) {
+            // read until the first three bytes are available
+        }
+        if (!start.hasRemaining() && start.get(0) == (byte) 0xEF && start.get(1) == (byte) 0xBB
+                && start.get(2) == (byte) 0xBF) {
+            position = 3;
+        }
+    }
+
+    private void map(final long start) throws IOException {
+        long length = Math.min(windowSize, size - start);
+        MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, start, length);
+        window = mapped;
+        windowStart = start;
+    }
+
+    private boolean isLastWindow() {
+        return windowStart + window.limit() >= size;
+    }
+
+    @Override
+    @Nullable
+    public CharSequence nextLine() {
+        if (position >= size) {
+            return null;
+        }
+        try {
+            if (position < windowStart || position >= windowStart + window.limit()) {
+                map(position);
+            }
+            return readLine();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        catch (InternalError error) {
+            if (isTruncated()) {
+                throw new UncheckedIOException(
+                        new IOException("File has been truncated while reading: " + file, error));
+            }
+            throw error;
+        }
+    }
+
+    private boolean isTruncated() {
+        try {
+            return channel.size() < size;
+        }
+        catch (IOException exception) {
+            return true;
+        }
+    }
+
+    private CharSequence readLine() throws IOException {
+        while (true) {
+            int start = (int) (position - windowStart);
+            int end = findLineTerminator(start);
+            int terminatorLength;
+            if (end < 0) {
+                if (!isLastWindow()) {
+                    remap();
+                    continue;
+                }
+                end = window.limit();
+                terminatorLength = 0;
+            }
+            else if (window.get(end) == '\r') {
+                if (end + 1 < window.limit()) {
+                    terminatorLength = window.get(end + 1) == '\n' ? 2 : 1;
+                }
+                else if (isLastWindow()) {
+                    terminatorLength = 1;
+                }
+                else {
+                    remap();
+                    continue;
+                }
+            }
+            else {
+                terminatorLength = 1;
+            }
+
+            decode(start, end);
+            offset = position;
+            position = windowStart + end + terminatorLength;
+
+            return line;
+        }
+    }
+
+    /**
+     * Maps a new window that starts with the current line. If the current line does not fit into a single window,
+     * then the window size will be doubled.
+     */
+    private void remap() throws IOException {
+        if (windowStart == position) {
+            windowSize = (int) Math.min(Integer.MAX_VALUE, 2L * windowSize);
+        }
+        map(position);
+    }
+
+    private int findLineTerminator(final int start) {
+        int limit = window.limit();
+        for (int i = start; i < limit; i++) {
+            byte value = window.get(i);
+            if (value == '\n' || value == '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void decode(final int start, final int end) {
+        int length = end - start;
+        if (characters.length < length) {
+            characters = new char[Math.max(length, 2 * characters.length)];
+            line = CharBuffer.wrap(characters);
+        }
+
+        int count = 0;
+        while (count < length) {
+            byte value = window.get(start + count);
+            if (value < 0) {
+                count = decodeNonAscii(start + count, end, count);
+                break;
+            }
+            characters[count++] = (char) value;
+        }
+
+        line.clear();
+        line.limit(count);
+    }
+
+    private int decodeNonAscii(final int start, final int end, final int count) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            ByteBuffer input = window.duplicate();
+            input.limit(end);
+            input.position(start);
+
+            CharBuffer output = CharBuffer.wrap(characters, count, characters.length - count);
+            decoder.reset();
+            decoder.decode(input, output, true);
+            decoder.flush(output);
+
+            return output.position();
+        }
+
+        boolean isLatin = StandardCharsets.ISO_8859_1.equals(charset);
+        int decoded = count;
+        for (int i = start; i < end; i++) {
+            byte value = window.get(i);
+            if (value >= 0) {
+                characters[decoded++] = (char) value;
+            }
+            else {
+                characters[decoded++] = isLatin ? (char) (value & 0xFF) : REPLACEMENT;
+            }
+        }
+        return decoded;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void close() {
+        window = ByteBuffer.allocate(0);
+        try {
+            channel.close();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
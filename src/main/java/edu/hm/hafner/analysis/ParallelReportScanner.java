@@ -0,0 +1,229 @@
+package edu.hm.hafner.analysis;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import com.google.errorprone.annotations.MustBeClosed;
+
+import edu.hm.hafner.util.LineSource;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Parses several files with the same {@link IssueParser} in parallel. The files are parsed by the tasks of a given
+ * {@link Executor}, each task uses its own copy of the parser so that parsers with state can be used as well. The
+ * reports of the individual files are merged in the order of the files, so the result is the same as if the files
+ * would have been parsed sequentially and aggregated using {@link Report#Report(Collection)}.
+ * <p>
+ * If the calling thread is interrupted or a parser throws a {@link ParsingCanceledException}, then the files that are
+ * not yet parsed will be skipped and a {@link ParsingCanceledException} is thrown. Parsers that are already running
+ * are stopped as well: reading the next line or characters of their file throws a {@link ParsingCanceledException}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class ParallelReportScanner {
+    private final Executor executor;
+
+    /**
+     * Creates a new {@link ParallelReportScanner} that uses the {@link ForkJoinPool#commonPool() common pool}.
+     */
+    public ParallelReportScanner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link ParallelReportScanner} that uses the specified executor.
+     *
+     * @param executor
+     *         the executor that runs the parsers
+     */
+    public ParallelReportScanner(final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Parses the specified files.
+     *
+     * @param parser
+     *         the parser to use
+     * @param files
+     *         the files to parse
+     * @param charset
+     *         the charset to use when reading the files
+     *
+     * @return the issues of all files, in the order of the files
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report scanFiles(final IssueParser parser, final Collection<Path> files, final Charset charset)
+            throws ParsingException, ParsingCanceledException {
+        List<ReaderFactory> factories = new ArrayList<>();
+        for (Path file : files) {
+            factories.add(new FileReaderFactory(file, charset));
+        }
+        return scan(parser, factories);
+    }
+
+    /**
+     * Parses the specified files.
+     *
+     * @param parser
+     *         the parser to use
+     * @param files
+     *         the files to parse
+     *
+     * @return the issues of all files, in the order of the files
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report scan(final IssueParser parser, final Collection<? extends ReaderFactory> files)
+            throws ParsingException, ParsingCanceledException {
+        AtomicBoolean isCanceled = new AtomicBoolean(false);
+
+        List<CompletableFuture<Report>> reports = new ArrayList<>();
+        for (ReaderFactory file : files) {
+            IssueParser copy = SerializationUtils.clone(parser);
+            ReaderFactory cancelable = new CancelableReaderFactory(file, isCanceled);
+            reports.add(CompletableFuture.supplyAsync(() -> parse(copy, cancelable, isCanceled), executor));
+        }
+
+        try {
+            Report merged = new Report();
+            for (CompletableFuture<Report> report : reports) {
+                merged.addAll(report.get());
+            }
+            return merged;
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            throw asRuntimeException(exception.getCause());
+        }
+        finally {
+            isCanceled.set(true);
+            reports.forEach(report -> report.cancel(false));
+        }
+    }
+
+    private Report parse(final IssueParser parser, final ReaderFactory file, final AtomicBoolean isCanceled) {
+        if (isCanceled.get()) {
+            throw new ParsingCanceledException();
+        }
+        try {
+            return parser.parse(file);
+        }
+        catch (ParsingCanceledException exception) {
+            isCanceled.set(true);
+            throw exception;
+        }
+    }
+
+    /**
+     * A {@link ReaderFactory} that stops reading the file of another factory if parsing has been canceled.
+     */
+    private static class CancelableReaderFactory extends ReaderFactory {
+        private final ReaderFactory delegate;
+        private final AtomicBoolean isCanceled;
+
+        CancelableReaderFactory(final ReaderFactory delegate, final AtomicBoolean isCanceled) {
+            super(delegate.getCharset());
+
+            this.delegate = delegate;
+            this.isCanceled = isCanceled;
+        }
+
+        @Override
+        public String getFileName() {
+            return delegate.getFileName();
+        }
+
+        @Override
+        @MustBeClosed
+        public Reader create() {
+            return new FilterReader(delegate.create()) {
+                @Override
+                public int read() throws IOException {
+                    checkCanceled();
+                    return super.read();
+                }
+
+                @Override
+                public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                    checkCanceled();
+                    return super.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        @MustBeClosed
+        @SuppressWarnings("MustBeClosedChecker")
+        public Stream<String> readStream() {
+            return delegate.readStream().map(line -> {
+                checkCanceled();
+                return line;
+            });
+        }
+
+        @Override
+        @MustBeClosed
+        @SuppressWarnings("MustBeClosedChecker")
+        public LineSource readLines() {
+            LineSource lines = delegate.readLines();
+            return new LineSource() {
+                @Override
+                @Nullable
+                public CharSequence nextLine() {
+                    checkCanceled();
+                    return lines.nextLine();
+                }
+
+                @Override
+                public long getOffset() {
+                    return lines.getOffset();
+                }
+
+                @Override
+                public void close() {
+                    lines.close();
+                }
+            };
+        }
+
+        private void checkCanceled() {
+            if (isCanceled.get()) {
+                throw new ParsingCanceledException();
+            }
+        }
+    }
+
+    private RuntimeException asRuntimeException(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new ParsingException(cause);
+    }
+}
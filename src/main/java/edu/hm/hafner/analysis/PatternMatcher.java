@@ -0,0 +1,144 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Checks whether a string matches at least one of a set of regular expressions. The regular expressions are compiled
+ * only once. Patterns that do not contain any meta characters are evaluated using {@link String#equals(Object)},
+ * patterns of the form {@code literal.*} are evaluated using {@link String#startsWith(String)}. All other patterns are
+ * merged into a single alternation.
+ *
+ * @author Ullrich Hafner
+ */
+class PatternMatcher {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String ANY_SUFFIX = ".*";
+    /**
+     * Back references, quotes, named groups (names must be unique within an alternation), and inline flags (e.g.
+     * comments enabled by {@code (?x)} would swallow the following alternatives) prevent merging.
+     */
+    private static final Pattern NOT_MERGEABLE
+            = Pattern.compile("\\\\(\\d|k<|Q)|\\(\\?<[a-zA-Z]|\\(\\?[a-zA-Z-]+[):]");
+
+    private final Set<String> literals = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    /**
+     * Creates a new {@link PatternMatcher} for the specified regular expressions.
+     *
+     * @param regularExpressions
+     *         the regular expressions
+     *
+     * @throws java.util.regex.PatternSyntaxException
+     *         if one of the expressions is not a valid regular expression
+     */
+    PatternMatcher(final Collection<String> regularExpressions) {
+        List<String> alternatives = new ArrayList<>();
+        for (String regularExpression : regularExpressions) {
+            if (isLiteral(regularExpression)) {
+                literals.add(regularExpression);
+            }
+            else if (regularExpression.endsWith(ANY_SUFFIX)
+                    && isLiteral(StringUtils.removeEnd(regularExpression, ANY_SUFFIX))) {
+                prefixes.add(StringUtils.removeEnd(regularExpression, ANY_SUFFIX));
+            }
+            else if (NOT_MERGEABLE.matcher(regularExpression).find()) {
+                patterns.add(Pattern.compile(regularExpression)); // would break an alternation
+            }
+            else {
+                Pattern.compile(regularExpression); // verify the syntax of each individual expression
+                alternatives.add(regularExpression);
+            }
+        }
+        Pattern alternation = createAlternation(alternatives);
+        if (alternation != null) {
+            patterns.add(alternation);
+        }
+    }
+
+    @Nullable
+    private Pattern createAlternation(final List<String> alternatives) {
+        if (alternatives.isEmpty()) {
+            return null;
+        }
+        if (alternatives.size() == 1) {
+            return Pattern.compile(alternatives.get(0));
+        }
+        StringJoiner alternation = new StringJoiner("|");
+        for (String alternative : alternatives) {
+            alternation.add("(?:" + alternative + ")");
+        }
+        return Pattern.compile(alternation.toString());
+    }
+
+    private boolean isLiteral(final String regularExpression) {
+        return StringUtils.containsNone(regularExpression, META_CHARACTERS);
+    }
+
+    /**
+     * Returns whether this matcher contains no regular expressions.
+     *
+     * @return {@code true} if there are no regular expressions, {@code false} otherwise
+     */
+    boolean isEmpty() {
+        return literals.isEmpty() && prefixes.isEmpty() && patterns.isEmpty();
+    }
+
+    /**
+     * Returns whether the specified value matches one of the regular expressions. The whole value needs to be matched,
+     * see {@link java.util.regex.Matcher#matches()}.
+     *
+     * @param value
+     *         the value to check
+     *
+     * @return {@code true} if the value matches one of the regular expressions, {@code false} otherwise
+     */
+    boolean matches(final String value) {
+        if (literals.contains(value)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (value.startsWith(prefix) && !containsLineTerminator(value, prefix.length())) {
+                return true;
+            }
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the specified value contains a line terminator after the specified position. Line terminators
+     * are not matched by the regular expression {@code .}.
+     *
+     * @param value
+     *         the value to check
+     * @param start
+     *         the position to start
+     *
+     * @return {@code true} if the value contains a line terminator, {@code false} otherwise
+     */
+    private boolean containsLineTerminator(final String value, final int start) {
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -22,6 +22,7 @@ import org.xml.sax.SAXException;
 
 import com.google.errorprone.annotations.MustBeClosed;
 
+import edu.hm.hafner.util.LineSource;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -100,6 +101,21 @@ public abstract class ReaderFactory {
         }
     }
 
+    /**
+     * Provides the lines of the file as a {@link LineSource}. In contrast to {@link #readStream()}, a line source does
+     * not need to create a new string for each line. This default implementation reads the lines using {@link
+     * #readStream()}, sub classes may provide more efficient implementations.
+     *
+     * @return the file content as line source
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    @MustBeClosed
+    @SuppressWarnings("MustBeClosedChecker")
+    public LineSource readLines() {
+        return LineSource.of(readStream());
+    }
+
     @SuppressWarnings({"illegalcatch", "PMD.DoNotUseThreads", "PMD.AvoidThrowingRawExceptionTypes"})
     private Runnable closeReader(final AutoCloseable closeable) {
         return () -> {
@@ -1,8 +1,21 @@
 package edu.hm.hafner.analysis;
 
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import edu.hm.hafner.util.LineSource;
+import edu.hm.hafner.util.TreeStringBuilder;
+
 /**
  * Parses an input stream as a whole document for compiler warnings or issues from a static analysis tool using the
  * provided regular expression.
+ * <p>
+ * The document is not read into memory as a whole: the regular expression is applied to a sliding window of complete
+ * lines. A match is accepted as soon as the matcher does not require more input to decide about the match. Since a
+ * record (i.e., the text of a single match) must fit into the window, the size of the window is limited by the
+ * {@link #setMaxRecordSize(int) maximum record size}. Matches that span more characters are not found.
+ * </p>
  *
  * @author Ullrich Hafner
  * @deprecated use {@link LookaheadParser} if possible since it is much faster when parsing large files
@@ -11,6 +24,13 @@ package edu.hm.hafner.analysis;
 public abstract class RegexpDocumentParser extends RegexpParser {
     private static final long serialVersionUID = -4985090860783261124L;
 
+    /** Default maximum number of characters of a single record. */
+    public static final int DEFAULT_MAX_RECORD_SIZE = 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
+
     /**
      * Creates a new instance of {@link RegexpDocumentParser}.
      *
@@ -25,10 +45,156 @@ public abstract class RegexpDocumentParser extends RegexpParser {
         super(pattern, useMultiLine);
     }
 
+    /**
+     * Sets the maximum number of characters of a single record, i.e. the text of a single match. The parser keeps at
+     * most this number of characters (plus the size of a chunk of lines) in memory.
+     *
+     * @param maxRecordSize
+     *         the maximum number of characters of a record
+     *
+     * @throws IllegalArgumentException
+     *         if the size is not positive
+     */
+    public void setMaxRecordSize(final int maxRecordSize) {
+        if (maxRecordSize <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Maximum record size must be positive: %d", maxRecordSize));
+        }
+        this.maxRecordSize = maxRecordSize;
+    }
+
     @Override
     public Report parse(final ReaderFactory reader) throws ParsingException {
         Report warnings = new Report();
-        findIssues(reader.readString() + "\n", warnings);
+        parse(reader, warnings);
         return warnings;
     }
+
+    @Override
+    public void parse(final ReaderFactory reader, final IssueConsumer consumer) throws ParsingException {
+        try (LineSource lines = reader.readLines()) {
+            findIssues(new RecordWindow(lines, Math.min(CHUNK_SIZE, maxRecordSize)), consumer);
+        }
+        catch (UncheckedIOException e) {
+            throw new ParsingException(e);
+        }
+    }
+
+    @SuppressWarnings({"ReferenceEquality", "PMD.CompareObjectsWithEquals"})
+    private void findIssues(final RecordWindow window, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        Matcher matcher = getPattern().matcher(window.text);
+        matcher.useTransparentBounds(true);
+        matcher.useAnchoringBounds(false);
+
+        TreeStringBuilder stringBuilder = new TreeStringBuilder();
+        int position = 0;
+        while (position <= window.text.length()) {
+            matcher.reset(window.text);
+            matcher.region(position, window.text.length());
+            boolean found = matcher.find();
+            boolean isPartial = !window.isComplete && (matcher.hitEnd() || matcher.requireEnd());
+
+            if (found && (!isPartial || window.text.length() - position >= maxRecordSize)) {
+                Optional<Issue> warning = createIssue(matcher, configureIssueBuilder(new IssueBuilder(stringBuilder)));
+                if (warning.isPresent()) {
+                    consumer.accept(warning.get());
+                }
+                position = matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+            }
+            else if (isPartial) {
+                if (!found) {
+                    position = Math.max(position, window.getRecordStart(window.text.length() - maxRecordSize));
+                }
+                position = window.discard(position);
+                window.read();
+            }
+            else {
+                break;
+            }
+
+            if (Thread.interrupted()) {
+                throw new ParsingCanceledException();
+            }
+        }
+        stringBuilder.dedup();
+    }
+
+    /**
+     * A window of complete lines of the document. The window contains the lines that are currently scanned by the
+     * matcher. Lines are appended in chunks, lines that have been scanned are discarded.
+     */
+    private static class RecordWindow {
+        private final LineSource lines;
+        private final int chunkSize;
+        private final StringBuilder text = new StringBuilder();
+        private boolean isComplete = false;
+        private boolean isEmpty = true;
+
+        RecordWindow(final LineSource lines, final int chunkSize) {
+            this.lines = lines;
+            this.chunkSize = chunkSize;
+
+            read();
+        }
+
+        /**
+         * Appends the next chunk of lines to the window. Each line is terminated by a newline. If the document is
+         * empty, then the window will contain a single newline.
+         */
+        void read() {
+            int end = text.length() + chunkSize;
+            while (text.length() < end) {
+                CharSequence line = lines.nextLine();
+                if (line == null) {
+                    if (isEmpty) {
+                        text.append('\n');
+                    }
+                    isComplete = true;
+                    return;
+                }
+                text.append(line).append('\n');
+                isEmpty = false;
+            }
+        }
+
+        /**
+         * Returns the start of the first line that begins at or after the specified position.
+         *
+         * @param position
+         *         the position in the window
+         *
+         * @return the start of the line
+         */
+        int getRecordStart(final int position) {
+            if (position <= 0) {
+                return 0;
+            }
+            int newline = text.indexOf("\n", position - 1);
+            return newline < 0 ? position : newline + 1;
+        }
+
+        /**
+         * Discards the lines before the specified position if these lines are large enough. The newline that
+         * precedes the line of the specified position is retained, so that the position still marks the beginning of
+         * a line for the matcher. Since the matcher never starts at the first character of a shortened window,
+         * patterns that are anchored at the beginning of the document do not match anymore.
+         *
+         * @param position
+         *         the position of the first character that still needs to be scanned
+         *
+         * @return the position in the shortened window
+         */
+        int discard(final int position) {
+            if (position < chunkSize) {
+                return position;
+            }
+            int start = text.lastIndexOf("\n", position - 1);
+            if (start < position - chunkSize) {
+                start = position - 1;
+            }
+            text.delete(0, start);
+            return position - start;
+        }
+    }
 }
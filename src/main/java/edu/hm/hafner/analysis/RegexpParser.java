@@ -4,6 +4,8 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import edu.hm.hafner.util.TreeStringBuilder;
+
 /**
  * Parses an input stream for compiler warnings or issues from a static analysis tool using the provided regular
  * expression. Normally, this base class should not directly be extended. Rather extend from the base classes {@link
@@ -42,14 +44,23 @@ public abstract class RegexpParser extends IssueParser {
         }
     }
 
+    /**
+     * Returns the pattern of compiler warnings.
+     *
+     * @return the pattern
+     */
+    Pattern getPattern() {
+        return pattern;
+    }
+
     /**
      * Parses the specified string {@code content} using a regular expression and creates a set of new issues for each
-     * match. The new issues are added to the provided set of {@link Report}.
+     * match. The new issues are handed over to the provided consumer, e.g. a {@link Report}.
      *
      * @param content
      *         the content to scan
-     * @param report
-     *         the report to add the new issues to
+     * @param consumer
+     *         the consumer that receives the new issues
      *
      * @throws ParsingException
      *         Signals that during parsing a non recoverable error has been occurred
@@ -57,20 +68,22 @@ public abstract class RegexpParser extends IssueParser {
      *         Signals that the parsing has been aborted by the user
      */
     @SuppressWarnings({"ReferenceEquality", "PMD.CompareObjectsWithEquals"})
-    protected void findIssues(final String content, final Report report)
+    protected void findIssues(final String content, final IssueConsumer consumer)
             throws ParsingException, ParsingCanceledException {
         Matcher matcher = pattern.matcher(content);
 
+        TreeStringBuilder stringBuilder = new TreeStringBuilder();
         while (matcher.find()) {
-            Optional<Issue> warning = createIssue(matcher, configureIssueBuilder(new IssueBuilder()));
+            Optional<Issue> warning = createIssue(matcher, configureIssueBuilder(new IssueBuilder(stringBuilder)));
             if (warning.isPresent()) {
-                report.add(warning.get());
+                consumer.accept(warning.get());
             }
 
             if (Thread.interrupted()) {
                 throw new ParsingCanceledException();
             }
         }
+        stringBuilder.dedup();
     }
 
     /**
@@ -1,22 +1,26 @@
 package edu.hm.hafner.analysis;
 
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -30,6 +34,7 @@ import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.NoSuchElementException;
 import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import static java.util.stream.Collectors.*;
 
 /**
@@ -45,8 +50,7 @@ import static java.util.stream.Collectors.*;
  * @author Ullrich Hafner
  */
 @SuppressWarnings({"PMD.ExcessivePublicCount", "PMD.ExcessiveClassLength", "PMD.GodClass"})
-// TODO: provide a readResolve method to check the instance and improve the performance (TreeString, etc.)
-public class Report implements Iterable<Issue>, Serializable {
+public class Report implements Iterable<Issue>, IssueConsumer, Serializable {
     private static final long serialVersionUID = 1L; // release 1.0.0
 
     @VisibleForTesting
@@ -58,6 +62,12 @@ public class Report implements Iterable<Issue>, Serializable {
 
     private int duplicatesSize = 0;
 
+    private transient Map<UUID, Issue> elementsById = new HashMap<>();
+    @Nullable
+    private transient Issue[] elementsByIndex; // created on demand, cleared when an issue has been removed
+    @Nullable
+    private transient Aggregates aggregates; // created on demand
+
     /**
      * Creates an empty {@link Report}.
      */
@@ -116,10 +126,30 @@ public class Report implements Iterable<Issue>, Serializable {
         }
         else {
             elements.add(issue);
+            elementsById.putIfAbsent(issue.getId(), issue);
+            if (aggregates != null) {
+                aggregates.add(issue);
+            }
+            if (elementsByIndex != null) {
+                appendToIndex(issue);
+            }
         }
         return this;
     }
 
+    /**
+     * Appends the specified issue to the end of this report. Duplicates will be skipped.
+     *
+     * @param issue
+     *         the issue to append
+     *
+     * @see #add(Issue)
+     */
+    @Override
+    public void accept(final Issue issue) {
+        add(issue);
+    }
+
     /**
      * Appends all of the specified issues to the end of this report, preserving the order of the array elements.
      * Duplicates will be skipped (the number of skipped elements is available using the method {@link
@@ -189,14 +219,20 @@ public class Report implements Iterable<Issue>, Serializable {
      * @throws NoSuchElementException
      *         if there is no such issue found
      */
+    @SuppressWarnings({"ReferenceEquality", "PMD.CompareObjectsWithEquals"})
     public Issue remove(final UUID issueId) {
-        for (Issue element : elements) {
-            if (element.getId().equals(issueId)) {
-                elements.remove(element);
-                return element;
-            }
+        Issue issue = elementsById.remove(issueId);
+        if (issue == null) {
+            throw new NoSuchElementException("No issue found with id %s.", issueId);
+        }
+        if (!elements.remove(issue)) { // properties of the issue have been changed after adding
+            elements.removeIf(element -> element == issue);
         }
-        throw new NoSuchElementException("No issue found with id %s.", issueId);
+        elementsByIndex = null;
+        if (aggregates != null) {
+            aggregates.remove(issue);
+        }
+        return issue;
     }
 
     /**
@@ -210,12 +246,11 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     public Issue findById(final UUID issueId) {
-        for (Issue issue : elements) {
-            if (issue.getId().equals(issueId)) {
-                return issue;
-            }
+        Issue issue = elementsById.get(issueId);
+        if (issue == null) {
+            throw new NoSuchElementException("No issue found with id %s.", issueId);
         }
-        throw new NoSuchElementException("No issue found with id %s.", issueId);
+        return issue;
     }
 
     /**
@@ -248,19 +283,39 @@ public class Report implements Iterable<Issue>, Serializable {
         return elements.stream().filter(criterion);
     }
 
+    /**
+     * Returns a read-only iterator over the issues of this report. The iterator is not affected by subsequent
+     * modifications of this report: it works on a snapshot of the issues. Creating the snapshot does not copy the
+     * issues, adding issues afterwards does not copy the issues either. Only after removing an issue the index of the
+     * issues is created again.
+     *
+     * @return the iterator
+     */
     @NonNull
     @Override
     public Iterator<Issue> iterator() {
-        return Lists.immutable.withAll(elements).iterator();
+        return getSnapshot().iterator();
+    }
+
+    /**
+     * Returns a sized and splittable {@link Spliterator} over the issues of this report. Like the {@link #iterator()},
+     * the spliterator works on a snapshot of the issues.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<Issue> spliterator() {
+        return getSnapshot().spliterator();
     }
 
     /**
-     * Creates a new sequential {@code Stream} of {@link Issue} instances from a {@code Spliterator}.
+     * Creates a new sequential {@code Stream} of {@link Issue} instances from a {@code Spliterator}. The stream may
+     * be turned into a parallel stream since the {@code Spliterator} is sized and splittable.
      *
      * @return a new sequential {@code Stream}
      */
     public Stream<Issue> stream() {
-        return StreamSupport.stream(Spliterators.spliterator(iterator(), 0L, Spliterator.NONNULL), false);
+        return StreamSupport.stream(spliterator(), false);
     }
 
     /**
@@ -311,6 +366,16 @@ public class Report implements Iterable<Issue>, Serializable {
         return duplicatesSize;
     }
 
+    /**
+     * Adds the specified number of duplicates that have been skipped when this report has been composed.
+     *
+     * @param count
+     *         the number of duplicates
+     */
+    void addDuplicates(final int count) {
+        duplicatesSize += count;
+    }
+
     /**
      * Returns the number of issues with the specified {@code severity}.
      *
@@ -332,7 +397,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return total number of issues
      */
     public int getSizeOf(final Severity severity) {
-        return elements.stream().filter(issue -> issue.getSeverity().equals(severity)).mapToInt(e -> 1).sum();
+        return getAggregates().getSizeOf(severity);
     }
 
     /**
@@ -349,11 +414,38 @@ public class Report implements Iterable<Issue>, Serializable {
         if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException("No such index " + index + " in " + toString());
         }
-        Iterator<Issue> all = elements.iterator();
-        for (int i = 0; i < index; i++) {
-            all.next(); // skip this element
+        return getElementsByIndex()[index];
+    }
+
+    private Issue[] getElementsByIndex() {
+        Issue[] indexed = elementsByIndex;
+        if (indexed == null) {
+            indexed = elements.toArray(new Issue[0]);
+            elementsByIndex = indexed;
+        }
+        return indexed;
+    }
+
+    /**
+     * Appends the specified issue to the index. Existing elements of the index array are never overwritten (a larger
+     * array is created if required), so snapshots that refer to the previous array are not affected.
+     */
+    private void appendToIndex(final Issue issue) {
+        int position = elements.size() - 1;
+        if (elementsByIndex.length <= position) {
+            elementsByIndex = Arrays.copyOf(elementsByIndex, Math.max(16, position + (position >> 1) + 1));
         }
-        return all.next();
+        elementsByIndex[position] = issue;
+    }
+
+    /**
+     * Returns a read-only snapshot of the issues. Since the index is only appended to while issues are added, the
+     * snapshot is a view of the first elements of the current index array and does not need to be copied.
+     *
+     * @return the issues of this report
+     */
+    private List<Issue> getSnapshot() {
+        return new Snapshot(getElementsByIndex(), size());
     }
 
     @Override
@@ -361,13 +453,55 @@ public class Report implements Iterable<Issue>, Serializable {
         return String.format("%d issues", size());
     }
 
+    /**
+     * Returns the aggregated property values of the issues. The values are computed on demand and updated
+     * incrementally when issues are added or removed. Use this method only for the properties that can't be changed
+     * after an issue has been created: severity, category, and type.
+     *
+     * @return the aggregated property values
+     * @see #getCurrentAggregates()
+     */
+    private Aggregates getAggregates() {
+        Aggregates current = aggregates;
+        if (current == null) {
+            current = new Aggregates(elements);
+            aggregates = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the aggregated property values of the issues, including the mutable properties file name, package name,
+     * module name, and origin. If one of the issues of this report has been changed since the values have been
+     * aggregated, then the values are computed again. Detecting such a change requires a single pass over the
+     * modification counters of the issues, no values are mapped or hashed.
+     *
+     * @return the aggregated property values
+     */
+    private Aggregates getCurrentAggregates() {
+        Aggregates current = getAggregates();
+        if (current.getModifications() != countModifications()) {
+            current = new Aggregates(elements);
+            aggregates = current;
+        }
+        return current;
+    }
+
+    private long countModifications() {
+        long modifications = 0;
+        for (Issue issue : elements) {
+            modifications += issue.getModifications();
+        }
+        return modifications;
+    }
+
     /**
      * Returns the affected modules for all issues.
      *
      * @return the affected modules
      */
     public Set<String> getModules() {
-        return getProperties(Issue::getModuleName);
+        return getCurrentAggregates().getModules();
     }
 
     /**
@@ -393,7 +527,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getPackages() {
-        return getProperties(Issue::getPackageName);
+        return getCurrentAggregates().getPackages();
     }
 
     /**
@@ -411,7 +545,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected files
      */
     public Set<String> getFiles() {
-        return getProperties(Issue::getFileName);
+        return getCurrentAggregates().getFiles();
     }
 
     /**
@@ -429,7 +563,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used categories
      */
     public Set<String> getCategories() {
-        return getProperties(Issue::getCategory);
+        return getAggregates().getCategories();
     }
 
     /**
@@ -447,7 +581,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used types
      */
     public Set<String> getTypes() {
-        return getProperties(Issue::getType);
+        return getAggregates().getTypes();
     }
 
     /**
@@ -465,7 +599,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the tools
      */
     public Set<String> getTools() {
-        return getProperties(Issue::getOrigin);
+        return getCurrentAggregates().getOrigins();
     }
 
     /**
@@ -483,7 +617,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the severities
      */
     public Set<Severity> getSeverities() {
-        return getProperties(Issue::getSeverity);
+        return getAggregates().getSeverities();
     }
 
     /**
@@ -511,7 +645,9 @@ public class Report implements Iterable<Issue>, Serializable {
     }
 
     /**
-     * Returns the number of occurrences for every existing value of a given property for all issues.
+     * Returns the number of occurrences for every existing value of a given property for all issues. Since the
+     * property is selected by an arbitrary function, the values are obtained from all issues for each call. Use the
+     * dedicated getters like {@link #getModules()} or {@link #getSizeOf(Severity)} for the aggregated properties.
      *
      * @param propertiesMapper
      *         the properties mapper that selects the property to evaluate
@@ -665,6 +801,19 @@ public class Report implements Iterable<Issue>, Serializable {
         return !errorMessages.isEmpty();
     }
 
+    /**
+     * Called after de-serialization to restore the transient index of the issues.
+     *
+     * @return this
+     */
+    protected Object readResolve() {
+        elementsById = new HashMap<>();
+        for (Issue issue : elements) {
+            elementsById.putIfAbsent(issue.getId(), issue);
+        }
+        return this;
+    }
+
     @SuppressWarnings("CheckStyle")
     @Override
     public boolean equals(final Object o) {
@@ -698,14 +847,143 @@ public class Report implements Iterable<Issue>, Serializable {
         return result;
     }
 
+    /**
+     * A read-only view of the first elements of an index array.
+     */
+    private static class Snapshot extends AbstractList<Issue> implements RandomAccess {
+        private final Issue[] elements;
+        private final int size;
+
+        Snapshot(final Issue[] elements, final int size) {
+            super();
+
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public Issue get(final int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("No such index " + index);
+            }
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Spliterator<Issue> spliterator() {
+            return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+    }
+
+    /**
+     * Counts the number of issues for each value of the properties severity, category, type, module name, package
+     * name, file name, and origin. The sum of the {@link Issue#getModifications() modification counters} of the
+     * counted issues is recorded as well: since these counters never decrease, the counts of the mutable properties
+     * are outdated if the current sum is different.
+     */
+    private static class Aggregates {
+        private final Map<Severity, Integer> severities = new HashMap<>();
+        private final Map<String, Integer> categories = new HashMap<>();
+        private final Map<String, Integer> types = new HashMap<>();
+        private final Map<String, Integer> modules = new HashMap<>();
+        private final Map<String, Integer> packages = new HashMap<>();
+        private final Map<String, Integer> files = new HashMap<>();
+        private final Map<String, Integer> origins = new HashMap<>();
+        private long modifications;
+
+        Aggregates(final Collection<Issue> issues) {
+            for (Issue issue : issues) {
+                add(issue);
+            }
+        }
+
+        void add(final Issue issue) {
+            increment(severities, issue.getSeverity());
+            increment(categories, issue.getCategory());
+            increment(types, issue.getType());
+            increment(modules, issue.getModuleName());
+            increment(packages, issue.getPackageName());
+            increment(files, issue.getFileName());
+            increment(origins, issue.getOrigin());
+            modifications += issue.getModifications();
+        }
+
+        void remove(final Issue issue) {
+            decrement(severities, issue.getSeverity());
+            decrement(categories, issue.getCategory());
+            decrement(types, issue.getType());
+            decrement(modules, issue.getModuleName());
+            decrement(packages, issue.getPackageName());
+            decrement(files, issue.getFileName());
+            decrement(origins, issue.getOrigin());
+            modifications -= issue.getModifications();
+        }
+
+        long getModifications() {
+            return modifications;
+        }
+
+        private <T> void increment(final Map<T, Integer> counts, final T value) {
+            counts.merge(value, 1, Integer::sum);
+        }
+
+        private <T> void decrement(final Map<T, Integer> counts, final T value) {
+            counts.computeIfPresent(value, (key, count) -> count == 1 ? null : count - 1);
+        }
+
+        int getSizeOf(final Severity severity) {
+            return severities.getOrDefault(severity, 0);
+        }
+
+        Set<Severity> getSeverities() {
+            return new HashSet<>(severities.keySet());
+        }
+
+        Set<String> getCategories() {
+            return new HashSet<>(categories.keySet());
+        }
+
+        Set<String> getTypes() {
+            return new HashSet<>(types.keySet());
+        }
+
+        Set<String> getModules() {
+            return new HashSet<>(modules.keySet());
+        }
+
+        Set<String> getPackages() {
+            return new HashSet<>(packages.keySet());
+        }
+
+        Set<String> getFiles() {
+            return new HashSet<>(files.keySet());
+        }
+
+        Set<String> getOrigins() {
+            return new HashSet<>(origins.keySet());
+        }
+    }
+
     /**
      * Builds a combined filter based on several include and exclude filters.
      *
      * @author Raphael Furch
      */
     public static class IssueFilterBuilder {
-        private final Collection<Predicate<Issue>> includeFilters = new ArrayList<>();
-        private final Collection<Predicate<Issue>> excludeFilters = new ArrayList<>();
+        private static final Function<Issue, String> FILE_NAME = Issue::getFileName;
+        private static final Function<Issue, String> PACKAGE_NAME = Issue::getPackageName;
+        private static final Function<Issue, String> MODULE_NAME = Issue::getModuleName;
+        private static final Function<Issue, String> CATEGORY = Issue::getCategory;
+        private static final Function<Issue, String> TYPE = Issue::getType;
+        private static final Function<Issue, String> MESSAGE = Issue::getMessage;
+
+        private final Map<Function<Issue, String>, Collection<String>> includePatterns = new LinkedHashMap<>();
+        private final Map<Function<Issue, String>, Collection<String>> excludePatterns = new LinkedHashMap<>();
 
         /** Type of the filter: include or exclude elements. */
         enum FilterType {
@@ -723,29 +1001,58 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         private void addNewFilter(final Collection<String> patterns, final Function<Issue, String> propertyToFilter,
                 final FilterType type) {
-
-            Collection<Predicate<Issue>> filters = new ArrayList<>();
-            for (String pattern : patterns) {
-                filters.add(issueToFilter -> Pattern.compile(pattern)
-                        .matcher(propertyToFilter.apply(issueToFilter)).matches() == (type == FilterType.INCLUDE));
-            }
-
-            if (type == FilterType.INCLUDE) {
-                includeFilters.addAll(filters);
-            }
-            else {
-                excludeFilters.addAll(filters);
-            }
+            Map<Function<Issue, String>, Collection<String>> filters
+                    = type == FilterType.INCLUDE ? includePatterns : excludePatterns;
+            filters.computeIfAbsent(propertyToFilter, key -> new ArrayList<>()).addAll(patterns);
         }
 
         /**
-         * Create a IssueFilter. Combine by default all includes with or and all excludes with and.
+         * Create a IssueFilter. Combine by default all includes with or and all excludes with and. The patterns of
+         * each property are compiled only once, the value of each property is obtained only once for each issue.
          *
          * @return a IssueFilter which has all added filter as filter criteria.
          */
         public Predicate<Issue> build() {
-            return includeFilters.stream().reduce(Predicate::or).orElse(issue -> true)
-                    .and(excludeFilters.stream().reduce(Predicate::and).orElse(issue -> true));
+            Set<Function<Issue, String>> properties = new LinkedHashSet<>(excludePatterns.keySet());
+            properties.addAll(includePatterns.keySet());
+
+            List<PropertyFilter> filters = new ArrayList<>();
+            for (Function<Issue, String> property : properties) {
+                filters.add(new PropertyFilter(property,
+                        new PatternMatcher(includePatterns.getOrDefault(property, Collections.emptyList())),
+                        new PatternMatcher(excludePatterns.getOrDefault(property, Collections.emptyList()))));
+            }
+            boolean hasIncludes = includePatterns.values().stream().anyMatch(patterns -> !patterns.isEmpty());
+
+            return issue -> {
+                boolean isIncluded = !hasIncludes;
+                for (PropertyFilter filter : filters) {
+                    String value = filter.property.apply(issue);
+                    if (filter.exclude.matches(value)) {
+                        return false;
+                    }
+                    if (!isIncluded && filter.include.matches(value)) {
+                        isIncluded = true;
+                    }
+                }
+                return isIncluded;
+            };
+        }
+
+        /**
+         * The compiled include and exclude patterns of a property.
+         */
+        private static class PropertyFilter {
+            private final Function<Issue, String> property;
+            private final PatternMatcher include;
+            private final PatternMatcher exclude;
+
+            PropertyFilter(final Function<Issue, String> property, final PatternMatcher include,
+                    final PatternMatcher exclude) {
+                this.property = property;
+                this.include = include;
+                this.exclude = exclude;
+            }
         }
 
         //<editor-fold desc="File name">
@@ -759,7 +1066,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.INCLUDE);
+            addNewFilter(pattern, FILE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -784,7 +1091,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.EXCLUDE);
+            addNewFilter(pattern, FILE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -812,7 +1119,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.INCLUDE);
+            addNewFilter(pattern, PACKAGE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -837,7 +1144,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.EXCLUDE);
+            addNewFilter(pattern, PACKAGE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -865,7 +1172,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.INCLUDE);
+            addNewFilter(pattern, MODULE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -890,7 +1197,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.EXCLUDE);
+            addNewFilter(pattern, MODULE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -918,7 +1225,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.INCLUDE);
+            addNewFilter(pattern, CATEGORY, FilterType.INCLUDE);
             return this;
         }
 
@@ -943,7 +1250,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.EXCLUDE);
+            addNewFilter(pattern, CATEGORY, FilterType.EXCLUDE);
             return this;
         }
 
@@ -971,7 +1278,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.INCLUDE);
+            addNewFilter(pattern, TYPE, FilterType.INCLUDE);
             return this;
         }
 
@@ -996,7 +1303,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.EXCLUDE);
+            addNewFilter(pattern, TYPE, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1024,7 +1331,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeMessageFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getMessage, FilterType.INCLUDE);
+            addNewFilter(pattern, MESSAGE, FilterType.INCLUDE);
             return this;
         }
 
@@ -1049,7 +1356,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeMessageFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getMessage, FilterType.EXCLUDE);
+            addNewFilter(pattern, MESSAGE, FilterType.EXCLUDE);
             return this;
         }
 
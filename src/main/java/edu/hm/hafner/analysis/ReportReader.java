@@ -0,0 +1,208 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+
+import edu.hm.hafner.util.TreeStringBuilder;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import static edu.hm.hafner.analysis.ReportWriter.*;
+
+/**
+ * Reads issues and reports that have been written by a {@link ReportWriter}. The issues can be read one by one using
+ * {@link #read()}, so a report does not need to be kept in memory as a whole. File names, package names, messages,
+ * and descriptions of all issues of a stream share their common prefixes.
+ *
+ * @author Ullrich Hafner
+ * @see ReportWriter
+ */
+public class ReportReader implements AutoCloseable {
+    private final DataInputStream input;
+    private final List<String> strings = new ArrayList<>();
+    private final TreeStringBuilder builder = new TreeStringBuilder();
+
+    private final List<String> infoMessages = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+    private int duplicatesSize = 0;
+    private boolean isFinished = false;
+
+    /**
+     * Creates a new {@link ReportReader} and reads the header of the format.
+     *
+     * @param input
+     *         the stream to read from
+     *
+     * @throws IOException
+     *         if the header could not be read or if the stream has not been written by a {@link ReportWriter}
+     */
+    public ReportReader(final InputStream input) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(input));
+
+        if (this.input.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Stream does not contain a report");
+        }
+        int version = readInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException(String.format("Unsupported version of report format: %d", version));
+        }
+    }
+
+    /**
+     * Reads all remaining issues and properties of the stream into a new report.
+     *
+     * @return the report
+     * @throws IOException
+     *         if the stream could not be read
+     */
+    public Report readReport() throws IOException {
+        Report report = new Report();
+        for (Issue issue = read(); issue != null; issue = read()) {
+            report.add(issue);
+        }
+        for (String message : infoMessages) {
+            report.logInfo("%s", message);
+        }
+        for (String message : errorMessages) {
+            report.logError("%s", message);
+        }
+        report.addDuplicates(duplicatesSize);
+        builder.dedup();
+        return report;
+    }
+
+    /**
+     * Reads the next issue of the stream. Info and error messages that precede the issue are collected and will be
+     * added to the report that is created by {@link #readReport()}.
+     *
+     * @return the next issue, or {@code null} if the end of the stream has been reached
+     * @throws IOException
+     *         if the stream could not be read
+     */
+    @Nullable
+    public Issue read() throws IOException {
+        while (!isFinished) {
+            int record = readInt();
+            switch (record) {
+                case ISSUE:
+                    return readIssue();
+                case INFO_MESSAGE:
+                    infoMessages.add(readString());
+                    break;
+                case ERROR_MESSAGE:
+                    errorMessages.add(readString());
+                    break;
+                case DUPLICATES:
+                    duplicatesSize += readInt();
+                    break;
+                case END:
+                    isFinished = true;
+                    break;
+                default:
+                    throw new StreamCorruptedException(String.format("Unknown record type: %d", record));
+            }
+        }
+        return null;
+    }
+
+    private Issue readIssue() throws IOException {
+        UUID id = new UUID(input.readLong(), input.readLong());
+
+        String fileName = readString();
+        int lineStart = readInt();
+        int lineEnd = lineStart + readInt();
+        int columnStart = readInt();
+        int columnEnd = columnStart + readInt();
+
+        int size = readInt();
+        LineRangeList lineRanges = new LineRangeList(size * 2);
+        for (int i = 0; i < size; i++) {
+            int start = toSigned(readInt());
+            lineRanges.add(new LineRange(start, start + readInt()));
+        }
+
+        String category = readString();
+        String type = readString();
+        String packageName = readString();
+        String moduleName = readString();
+        Severity severity = Severity.valueOf(readString());
+        String message = readString();
+        String description = readString();
+        String origin = readString();
+        String reference = readString();
+        String fingerprint = readString();
+        Serializable additionalProperties = readAdditionalProperties();
+
+        return new Issue(fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type,
+                packageName, moduleName, severity, message, description, origin, reference, fingerprint,
+                additionalProperties, id, builder);
+    }
+
+    @Nullable
+    private Serializable readAdditionalProperties() throws IOException {
+        int kind = readInt();
+        switch (kind) {
+            case NO_PROPERTIES:
+                return null;
+            case STRING_PROPERTIES:
+                return readString();
+            case SERIALIZED_PROPERTIES:
+                byte[] serialized = new byte[readInt()];
+                input.readFully(serialized);
+                try {
+                    return SerializationUtils.deserialize(serialized);
+                }
+                catch (SerializationException exception) {
+                    throw new IOException(exception);
+                }
+            default:
+                throw new StreamCorruptedException(String.format("Unknown kind of additional properties: %d", kind));
+        }
+    }
+
+    private String readString() throws IOException {
+        int reference = readInt();
+        if (reference > 0) {
+            if (reference > strings.size()) {
+                throw new StreamCorruptedException(String.format("Unknown string reference: %d", reference));
+            }
+            return strings.get(reference - 1);
+        }
+        byte[] bytes = new byte[readInt()];
+        input.readFully(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(value);
+        return value;
+    }
+
+    private int readInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int next = input.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length integer");
+    }
+
+    private static int toSigned(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
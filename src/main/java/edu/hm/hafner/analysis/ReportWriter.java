@@ -0,0 +1,220 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Writes issues and reports using a compact binary format. In contrast to the default Java serialization of {@link
+ * Report} and {@link Issue}, the format does not contain field names or class descriptors, and each distinct string
+ * (file name, package, module, category, type, message, etc.) is written only once. Line and column numbers are stored
+ * as variable length integers. The issues can be read one by one using a {@link ReportReader}.
+ * <p>
+ * The format starts with a header (magic number and version), followed by a sequence of records: issues, info and
+ * error messages, and the number of duplicates of a report. The last record marks the end of the stream. A string is
+ * written at its first occurrence and is referenced by its index in the string table of the stream afterwards. Issues
+ * are written with all properties, including their ID. Additional properties that are not strings are written using
+ * Java serialization.
+ * </p>
+ * <p>
+ * A writer can be used as {@link IssueConsumer} so that the issues of a parser are written while the report file is
+ * parsed.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ * @see ReportReader
+ */
+public class ReportWriter implements IssueConsumer, AutoCloseable {
+    static final int MAGIC = 0x414D5246; // AMRF
+    static final int VERSION = 1;
+
+    static final int END = 0;
+    static final int ISSUE = 1;
+    static final int INFO_MESSAGE = 2;
+    static final int ERROR_MESSAGE = 3;
+    static final int DUPLICATES = 4;
+
+    static final int NO_PROPERTIES = 0;
+    static final int STRING_PROPERTIES = 1;
+    static final int SERIALIZED_PROPERTIES = 2;
+
+    private final DataOutputStream output;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    /**
+     * Creates a new {@link ReportWriter} and writes the header of the format.
+     *
+     * @param output
+     *         the stream to write to
+     *
+     * @throws IOException
+     *         if the header could not be written
+     */
+    public ReportWriter(final OutputStream output) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+
+        this.output.writeInt(MAGIC);
+        writeInt(VERSION);
+    }
+
+    /**
+     * Writes the issues and the properties (messages and number of duplicates) of the specified report.
+     *
+     * @param report
+     *         the report to write
+     *
+     * @throws IOException
+     *         if the report could not be written
+     */
+    public void write(final Report report) throws IOException {
+        for (Issue issue : report) {
+            write(issue);
+        }
+        for (String message : report.getInfoMessages()) {
+            writeInt(INFO_MESSAGE);
+            writeString(message);
+        }
+        for (String message : report.getErrorMessages()) {
+            writeInt(ERROR_MESSAGE);
+            writeString(message);
+        }
+        if (report.getDuplicatesSize() > 0) {
+            writeInt(DUPLICATES);
+            writeInt(report.getDuplicatesSize());
+        }
+    }
+
+    /**
+     * Writes the specified issue.
+     *
+     * @param issue
+     *         the issue to write
+     *
+     * @throws IOException
+     *         if the issue could not be written
+     */
+    public void write(final Issue issue) throws IOException {
+        writeInt(ISSUE);
+
+        output.writeLong(issue.getId().getMostSignificantBits());
+        output.writeLong(issue.getId().getLeastSignificantBits());
+
+        writeString(issue.getFileName());
+        writeInt(issue.getLineStart());
+        writeInt(issue.getLineEnd() - issue.getLineStart());
+        writeInt(issue.getColumnStart());
+        writeInt(issue.getColumnEnd() - issue.getColumnStart());
+
+        writeInt(issue.getLineRanges().size());
+        for (LineRange lineRange : issue.getLineRanges()) {
+            writeInt(toUnsigned(lineRange.getStart()));
+            writeInt(lineRange.getEnd() - lineRange.getStart());
+        }
+
+        writeString(issue.getCategory());
+        writeString(issue.getType());
+        writeString(issue.getPackageName());
+        writeString(issue.getModuleName());
+        writeString(issue.getSeverity().getName());
+        writeString(issue.getMessage());
+        writeString(issue.getDescription());
+        writeString(issue.getOrigin());
+        writeString(issue.getReference());
+        writeString(issue.getFingerprint());
+
+        writeAdditionalProperties(issue.getAdditionalProperties());
+    }
+
+    /**
+     * Writes the specified issue. Errors are thrown as {@link UncheckedIOException}.
+     *
+     * @param issue
+     *         the issue to write
+     */
+    @Override
+    public void accept(final Issue issue) {
+        try {
+            write(issue);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeAdditionalProperties(@Nullable final Serializable additionalProperties) throws IOException {
+        if (additionalProperties == null) {
+            writeInt(NO_PROPERTIES);
+        }
+        else if (additionalProperties instanceof String) {
+            writeInt(STRING_PROPERTIES);
+            writeString((String) additionalProperties);
+        }
+        else {
+            writeInt(SERIALIZED_PROPERTIES);
+            byte[] serialized = SerializationUtils.serialize(additionalProperties);
+            writeInt(serialized.length);
+            output.write(serialized);
+        }
+    }
+
+    /**
+     * Writes a reference to the specified string. The first occurrence of a string is written as 0 followed by the
+     * UTF-8 encoded characters, subsequent occurrences are written as index in the string table plus 1.
+     */
+    private void writeString(final String value) throws IOException {
+        Integer index = strings.get(value);
+        if (index == null) {
+            strings.put(value, strings.size());
+            writeInt(0);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            output.write(bytes);
+        }
+        else {
+            writeInt(index + 1);
+        }
+    }
+
+    /**
+     * Writes a non-negative integer as a sequence of 7 bit groups, least significant group first. The highest bit of
+     * each byte is set if more bytes follow.
+     */
+    private void writeInt(final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            output.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.write(remaining);
+    }
+
+    private static int toUnsigned(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Writes the end of the stream and closes the underlying stream.
+     *
+     * @throws IOException
+     *         if the stream could not be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeInt(END);
+        }
+        finally {
+            output.close();
+        }
+    }
+}
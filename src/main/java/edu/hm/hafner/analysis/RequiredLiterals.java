@@ -0,0 +1,321 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Derives literal strings from a regular expression so that every text that is matched by the regular expression
+ * contains at least one of these literals. Such literals can be used to skip texts without evaluating the regular
+ * expression. The analysis is conservative: if the regular expression uses constructs that are not supported (inline
+ * flags, quotes, unicode or octal escapes, back references), or if there is no literal that is required by every
+ * match, then an empty set is returned.
+ *
+ * @author Ullrich Hafner
+ */
+final class RequiredLiterals {
+    private static final String UNSUPPORTED_ESCAPES = "0123456789xucpPkNQEg";
+
+    /**
+     * Returns literals so that every text that is matched by the specified regular expression contains at least one
+     * of these literals.
+     *
+     * @param regexp
+     *         the regular expression
+     *
+     * @return the required literals, or an empty set if the literals could not be derived
+     */
+    static Set<String> of(final String regexp) {
+        try {
+            RegexpScanner scanner = new RegexpScanner(regexp);
+            Set<String> literals = scanner.parseAlternation();
+            if (literals == null || !scanner.isAtEnd()) {
+                return Collections.emptySet();
+            }
+            return minimize(literals);
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Removes all literals that contain another literal of the set: if the longer literal is part of a text, then the
+     * shorter one is as well.
+     */
+    private static Set<String> minimize(final Set<String> literals) {
+        Set<String> minimized = new TreeSet<>();
+        for (String literal : literals) {
+            boolean containsOther = false;
+            for (String other : literals) {
+                if (!other.equals(literal) && literal.contains(other)) {
+                    containsOther = true;
+                    break;
+                }
+            }
+            if (!containsOther) {
+                minimized.add(literal);
+            }
+        }
+        return minimized;
+    }
+
+    private RequiredLiterals() {
+        // prevents instantiation
+    }
+
+    /**
+     * A simple recursive descent parser for regular expressions that computes the required literals of each
+     * sub-expression.
+     */
+    private static class RegexpScanner {
+        private static final int NO_QUANTIFIER = -1;
+
+        private final String regexp;
+        private int position = 0;
+
+        RegexpScanner(final String regexp) {
+            this.regexp = regexp;
+        }
+
+        boolean isAtEnd() {
+            return position >= regexp.length();
+        }
+
+        private char peek() {
+            return regexp.charAt(position);
+        }
+
+        private boolean consume(final char expected) {
+            if (!isAtEnd() && peek() == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Parses a list of alternatives. Each match contains one of the literals of any alternative.
+         *
+         * @return the required literals, or {@code null} if there are none
+         */
+        @Nullable
+        Set<String> parseAlternation() {
+            Set<String> literals = new HashSet<>();
+            boolean isUnknown = false;
+            do {
+                Set<String> alternative = parseSequence();
+                if (alternative == null) {
+                    isUnknown = true;
+                }
+                else {
+                    literals.addAll(alternative);
+                }
+            }
+            while (consume('|'));
+
+            return isUnknown ? null : literals;
+        }
+
+        /**
+         * Parses a sequence of atoms. Each match contains the literals of every mandatory atom, so the best candidate
+         * of all atoms is returned.
+         *
+         * @return the required literals, or {@code null} if there are none
+         */
+        @Nullable
+        private Set<String> parseSequence() {
+            Set<String> best = null;
+            StringBuilder run = new StringBuilder();
+            while (!isAtEnd() && peek() != '|' && peek() != ')') {
+                char character = regexp.charAt(position++);
+                if (character == '(') {
+                    Set<String> group = parseGroup();
+                    best = endRun(best, run);
+                    if (parseQuantifier() != 0 && group != null) {
+                        best = select(best, group);
+                    }
+                }
+                else if (character == '[') {
+                    skipCharacterClass();
+                    best = endRun(best, run);
+                    parseQuantifier();
+                }
+                else if (character == '\\') {
+                    char escaped = regexp.charAt(position++);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        if (UNSUPPORTED_ESCAPES.indexOf(escaped) >= 0) {
+                            throw new IllegalArgumentException("Unsupported escape: " + escaped);
+                        }
+                        best = endRun(best, run);
+                        parseQuantifier();
+                    }
+                    else {
+                        best = appendLiteral(best, run, escaped);
+                    }
+                }
+                else if (character == '.' || character == '^' || character == '$') {
+                    best = endRun(best, run);
+                    parseQuantifier();
+                }
+                else if ("?*+{".indexOf(character) >= 0) {
+                    throw new IllegalArgumentException("Dangling quantifier at " + position);
+                }
+                else {
+                    best = appendLiteral(best, run, character);
+                }
+            }
+            return endRun(best, run);
+        }
+
+        @Nullable
+        private Set<String> appendLiteral(@Nullable final Set<String> best, final StringBuilder run,
+                final char literal) {
+            int minimum = parseQuantifier();
+            if (minimum == NO_QUANTIFIER) {
+                run.append(literal);
+                return best;
+            }
+            if (minimum > 0) {
+                run.append(literal);
+            }
+            return endRun(best, run);
+        }
+
+        @Nullable
+        private Set<String> endRun(@Nullable final Set<String> best, final StringBuilder run) {
+            if (run.length() == 0) {
+                return best;
+            }
+            Set<String> literal = Collections.singleton(run.toString());
+            run.setLength(0);
+
+            return select(best, literal);
+        }
+
+        /**
+         * Selects the better set of literals: the shortest literal should be as long as possible, and the number of
+         * literals as small as possible.
+         */
+        private Set<String> select(@Nullable final Set<String> best, final Set<String> candidate) {
+            if (best == null) {
+                return candidate;
+            }
+            int bestLength = getMinimumLength(best);
+            int candidateLength = getMinimumLength(candidate);
+            if (candidateLength > bestLength
+                    || candidateLength == bestLength && candidate.size() < best.size()) {
+                return candidate;
+            }
+            return best;
+        }
+
+        private int getMinimumLength(final Set<String> literals) {
+            int minimum = Integer.MAX_VALUE;
+            for (String literal : literals) {
+                minimum = Math.min(minimum, literal.length());
+            }
+            return minimum;
+        }
+
+        /**
+         * Parses a group, the opening parenthesis has been consumed already.
+         *
+         * @return the required literals of the group, or {@code null} if there are none
+         */
+        @Nullable
+        private Set<String> parseGroup() {
+            boolean isLookaround = false;
+            if (consume('?')) {
+                if (consume('=') || consume('!')) {
+                    isLookaround = true;
+                }
+                else if (consume('<')) {
+                    if (consume('=') || consume('!')) {
+                        isLookaround = true;
+                    }
+                    else {
+                        skipGroupName();
+                    }
+                }
+                else if (!consume(':') && !consume('>')) {
+                    throw new IllegalArgumentException("Inline flags are not supported");
+                }
+            }
+            Set<String> literals = parseAlternation();
+            if (!consume(')')) {
+                throw new IllegalArgumentException("Unclosed group");
+            }
+            return isLookaround ? null : literals;
+        }
+
+        private void skipGroupName() {
+            while (regexp.charAt(position) != '>') {
+                position++;
+            }
+            position++;
+        }
+
+        /**
+         * Skips a character class, the opening bracket has been consumed already.
+         */
+        private void skipCharacterClass() {
+            int depth = 1;
+            while (depth > 0) {
+                char character = regexp.charAt(position++);
+                if (character == '\\') {
+                    position++;
+                }
+                else if (character == '[') {
+                    depth++;
+                }
+                else if (character == ']') {
+                    depth--;
+                }
+            }
+        }
+
+        /**
+         * Parses an optional quantifier.
+         *
+         * @return the minimum number of repetitions, or {@link #NO_QUANTIFIER} if there is no quantifier
+         */
+        private int parseQuantifier() {
+            if (isAtEnd()) {
+                return NO_QUANTIFIER;
+            }
+            int minimum;
+            char character = peek();
+            if (character == '?' || character == '*') {
+                minimum = 0;
+                position++;
+            }
+            else if (character == '+') {
+                minimum = 1;
+                position++;
+            }
+            else if (character == '{') {
+                position++;
+                int start = position;
+                while (Character.isDigit(peek())) {
+                    position++;
+                }
+                minimum = Integer.parseInt(regexp.substring(start, position));
+                while (regexp.charAt(position) != '}') {
+                    position++;
+                }
+                position++;
+            }
+            else {
+                return NO_QUANTIFIER;
+            }
+            if (!consume('?')) {
+                consume('+');
+            }
+            return minimum;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Reads an XML document element by element using a StAX {@link XMLStreamReader}. In contrast to a {@link
+ * SecureDigester}, no object tree is created: parsers read the attributes and texts of the elements while the document
+ * is streamed. Just like the {@link SecureDigester}, the reader does not resolve external entities and does not
+ * process document type definitions, so it is not vulnerable to XXE attacks.
+ * <p>
+ * The reader keeps track of the path of the current element, so parsers can use the same patterns (e.g. {@code
+ * checkstyle/file/error}) that have been used for the digester rules.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class SecureXmlStreamReader implements AutoCloseable {
+    private static final char SEPARATOR = '/';
+
+    private final XMLStreamReader reader;
+    private final StringBuilder path = new StringBuilder();
+    private int depth = 0;
+
+    /**
+     * Creates a new instance of {@link SecureXmlStreamReader}.
+     *
+     * @param input
+     *         the XML document to read
+     *
+     * @throws ParsingException
+     *         if the document could not be opened
+     */
+    public SecureXmlStreamReader(final Reader input) {
+        try {
+            reader = createFactory().createXMLStreamReader(input);
+        }
+        catch (XMLStreamException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_VALIDATING, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setXMLResolver((publicId, systemId, baseUri, namespace) -> new ByteArrayInputStream(new byte[0]));
+        return factory;
+    }
+
+    /**
+     * Advances to the start of the next element in document order. The end tags of the elements that are passed are
+     * skipped.
+     *
+     * @return {@code true} if the reader has been positioned at the next element, {@code false} if the end of the
+     *         document has been reached
+     * @throws ParsingException
+     *         if the document is not well-formed
+     */
+    public boolean nextElement() {
+        return nextElement(0);
+    }
+
+    /**
+     * Advances to the start of the next element in document order that is nested in the element at the specified
+     * depth. If the end of the element at the specified depth is reached before, then the reader stops there. This
+     * method is used to iterate over the descendants of an element:
+     * <pre>
+     * int depth = xml.getDepth();
+     * while (xml.nextElement(depth)) {
+     *     // evaluate the descendant
+     * }
+     * </pre>
+     *
+     * @param parentDepth
+     *         the depth of the parent element, see {@link #getDepth()}
+     *
+     * @return {@code true} if the reader has been positioned at the next nested element, {@code false} if the end of
+     *         the parent element or the end of the document has been reached
+     * @throws ParsingException
+     *         if the document is not well-formed
+     */
+    public boolean nextElement(final int parentDepth) {
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    enter();
+                    return true;
+                }
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    leave();
+                    if (depth < parentDepth) {
+                        return false;
+                    }
+                }
+            }
+            return false;
+        }
+        catch (XMLStreamException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private void enter() {
+        if (path.length() > 0) {
+            path.append(SEPARATOR);
+        }
+        path.append(reader.getLocalName());
+        depth++;
+    }
+
+    private void leave() {
+        path.setLength(Math.max(0, path.lastIndexOf(String.valueOf(SEPARATOR))));
+        depth--;
+    }
+
+    /**
+     * Returns the depth of the current element. The root element has the depth 1.
+     *
+     * @return the depth of the current element
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns whether the current element is located at the specified path. The path consists of the names of all
+     * elements starting with the root element, separated by a slash, e.g. {@code checkstyle/file/error}.
+     *
+     * @param elementPath
+     *         the path of the element
+     *
+     * @return {@code true} if the current element is located at the specified path
+     */
+    public boolean isAt(final String elementPath) {
+        return path.length() == elementPath.length() && elementPath.contentEquals(path);
+    }
+
+    /**
+     * Returns the name of the current element.
+     *
+     * @return the local name of the current element
+     */
+    public String getName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Returns the value of the specified attribute of the current element.
+     *
+     * @param name
+     *         the name of the attribute
+     *
+     * @return the value of the attribute, or {@code null} if the element has no such attribute
+     */
+    @Nullable
+    public String getAttribute(final String name) {
+        return reader.getAttributeValue(null, name);
+    }
+
+    /**
+     * Returns the integer value of the specified attribute of the current element.
+     *
+     * @param name
+     *         the name of the attribute
+     *
+     * @return the value of the attribute, or 0 if the element has no such attribute or the value is not an integer
+     */
+    public int getIntAttribute(final String name) {
+        return toInt(getAttribute(name));
+    }
+
+    /**
+     * Reads the text of the current element. Whitespace at the beginning and the end of the text is removed. The text
+     * of child elements is skipped. After this method returns, the reader is positioned at the end of the current
+     * element.
+     *
+     * @return the text of the current element
+     * @throws ParsingException
+     *         if the document is not well-formed
+     */
+    public String getText() {
+        return readText(false).trim();
+    }
+
+    /**
+     * Reads the text content of the current element, i.e. the text of the current element and the text of all
+     * descendants. Whitespace is retained. After this method returns, the reader is positioned at the end of the
+     * current element.
+     *
+     * @return the text content of the current element
+     * @throws ParsingException
+     *         if the document is not well-formed
+     */
+    public String getTextContent() {
+        return readText(true);
+    }
+
+    private String readText(final boolean includeDescendants) {
+        try {
+            StringBuilder text = new StringBuilder();
+            int nesting = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    nesting++;
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (nesting == 0) {
+                        leave();
+                        break;
+                    }
+                    nesting--;
+                }
+                else if ((nesting == 0 || includeDescendants) && isText(event)) {
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+            }
+            return text.toString();
+        }
+        catch (XMLStreamException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private boolean isText(final int event) {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE;
+    }
+
+    /**
+     * Reads the text of the current element and converts it to an integer. After this method returns, the reader is
+     * positioned at the end of the current element.
+     *
+     * @return the text of the current element, or 0 if the text is not an integer
+     * @throws ParsingException
+     *         if the document is not well-formed
+     */
+    public int getIntText() {
+        return toInt(getText());
+    }
+
+    private int toInt(@Nullable final String value) {
+        try {
+            return Integer.parseInt(StringUtils.trim(value));
+        }
+        catch (NumberFormatException exception) {
+            return 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        }
+        catch (XMLStreamException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+}
@@ -26,6 +26,11 @@ public class AcuCobolParser extends RegexpLineParser {
         super(ACU_COBOL_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("Warning");
@@ -27,6 +27,11 @@ public class AnsibleLintParser extends RegexpLineParser {
         super(ANSIBLE_LINT_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("[");
@@ -33,6 +33,11 @@ public class AntJavacParser extends RegexpLineParser {
         super(ANT_JAVAC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("warning") || line.contains("error") || line.contains("\u8b66\u544a");
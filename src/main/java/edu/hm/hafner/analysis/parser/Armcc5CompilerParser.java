@@ -25,6 +25,11 @@ public class Armcc5CompilerParser extends RegexpLineParser {
         super(ARMCC5_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("#");
@@ -26,6 +26,16 @@ public class ArmccCompilerParser extends RegexpLineParser {
         super(ARMCC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String type = matcher.group(3);
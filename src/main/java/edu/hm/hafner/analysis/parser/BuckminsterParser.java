@@ -26,6 +26,16 @@ public class BuckminsterParser extends RegexpLineParser {
         super(BUCKMINSTER_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority = "Error".equalsIgnoreCase(matcher.group(1)) ? Severity.WARNING_HIGH : Severity.WARNING_NORMAL;
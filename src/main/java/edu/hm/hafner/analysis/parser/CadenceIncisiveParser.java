@@ -40,6 +40,16 @@ public class CadenceIncisiveParser extends RegexpLineParser {
         super(CADENCE_MESSAGE_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String tool;
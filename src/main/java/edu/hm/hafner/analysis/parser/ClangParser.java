@@ -28,6 +28,16 @@ public class ClangParser extends RegexpLineParser {
         super(CLANG_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String message = matcher.group(5);
@@ -27,6 +27,16 @@ public class ClangTidyParser extends RegexpLineParser {
         super(CLANG_TIDY_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority;
@@ -25,6 +25,11 @@ public class CoolfluxChessccParser extends RegexpLineParser {
         super(CHESSCC_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("Warning");
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.RegExUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -27,6 +28,8 @@ public class EclipseMavenParser extends LookaheadParser {
 
     private static final String ECLIPSE_FIRST_LINE_REGEXP =
             "\\s*\\[(?<severity>WARNING|ERROR|INFO)\\]\\s*(?<file>.*):\\[(?<line>\\d+)(?:,\\d+)?\\](?<message>.*)";
+    private static final Pattern CODE_LINE = Pattern.compile("^\\t.*$");
+    private static final Pattern CODE_PREFIX = Pattern.compile(".*\\t");
 
     @Override
     public boolean accepts(final ReaderFactory readerFactory) {
@@ -40,6 +43,11 @@ public class EclipseMavenParser extends LookaheadParser {
         super(ECLIPSE_FIRST_LINE_REGEXP);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains(WARNING) || line.contains(ERROR) || line.contains(INFO);
@@ -58,13 +66,13 @@ public class EclipseMavenParser extends LookaheadParser {
         }
         else { // multi line format
             List<String> code = new ArrayList<>();
-            while (lookahead.hasNext("^\\t.*$") && lookahead.hasNext()) {
+            while (lookahead.hasNext(CODE_LINE) && lookahead.hasNext()) {
                 code.add(lookahead.next());
             }
             builder.setAdditionalProperties(code.hashCode());
 
             if (lookahead.hasNext()) {
-                extractMessage(builder, RegExUtils.removeFirst(lookahead.next(), ".*\\t"));
+                extractMessage(builder, RegExUtils.removeFirst(lookahead.next(), CODE_PREFIX));
             }
         }
 
@@ -23,6 +23,8 @@ public class EclipseParser extends LookaheadParser {
 
     private static final String ECLIPSE_FIRST_LINE_REGEXP =
             ".*\\d+\\.\\s*(?<severity>WARNING|ERROR|INFO) in (?<file>.*)\\s*\\(at line (?<line>\\d+)\\)";
+    private static final Pattern SEPARATOR = Pattern.compile("^.*----------.*$");
+    private static final Pattern ANT_MESSAGE = Pattern.compile("^(?:.*\\[.*\\])?\\s*(.*)");
 
     static final String WARNING = "WARNING";
     static final String ERROR = "ERROR";
@@ -40,6 +42,11 @@ public class EclipseParser extends LookaheadParser {
         super(ECLIPSE_FIRST_LINE_REGEXP);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains(WARNING) || line.contains(ERROR) || line.contains(INFO);
@@ -53,7 +60,7 @@ public class EclipseParser extends LookaheadParser {
                 .setLineStart(matcher.group("line"));
 
         List<String> context = new ArrayList<>();
-        while (!lookahead.hasNext("^.*----------.*$") && lookahead.hasNext()) {
+        while (!lookahead.hasNext(SEPARATOR) && lookahead.hasNext()) {
             context.add(lookahead.next());
         }
 
@@ -66,8 +73,7 @@ public class EclipseParser extends LookaheadParser {
     }
 
     static void extractMessage(final IssueBuilder builder, final String message) {
-        Pattern ant = Pattern.compile("^(?:.*\\[.*\\])?\\s*(.*)");
-        Matcher messageMatcher = ant.matcher(message);
+        Matcher messageMatcher = ANT_MESSAGE.matcher(message);
         if (messageMatcher.matches()) {
             builder.setMessage(messageMatcher.group(1));
         }
@@ -1,20 +1,17 @@
 package edu.hm.hafner.analysis.parser;
 
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.Reader;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.util.XmlElementUtil;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 
 /**
  * Parser for Eclipse Compiler output in XML format.
@@ -31,50 +28,52 @@ public class EclipseXMLParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        try {
-            Document doc = readerFactory.readDocument();
-
-            XPathFactory xPathFactory = XPathFactory.newInstance();
-            XPath xPath = xPathFactory.newXPath();
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
 
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
             IssueBuilder issueBuilder = new IssueBuilder();
-            Report report = new Report();
 
-            NodeList sources = (NodeList)xPath.evaluate("/compiler/sources/source[problems]", doc,
-                    XPathConstants.NODESET);
-            for (Element source : XmlElementUtil.nodeListToList(sources)) {
-                String fileName = xPath.evaluate("@path", source);
-                issueBuilder.setFileName(fileName);
-
-                NodeList problems = (NodeList)xPath.evaluate("problems/problem", source, XPathConstants.NODESET);
-                for (Element problem : XmlElementUtil.nodeListToList(problems)) {
-                    issueBuilder.guessSeverity(xPath.evaluate("@severity", problem))
-                            .setLineStart(xPath.evaluate("@line", problem))
-                            .setMessage(xPath.evaluate("message/@value", problem));
+            while (xml.nextElement()) {
+                if (xml.isAt("compiler/sources/source")) {
+                    issueBuilder.setFileName(StringUtils.defaultString(xml.getAttribute("path")));
+                }
+                else if (xml.isAt("compiler/sources/source/problems/problem")) {
+                    issueBuilder.guessSeverity(StringUtils.defaultString(xml.getAttribute("severity")))
+                            .setLineStart(StringUtils.defaultString(xml.getAttribute("line")));
 
-                    // Use columns to make issue 'unique', range isn't useful for counting in the physical source.
-                    StringBuilder range = new StringBuilder();
-                    String colStart = xPath.evaluate("source_context/@sourceStart", problem);
-                    if (colStart != null) {
-                        range.append(colStart);
-                    }
-                    range.append('-');
-                    String colEnd = xPath.evaluate("source_context/@sourceEnd", problem);
-                    if (colEnd != null) {
-                        range.append(colEnd);
+                    String message = null;
+                    String colStart = null;
+                    String colEnd = null;
+                    int depth = xml.getDepth();
+                    while (xml.nextElement(depth)) {
+                        boolean isChild = xml.getDepth() == depth + 1;
+                        if (isChild && message == null && "message".equals(xml.getName())) {
+                            message = xml.getAttribute("value");
+                        }
+                        else if (isChild && colStart == null && colEnd == null
+                                && "source_context".equals(xml.getName())) {
+                            colStart = xml.getAttribute("sourceStart");
+                            colEnd = xml.getAttribute("sourceEnd");
+                        }
                     }
-                    issueBuilder.setAdditionalProperties(range.toString());
+                    issueBuilder.setMessage(StringUtils.defaultString(message));
 
+                    // Use columns to make issue 'unique', range isn't useful for counting in the physical source.
+                    issueBuilder.setAdditionalProperties(
+                            StringUtils.defaultString(colStart) + '-' + StringUtils.defaultString(colEnd));
 
-                    report.add(issueBuilder.build());
+                    consumer.accept(issueBuilder.build());
                 }
             }
-
-            return report;
         }
-        catch (XPathExpressionException e) {
-            throw new ParsingException(e);
+        catch (IOException exception) {
+            throw new ParsingException(exception);
         }
     }
-
 }
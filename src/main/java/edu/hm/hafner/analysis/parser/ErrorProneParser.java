@@ -21,6 +21,7 @@ public class ErrorProneParser extends LookaheadParser {
     private static final long serialVersionUID = 8434408068719510740L;
 
     private static final Pattern URL_PATTERN = Pattern.compile("\\s+\\(see (?<url>http\\S+)\\s*\\)");
+    private static final Pattern DESCRIPTION_PATTERN = Pattern.compile("^\\s+.*");
     private static final Pattern FIX_PATTERN = Pattern.compile("\\s+Did you mean '(?<code>.*)'\\?");
     private static final String WARNINGS_PATTERN
             = "^(?:\\[\\p{Alnum}*\\]\\s+)?"
@@ -37,6 +38,16 @@ public class ErrorProneParser extends LookaheadParser {
         super(WARNINGS_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) throws ParsingException {
@@ -48,7 +59,7 @@ public class ErrorProneParser extends LookaheadParser {
         builder.guessSeverity(matcher.group("severity"));
         StringBuilder description = new StringBuilder();
         StringBuilder url = new StringBuilder();
-        while (lookahead.hasNext("^\\s+.*")) {
+        while (lookahead.hasNext(DESCRIPTION_PATTERN)) {
             String line = lookahead.next();
             Matcher urlMatcher = URL_PATTERN.matcher(line);
             if (urlMatcher.matches()) {
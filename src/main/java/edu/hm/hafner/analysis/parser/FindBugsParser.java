@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,7 +44,9 @@ import edu.umd.cs.findbugs.ba.SourceFinder;
 import static edu.hm.hafner.analysis.parser.FindBugsParser.PriorityProperty.*;
 
 /**
- * A parser for the native FindBugs XML files.
+ * A parser for the native FindBugs XML files. Files of recent SpotBugs versions are read in a single pass with a
+ * {@link SpotBugsXmlScanner}. Files that do not contain all required properties of the bug instances are read using
+ * the FindBugs library.
  *
  * @author Ullrich Hafner
  */
@@ -102,6 +105,37 @@ public class FindBugsParser extends IssueParser {
     @VisibleForTesting
     Report parse(final ReaderFactory readerFactory, final Collection<String> sources, final IssueBuilder builder)
             throws ParsingException {
+        try (Reader input = readerFactory.create()) {
+            Optional<Report> report = new SpotBugsXmlScanner(priorityProperty, sources, builder).scan(input);
+            if (report.isPresent()) {
+                return report.get();
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+
+        return parseWithLibrary(readerFactory, sources, builder);
+    }
+
+    /**
+     * Parses the FindBugs analysis file using the FindBugs library. This requires two passes: the first pass reads
+     * the messages and categories that are not available from the FindBugs library, the second pass reads the whole
+     * FindBugs model. This is required only for files that do not contain all properties of the bug instances, e.g.
+     * files without messages or files of old FindBugs versions.
+     *
+     * @param readerFactory
+     *         the FindBugs analysis file
+     * @param sources
+     *         a collection of folders to scan for source files
+     * @param builder
+     *         the issue builder
+     *
+     * @return the parsed result
+     */
+    @VisibleForTesting
+    Report parseWithLibrary(final ReaderFactory readerFactory, final Collection<String> sources,
+            final IssueBuilder builder) {
         Map<String, String> hashToMessageMapping = new HashMap<>();
         Map<String, String> categories = new HashMap<>();
 
@@ -224,10 +258,10 @@ public class FindBugsParser extends IssueParser {
 
     private Severity getPriority(final BugInstance warning) {
         if (priorityProperty == RANK) {
-            return getPriorityByRank(warning);
+            return getPriorityByRank(warning.getBugRank());
         }
         else {
-            return getPriorityByPriority(warning);
+            return getPriorityByPriority(warning.getPriority());
         }
     }
 
@@ -332,13 +366,12 @@ public class FindBugsParser extends IssueParser {
     /**
      * Maps the FindBugs library rank to plug-in priority enumeration.
      *
-     * @param warning
-     *         the FindBugs warning
+     * @param rank
+     *         the rank of the FindBugs warning
      *
      * @return mapped priority enumeration
      */
-    private Severity getPriorityByRank(final BugInstance warning) {
-        int rank = warning.getBugRank();
+    static Severity getPriorityByRank(final int rank) {
         if (rank <= HIGH_PRIORITY_LOWEST_RANK) {
             return Severity.WARNING_HIGH;
         }
@@ -351,13 +384,13 @@ public class FindBugsParser extends IssueParser {
     /**
      * Maps the FindBugs library priority to plug-in priority enumeration.
      *
-     * @param warning
-     *         the FindBugs warning
+     * @param priority
+     *         the priority (confidence) of the FindBugs warning
      *
      * @return mapped priority enumeration
      */
-    private Severity getPriorityByPriority(final BugInstance warning) {
-        switch (warning.getPriority()) {
+    static Severity getPriorityByPriority(final int priority) {
+        switch (priority) {
             case 1:
                 return Severity.WARNING_HIGH;
             case 2:
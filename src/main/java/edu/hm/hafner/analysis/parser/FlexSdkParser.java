@@ -25,6 +25,11 @@ public class FlexSdkParser extends RegexpLineParser {
         super(FLEX_SDK_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("Warning");
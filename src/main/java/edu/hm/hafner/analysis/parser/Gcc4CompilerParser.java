@@ -28,6 +28,11 @@ public class Gcc4CompilerParser extends RegexpLineParser {
         super(GCC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("warning") || line.contains("error");
@@ -28,6 +28,11 @@ public class IarParser extends RegexpLineParser {
         super(IAR_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("Warning") || line.contains("rror") || line.contains("Remark");
@@ -1,20 +1,24 @@
 package edu.hm.hafner.analysis.parser;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.hm.hafner.analysis.Severity;
-import edu.hm.hafner.util.XmlElementUtil;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * A parser for IntelliJ IDEA inspections.
@@ -26,31 +30,64 @@ public class IdeaInspectionParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Document document = readerFactory.readDocument();
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            while (xml.nextElement()) {
+                if ("problems".equals(xml.getName())) {
+                    parseProblems(xml, consumer);
+                    return;
+                }
+            }
+            throw new ParsingException("Input stream is not an IntelliJ IDEA inspection file.");
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
 
-        Element rootElement = (Element) document.getElementsByTagName("problems").item(0);
-        return parseProblems(XmlElementUtil.getChildElementsByName(rootElement, "problem"));
+    private void parseProblems(final SecureXmlStreamReader xml, final IssueConsumer consumer) {
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1 && "problem".equals(xml.getName())) {
+                parseProblem(xml).ifPresent(consumer::accept);
+            }
+        }
     }
 
-    private Report parseProblems(final List<Element> elements) {
-        Report problems = new Report();
-        for (Element element : elements) {
-            String file = getChildValue(element, "file");
-            Optional<Element> problemClass = XmlElementUtil.getFirstChildElementByName(element, "problem_class");
-            if (problemClass.isPresent()) {
-                Element problem = problemClass.get();
-                IssueBuilder builder = new IssueBuilder().setFileName(file)
-                        .setLineStart(Integer.parseInt(getChildValue(element, "line")))
-                        .setCategory(StringEscapeUtils.unescapeXml(getValue(problem)))
-                        .setMessage(StringEscapeUtils.unescapeXml(getChildValue(element, "description")))
-                        .setSeverity(getPriority(problem.getAttribute("severity")));
-                problems.add(builder.build());
+    private Optional<Issue> parseProblem(final SecureXmlStreamReader xml) {
+        Map<String, String> values = new HashMap<>();
+        String severity = null;
+
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1 && !values.containsKey(xml.getName())) {
+                String name = xml.getName();
+                if ("problem_class".equals(name)) {
+                    severity = xml.getAttribute("severity");
+                }
+                values.put(name, xml.getTextContent());
             }
         }
-        return problems;
+
+        if (!values.containsKey("problem_class")) {
+            return Optional.empty();
+        }
+        IssueBuilder builder = new IssueBuilder().setFileName(getChildValue(values, "file"))
+                .setLineStart(Integer.parseInt(getChildValue(values, "line")))
+                .setCategory(StringEscapeUtils.unescapeXml(values.get("problem_class")))
+                .setMessage(StringEscapeUtils.unescapeXml(getChildValue(values, "description")))
+                .setSeverity(getPriority(severity));
+        return Optional.of(builder.build());
     }
 
-    private Severity getPriority(final String severity) {
+    private Severity getPriority(@Nullable final String severity) {
         Severity priority = Severity.WARNING_LOW;
         if ("WARNING".equals(severity)) {
             priority = Severity.WARNING_NORMAL;
@@ -61,19 +98,11 @@ public class IdeaInspectionParser extends IssueParser {
         return priority;
     }
 
-    private String getValue(final Element element) {
-        return element.getFirstChild().getNodeValue();
-    }
-
-    private String getChildValue(final Element element, final String childTag) {
-        Optional<Element> firstElement = XmlElementUtil.getFirstChildElementByName(element, childTag);
-        if (firstElement.isPresent()) {
-            Node child = firstElement.get().getFirstChild();
-            if (child != null) {
-                return child.getNodeValue();
-            }
+    private String getChildValue(final Map<String, String> values, final String childTag) {
+        String value = values.get(childTag);
+        if (StringUtils.isEmpty(value)) {
+            return "-";
         }
-        return "-";
+        return value;
     }
 }
-
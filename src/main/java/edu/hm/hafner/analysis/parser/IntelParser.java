@@ -27,6 +27,11 @@ public class IntelParser extends RegexpLineParser {
         super(INTEL_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("warning") || line.contains("error") || line.contains("remark");
@@ -30,6 +30,11 @@ public class JavaDocParser extends RegexpLineParser {
         super(JAVA_DOC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("javadoc") || line.contains("@") || hasErrorPrefixAndErrorInMessage(line);
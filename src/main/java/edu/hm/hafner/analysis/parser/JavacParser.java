@@ -37,6 +37,11 @@ public class JavacParser extends RegexpLineParser {
         super(JAVAC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("[") || line.contains("w:");
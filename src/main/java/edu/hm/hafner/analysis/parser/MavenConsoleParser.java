@@ -50,6 +50,9 @@ public class MavenConsoleParser extends LookaheadParser {
      */
     private static final String PATTERN = "^(?:.*\\s\\s|)\\[(?<severity>WARNING|ERROR)\\]\\s*(?<message>.*)$";
 
+    private static final Pattern WARNING_CONTINUATION = createContinuation(WARNING);
+    private static final Pattern ERROR_CONTINUATION = createContinuation(ERROR);
+
     private String goal = StringUtils.EMPTY;
 
     /**
@@ -59,6 +62,11 @@ public class MavenConsoleParser extends LookaheadParser {
         super(PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         Matcher matcher = MAVEN_PLUGIN_START.matcher(line);
@@ -69,6 +77,10 @@ public class MavenConsoleParser extends LookaheadParser {
         return isValidGoal() && (line.contains(WARNING) || line.contains(ERROR));
     }
 
+    private static Pattern createContinuation(final String severity) {
+        return Pattern.compile("^(?:.*\\s\\s|)\\[" + severity + "\\] ");
+    }
+
     private boolean isValidGoal() {
         return !goal.contains("maven-compiler-plugin"); // will be captured by another parser already
     }
@@ -80,7 +92,7 @@ public class MavenConsoleParser extends LookaheadParser {
         builder.setLineStart(lookahead.getLine()).guessSeverity(severity);
 
         StringBuilder message = new StringBuilder(matcher.group("message"));
-        String continuation = "^(?:.*\\s\\s|)\\[" + severity + "\\] ";
+        Pattern continuation = ERROR.equals(severity) ? ERROR_CONTINUATION : WARNING_CONTINUATION;
         while (lookahead.hasNext(continuation)) {
             message.append('\n');
             message.append(RegExUtils.removeFirst(lookahead.next(), continuation));
@@ -33,6 +33,16 @@ public class MsBuildParser extends RegexpLineParser {
         super(MS_BUILD_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         builder.setFileName(determineFileName(matcher));
@@ -50,6 +50,11 @@ public class P4Parser extends RegexpLineParser {
         return Severity.WARNING_NORMAL;
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains(" - ");
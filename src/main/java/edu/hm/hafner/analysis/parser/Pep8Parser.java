@@ -42,6 +42,11 @@ public class Pep8Parser extends RegexpLineParser {
                 .buildOptional();
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains(":");
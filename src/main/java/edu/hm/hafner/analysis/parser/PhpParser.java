@@ -26,6 +26,11 @@ public class PhpParser extends RegexpLineParser {
         super(PHP_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("PHP");
@@ -32,6 +32,16 @@ public class PuppetLintParser extends RegexpLineParser {
         super(PUPPET_LINT_PATTERN_WARNING);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(1))
@@ -30,6 +30,11 @@ public class PyLintParser extends RegexpLineParser {
         super(PYLINT_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("[");
@@ -13,6 +13,7 @@ import edu.hm.hafner.analysis.ParsingCanceledException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.TreeStringBuilder;
 
 import static edu.hm.hafner.analysis.Categories.*;
 
@@ -30,10 +31,16 @@ public class RfLintParser extends IarParser {
     private static final Pattern WARNING_PATTERN = Pattern.compile("([W|E|I]): (\\d+), (\\d+): (.*) \\((.*)\\)");
     private static final Pattern FILE_PATTERN = Pattern.compile("\\+\\s(.*)");
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return true;
+    }
+
     @Override
     public Report parse(final ReaderFactory readerFactory) {
         try (Stream<String> lines = readerFactory.readStream()) {
             Report warnings = new Report();
+            TreeStringBuilder stringBuilder = new TreeStringBuilder();
             lines.forEach(line -> {
                 Matcher fileMatcher = FILE_PATTERN.matcher(line);
                 if (fileMatcher.find()) {
@@ -41,7 +48,7 @@ public class RfLintParser extends IarParser {
                 }
                 Matcher matcher = WARNING_PATTERN.matcher(line);
                 if (matcher.find()) {
-                    Optional<Issue> warning = createIssue(matcher, new IssueBuilder());
+                    Optional<Issue> warning = createIssue(matcher, new IssueBuilder(stringBuilder));
                     if (warning.isPresent()) {
                         warnings.add(warning.get());
                     }
@@ -51,6 +58,7 @@ public class RfLintParser extends IarParser {
                     throw new ParsingCanceledException();
                 }
             });
+            stringBuilder.dedup();
             return warnings;
         }
     }
@@ -36,6 +36,11 @@ public class RobocopyParser extends RegexpLineParser {
                 .buildOptional();
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("        ");
@@ -2,8 +2,13 @@ package edu.hm.hafner.analysis.parser;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
-import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 
@@ -29,6 +34,8 @@ public abstract class SonarQubeParser extends IssueParser {
     private static final String COMPONENTS = "components";
     /** The issues array. */
     private static final String ISSUES = "issues";
+    /** The total attribute, only reports of the issues API contain this property. */
+    private static final String TOTAL = "total";
 
     //Issues attributes
     /** issue.component attribute. */
@@ -61,16 +68,50 @@ public abstract class SonarQubeParser extends IssueParser {
     /** Fixed category: SonarQube. */
     private static final String CATEGORY_SONAR_QUBE = "SonarQube";
 
-    /** The components array. */
+    /** The components of the report, indexed by their keys. */
     @Nullable
-    private transient JSONArray components = new JSONArray();
+    private transient Map<String, JSONObject> components = new HashMap<>();
 
+    /**
+     * Returns whether this parser accepts the specified file. The top level properties of the report are read until
+     * the property {@code total} has been found, which distinguishes the reports of the issues API from differential
+     * reports. The arrays of the report (e.g. issues and components) are skipped without creating their elements.
+     *
+     * @param readerFactory
+     *         the file to check
+     *
+     * @return {@code true} if this parser accepts this file as valid input, {@code false} otherwise
+     */
     @Override
     public boolean accepts(final ReaderFactory readerFactory) {
         try (Reader reader = readerFactory.create()) {
-            return accepts((JSONObject) new JSONTokener(reader).nextValue());
+            JSONTokener tokener = new JSONTokener(reader);
+            if (tokener.nextClean() != '{') {
+                return false;
+            }
+            JSONObject properties = new JSONObject();
+            char next = tokener.nextClean();
+            while (next != '}') {
+                tokener.back();
+                String key = readKey(tokener);
+                if (tokener.nextClean() == '[') {
+                    skipArray(tokener);
+                }
+                else {
+                    tokener.back();
+                    properties.put(key, tokener.nextValue());
+                    if (TOTAL.equals(key)) {
+                        break;
+                    }
+                }
+                next = tokener.nextClean();
+                if (next == ',') {
+                    next = tokener.nextClean();
+                }
+            }
+            return accepts(properties);
         }
-        catch (IOException ignored) {
+        catch (IOException | JSONException ignored) {
             return false;
         }
     }
@@ -79,52 +120,149 @@ public abstract class SonarQubeParser extends IssueParser {
      * Returns whether this parser accepts the specified JSON object as valid input.
      *
      * @param object
-     *         the JSON object to analyse
+     *         the top level properties of the JSON report without the arrays of issues and components
      *
      * @return {@code true} if this parser accepts this object as valid input, {@code false} otherwise
      */
     protected abstract boolean accepts(JSONObject object);
 
+    /**
+     * Parses the report. The issues and components arrays are read element by element, so the report is not
+     * materialized as a whole. Since the issues typically precede the components, the issues are collected until all
+     * components have been indexed.
+     *
+     * @param readerFactory
+     *         the report to parse
+     *
+     * @return the issues of the report
+     * @throws ParsingException
+     *         if the report is not a valid JSON document
+     */
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
         try (Reader reader = readerFactory.create()) {
-            JSONObject jsonReport = (JSONObject) new JSONTokener(reader).nextValue();
+            components = new HashMap<>();
 
-            extractComponents(jsonReport);
+            JSONTokener tokener = new JSONTokener(reader);
+            if (tokener.nextClean() != '{') {
+                throw tokener.syntaxError("A JSONObject text must begin with '{'");
+            }
 
-            if (jsonReport.has(ISSUES)) {
-                return extractIssues(jsonReport.optJSONArray(ISSUES));
+            List<JSONObject> issues = new ArrayList<>();
+            char next = tokener.nextClean();
+            if (next != '}') {
+                tokener.back();
+                do {
+                    String key = readKey(tokener);
+                    if (ISSUES.equals(key)) {
+                        readArray(tokener, issue -> {
+                            if (filterIssue(issue)) {
+                                issues.add(issue);
+                            }
+                        });
+                    }
+                    else if (COMPONENTS.equals(key)) {
+                        readArray(tokener, this::indexComponent);
+                    }
+                    else {
+                        tokener.nextValue();
+                    }
+                    next = tokener.nextClean();
+                }
+                while (next == ',');
+                if (next != '}') {
+                    throw tokener.syntaxError("Expected a ',' or '}'");
+                }
             }
-            return new Report();
+
+            Report report = new Report();
+            for (JSONObject issue : issues) {
+                report.add(createIssueFormJsonObject(issue));
+            }
+            return report;
         }
-        catch (IOException e) {
+        catch (IOException | JSONException e) {
             throw new ParsingException(e);
         }
     }
 
-    private Report extractIssues(final JSONArray elements) {
-        Report report = new Report();
-        for (Object object : elements) {
-            if (object instanceof JSONObject) {
-                JSONObject issue = (JSONObject) object;
-                if (filterIssue(issue)) {
-                    report.add(createIssueFormJsonObject(issue));
-                }
+    private String readKey(final JSONTokener tokener) {
+        String key = tokener.nextValue().toString();
+        if (tokener.nextClean() != ':') {
+            throw tokener.syntaxError("Expected a ':' after a key");
+        }
+        return key;
+    }
+
+    /**
+     * Reads the elements of an array and passes each {@link JSONObject} element to the specified handler. If the value
+     * is not an array, then the value is skipped.
+     *
+     * @param tokener
+     *         the tokener positioned before the value
+     * @param handler
+     *         the handler of the elements
+     */
+    private void readArray(final JSONTokener tokener, final Consumer<JSONObject> handler) {
+        if (tokener.nextClean() != '[') {
+            tokener.back();
+            tokener.nextValue();
+            return;
+        }
+        if (tokener.nextClean() == ']') {
+            return;
+        }
+        tokener.back();
+
+        while (true) {
+            Object element = tokener.nextValue();
+            if (element instanceof JSONObject) {
+                handler.accept((JSONObject) element);
+            }
+            char next = tokener.nextClean();
+            if (next == ']') {
+                return;
+            }
+            if (next != ',') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
             }
         }
-        return report;
     }
 
     /**
-     * Get the components part to get the file paths on each issue (the component objects contain the most concise
-     * path).
+     * Skips the elements of an array, including nested arrays and objects.
      *
-     * @param jsonReport
-     *         the report to get the components from
+     * @param tokener
+     *         the tokener positioned after the opening bracket of the array
      */
-    private void extractComponents(final JSONObject jsonReport) {
-        if (jsonReport.has(COMPONENTS)) {
-            components = jsonReport.optJSONArray(COMPONENTS);
+    private void skipArray(final JSONTokener tokener) {
+        int depth = 1;
+        while (depth > 0) {
+            char next = tokener.next();
+            switch (next) {
+                case 0:
+                    throw tokener.syntaxError("Unterminated array");
+                case '"':
+                case '\'':
+                    tokener.nextString(next);
+                    break;
+                case '[':
+                case '{':
+                    depth++;
+                    break;
+                case ']':
+                case '}':
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void indexComponent(final JSONObject component) {
+        if (components != null) {
+            components.putIfAbsent(component.optString(COMPONENT_KEY), component);
         }
     }
 
@@ -272,18 +410,10 @@ public abstract class SonarQubeParser extends IssueParser {
      * @return the desired JSONObject component, or null if it hasn't been found.
      */
     @Nullable
-    private JSONObject findComponentByKey(final String key) {
+    private JSONObject findComponentByKey(@Nullable final String key) {
         if (components != null && key != null) {
-            for (Object component : components) {
-                if (component instanceof JSONObject) {
-                    JSONObject jsonComponent = (JSONObject) component;
-                    if (key.equals(jsonComponent.optString(COMPONENT_KEY))) {
-                        return (JSONObject) component;
-                    }
-                }
-            }
+            return components.get(key);
         }
-
         return null;
     }
 
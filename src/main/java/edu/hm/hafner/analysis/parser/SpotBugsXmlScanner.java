@@ -0,0 +1,409 @@
+package edu.hm.hafner.analysis.parser;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.LineRange;
+import edu.hm.hafner.analysis.LineRangeList;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.parser.FindBugsParser.PriorityProperty;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Reads the bug instances of a SpotBugs XML file in a single pass. The issues are created while the file is streamed,
+ * the FindBugs object model is not required. The properties of the issues are evaluated in the same way as the
+ * FindBugs library does: e.g., the primary source line is the first top level source line of a bug instance, the
+ * other top level source lines are stored as additional line ranges.
+ * <p>
+ * Files of recent SpotBugs versions contain all properties that are required to create the issues. If a bug instance
+ * misses some of these properties (e.g., the instance hash, the message, or the rank), then the scanner stops and the
+ * file needs to be parsed with the FindBugs library.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class SpotBugsXmlScanner {
+    private static final String PROJECT = "BugCollection/Project";
+    private static final String SOURCE_DIRECTORY = PROJECT + "/SrcDir";
+    private static final String BUG_INSTANCE = "BugCollection/BugInstance";
+    private static final String LONG_MESSAGE = BUG_INSTANCE + "/LongMessage";
+    private static final String SOURCE_LINE = BUG_INSTANCE + "/SourceLine";
+    private static final String CLASS = BUG_INSTANCE + "/Class";
+    private static final String METHOD = BUG_INSTANCE + "/Method";
+    private static final String FIELD = BUG_INSTANCE + "/Field";
+    private static final String MEMBER_SOURCE_LINE = "/SourceLine";
+
+    private static final String DEFAULT_SOURCE_LINE_ROLE = "SOURCE_LINE_DEFAULT";
+    private static final String DEFAULT_ROLE_SUFFIX = "DEFAULT";
+    private static final String UNKNOWN_SOURCE_FILE = "<Unknown>";
+    private static final String DOT = ".";
+    private static final String SLASH = "/";
+
+    private final PriorityProperty priorityProperty;
+    private final IssueBuilder builder;
+    private final List<String> sourceFolders = new ArrayList<>();
+    private final Collection<String> additionalSourceFolders;
+    private final Map<String, String> fileNames = new HashMap<>();
+    private final List<SortableIssue> issues = new ArrayList<>();
+
+    private boolean isFirstError = true;
+
+    /**
+     * Creates a new instance of {@link SpotBugsXmlScanner}.
+     *
+     * @param priorityProperty
+     *         determines whether to use the rank or confidence when evaluation the {@link Severity}
+     * @param sources
+     *         a collection of folders to scan for source files
+     * @param builder
+     *         the issue builder to use
+     */
+    SpotBugsXmlScanner(final PriorityProperty priorityProperty, final Collection<String> sources,
+            final IssueBuilder builder) {
+        this.priorityProperty = priorityProperty;
+        this.builder = builder;
+        additionalSourceFolders = sources;
+    }
+
+    /**
+     * Reads the bug instances of the specified SpotBugs XML file.
+     *
+     * @param input
+     *         the SpotBugs XML file
+     *
+     * @return the issues of the file, or an empty optional if the file needs to be parsed using the FindBugs library
+     */
+    Optional<Report> scan(final Reader input) {
+        try (SecureXmlStreamReader xml = new SecureXmlStreamReader(input)) {
+            BugInstance bug = null;
+            PrimaryMember member = null;
+            while (xml.nextElement()) {
+                if (xml.isAt(BUG_INSTANCE)) {
+                    if (bug != null && !addIssue(bug)) {
+                        return Optional.empty();
+                    }
+                    bug = readBugInstance(xml);
+                    member = null;
+                }
+                else if (bug != null) {
+                    member = readBugProperty(xml, bug, member);
+                }
+                else if (xml.isAt(PROJECT)) {
+                    String projectName = xml.getAttribute("projectName");
+                    if (StringUtils.isNotBlank(projectName)) {
+                        builder.setModuleName(projectName);
+                    }
+                }
+                else if (xml.isAt(SOURCE_DIRECTORY)) {
+                    sourceFolders.add(xml.getText());
+                }
+            }
+            if (bug != null && !addIssue(bug)) {
+                return Optional.empty();
+            }
+        }
+
+        issues.sort(Comparator.comparing((SortableIssue issue) -> issue.className)
+                .thenComparing(issue -> issue.type)
+                .thenComparingInt(issue -> issue.priority));
+        Report report = new Report();
+        for (SortableIssue issue : issues) {
+            report.add(issue.issue);
+        }
+        return Optional.of(report);
+    }
+
+    private BugInstance readBugInstance(final SecureXmlStreamReader xml) {
+        BugInstance bug = new BugInstance();
+        bug.type = StringUtils.defaultString(xml.getAttribute("type"));
+        bug.priority = xml.getIntAttribute("priority");
+        bug.rank = xml.getAttribute("rank") == null ? -1 : xml.getIntAttribute("rank");
+        bug.category = xml.getAttribute("category");
+        bug.instanceHash = xml.getAttribute("instanceHash");
+        return bug;
+    }
+
+    @Nullable
+    private PrimaryMember readBugProperty(final SecureXmlStreamReader xml, final BugInstance bug,
+            @Nullable final PrimaryMember member) {
+        if (xml.isAt(LONG_MESSAGE)) {
+            bug.message = xml.getText();
+        }
+        else if (xml.isAt(SOURCE_LINE)) {
+            bug.sourceLines.add(readSourceLine(xml));
+        }
+        else if (xml.isAt(CLASS)) {
+            return bug.primaryClass.select(xml);
+        }
+        else if (xml.isAt(METHOD)) {
+            return bug.primaryMethod.select(xml);
+        }
+        else if (xml.isAt(FIELD)) {
+            return bug.primaryField.select(xml);
+        }
+        else if (member != null && member.sourceLine == null && isMemberSourceLine(xml)) {
+            member.sourceLine = readSourceLine(xml);
+        }
+        return member;
+    }
+
+    private boolean isMemberSourceLine(final SecureXmlStreamReader xml) {
+        return xml.isAt(CLASS + MEMBER_SOURCE_LINE) || xml.isAt(METHOD + MEMBER_SOURCE_LINE)
+                || xml.isAt(FIELD + MEMBER_SOURCE_LINE);
+    }
+
+    private SourceLine readSourceLine(final SecureXmlStreamReader xml) {
+        SourceLine sourceLine = new SourceLine();
+        sourceLine.start = xml.getAttribute("start") == null ? -1 : xml.getIntAttribute("start");
+        sourceLine.end = xml.getAttribute("end") == null ? -1 : xml.getIntAttribute("end");
+        sourceLine.role = xml.getAttribute("role");
+        sourceLine.className = StringUtils.defaultString(xml.getAttribute("classname"));
+        sourceLine.sourceFile = StringUtils.defaultIfEmpty(xml.getAttribute("sourcefile"), UNKNOWN_SOURCE_FILE);
+        return sourceLine;
+    }
+
+    /**
+     * Creates an issue for the specified bug instance.
+     *
+     * @param bug
+     *         the bug instance
+     *
+     * @return {@code true} if the issue has been created, {@code false} if the bug instance does not contain all
+     *         required properties
+     */
+    private boolean addIssue(final BugInstance bug) {
+        Optional<SourceLine> primary = bug.getPrimarySourceLine();
+        String className = bug.primaryClass.className;
+        if (!primary.isPresent() || className == null || bug.instanceHash == null || bug.category == null
+                || StringUtils.isEmpty(bug.message) || priorityProperty == PriorityProperty.RANK && bug.rank < 0) {
+            return false;
+        }
+
+        SourceLine sourceLine = primary.get();
+        builder.setSeverity(getPriority(bug))
+                .setMessage(bug.message)
+                .setCategory(bug.category)
+                .setType(bug.type)
+                .setLineStart(sourceLine.start)
+                .setLineEnd(sourceLine.end)
+                .setFileName(findSourceFile(sourceLine))
+                .setPackageName(getPackageName(className))
+                .setFingerprint(bug.instanceHash);
+        setAffectedLines(bug, builder, new LineRange(sourceLine.start, sourceLine.end));
+
+        issues.add(new SortableIssue(className, bug.type, bug.priority, builder.build()));
+        return true;
+    }
+
+    private Severity getPriority(final BugInstance bug) {
+        if (priorityProperty == PriorityProperty.RANK) {
+            return FindBugsParser.getPriorityByRank(bug.rank);
+        }
+        else {
+            return FindBugsParser.getPriorityByPriority(bug.priority);
+        }
+    }
+
+    private void setAffectedLines(final BugInstance bug, final IssueBuilder issueBuilder, final LineRange primary) {
+        LineRangeList lineRanges = new LineRangeList();
+        for (SourceLine sourceLine : bug.sourceLines) {
+            LineRange lineRange = new LineRange(sourceLine.start, sourceLine.end);
+            if (!lineRanges.contains(lineRange) && !primary.equals(lineRange)) {
+                lineRanges.add(lineRange);
+            }
+        }
+        issueBuilder.setLineRanges(lineRanges);
+    }
+
+    /**
+     * Returns the absolute file name of the source file of the specified source line. Just like the {@code
+     * SourceFinder} of the FindBugs library, the source folders of the project are searched first, then the
+     * additional source folders. If the file is not found, then the file name is composed of the package and the
+     * source file name.
+     *
+     * @param sourceLine
+     *         the source line to get the file name for
+     *
+     * @return the file name
+     */
+    private String findSourceFile(final SourceLine sourceLine) {
+        String packageName = getPackageName(sourceLine.className);
+        String fileName = sourceLine.isSourceFileKnown() ? sourceLine.sourceFile : guessSourceFile(sourceLine);
+        String relativeName = packageName.isEmpty() ? fileName : packageName.replace(DOT, SLASH) + SLASH + fileName;
+
+        return fileNames.computeIfAbsent(relativeName, key -> resolve(key).orElseGet(() -> {
+            logUnresolvedFile(sourceLine);
+            return packageName.replace(DOT, SLASH) + SLASH + sourceLine.sourceFile;
+        }));
+    }
+
+    private String guessSourceFile(final SourceLine sourceLine) {
+        String simpleName = StringUtils.substringAfterLast(DOT + sourceLine.className, DOT);
+        return StringUtils.substringBefore(simpleName, "$") + ".java";
+    }
+
+    private Optional<String> resolve(final String relativeName) {
+        List<String> folders = new ArrayList<>(sourceFolders);
+        folders.addAll(additionalSourceFolders);
+        for (String folder : folders) {
+            Path file = Paths.get(folder).toAbsolutePath().resolve(relativeName);
+            if (Files.exists(file)) {
+                return Optional.of(file.toString());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void logUnresolvedFile(final SourceLine sourceLine) {
+        if (isFirstError) {
+            List<String> folders = new ArrayList<>(sourceFolders);
+            folders.addAll(additionalSourceFolders);
+            isFirstError = false;
+            Logger.getLogger(FindBugsParser.class.getName()).log(Level.WARNING,
+                    "Can't resolve absolute file name for file " + sourceLine.sourceFile + ", dir list = " + folders);
+        }
+    }
+
+    private static String getPackageName(final String className) {
+        int index = className.lastIndexOf(DOT);
+        if (index < 0) {
+            return StringUtils.EMPTY;
+        }
+        return className.substring(0, index);
+    }
+
+    private static boolean isDefaultRole(@Nullable final String role) {
+        return role == null || role.endsWith(DEFAULT_ROLE_SUFFIX);
+    }
+
+    /**
+     * The properties of a bug instance that are required to create an issue.
+     */
+    private static class BugInstance {
+        private String type = StringUtils.EMPTY;
+        private int priority;
+        private int rank;
+        @Nullable
+        private String category;
+        @Nullable
+        private String instanceHash;
+        private String message = StringUtils.EMPTY;
+        private final List<SourceLine> sourceLines = new ArrayList<>();
+        private final PrimaryMember primaryClass = new PrimaryMember();
+        private final PrimaryMember primaryMethod = new PrimaryMember();
+        private final PrimaryMember primaryField = new PrimaryMember();
+
+        /**
+         * Returns the primary source line of this bug instance. This is the first top level source line with the
+         * default role, or the first top level source line, or the source line of the primary method, field, or
+         * class. Source lines without line numbers are skipped.
+         *
+         * @return the primary source line, or an empty optional if the primary source line is not available
+         */
+        Optional<SourceLine> getPrimarySourceLine() {
+            for (SourceLine sourceLine : sourceLines) {
+                if (!sourceLine.isUnknown()
+                        && (sourceLine.role == null || DEFAULT_SOURCE_LINE_ROLE.equals(sourceLine.role))) {
+                    return Optional.of(sourceLine);
+                }
+            }
+            for (SourceLine sourceLine : sourceLines) {
+                if (!sourceLine.isUnknown()) {
+                    return Optional.of(sourceLine);
+                }
+            }
+            for (PrimaryMember member : new PrimaryMember[] {primaryMethod, primaryField, primaryClass}) {
+                if (member.className != null) {
+                    return Optional.ofNullable(member.sourceLine);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The primary class, method, or field of a bug instance: the first member with the default role, or the first
+     * member if there is no such member.
+     */
+    private static class PrimaryMember {
+        @Nullable
+        private String className;
+        private boolean hasDefaultRole;
+        @Nullable
+        private SourceLine sourceLine;
+
+        /**
+         * Selects the current element as primary member, if there is no better candidate yet.
+         *
+         * @param xml
+         *         the XML reader, positioned at the member element
+         *
+         * @return this member if the current element has been selected, {@code null} otherwise
+         */
+        @Nullable
+        PrimaryMember select(final SecureXmlStreamReader xml) {
+            boolean isDefault = isDefaultRole(xml.getAttribute("role"));
+            if (className == null || isDefault && !hasDefaultRole) {
+                className = StringUtils.defaultString(xml.getAttribute("classname"));
+                hasDefaultRole = isDefault;
+                sourceLine = null;
+                return this;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A source line annotation of a bug instance.
+     */
+    private static class SourceLine {
+        private int start;
+        private int end;
+        @Nullable
+        private String role;
+        private String className = StringUtils.EMPTY;
+        private String sourceFile = UNKNOWN_SOURCE_FILE;
+
+        boolean isUnknown() {
+            return start < 0 || end < 0;
+        }
+
+        boolean isSourceFileKnown() {
+            return !UNKNOWN_SOURCE_FILE.equals(sourceFile);
+        }
+    }
+
+    /**
+     * An issue and the properties that define the order of the bug instances in the FindBugs library.
+     */
+    private static class SortableIssue {
+        private final String className;
+        private final String type;
+        private final int priority;
+        private final Issue issue;
+
+        SortableIssue(final String className, final String type, final int priority, final Issue issue) {
+            this.className = className;
+            this.type = type;
+            this.priority = priority;
+            this.issue = issue;
+        }
+    }
+}
@@ -1,19 +1,18 @@
 package edu.hm.hafner.analysis.parser;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.Reader;
 
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.hm.hafner.analysis.Severity;
-import edu.hm.hafner.util.XmlElementUtil;
 import static java.lang.Integer.*;
 
 /**
@@ -26,32 +25,43 @@ public class StyleCopParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Document document = readerFactory.readDocument();
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
 
-        // Pre v4.3 uses SourceAnalysisViolations as the parent node name
-        NodeList mainNode = document.getElementsByTagName("SourceAnalysisViolations");
-        if (mainNode.getLength() == 0) {
-            // v4.3 uses StyleCopViolations as the parent node name
-            mainNode = document.getElementsByTagName("StyleCopViolations");
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            while (xml.nextElement()) {
+                // Pre v4.3 uses SourceAnalysisViolations as the parent node name, v4.3 uses StyleCopViolations
+                if ("SourceAnalysisViolations".equals(xml.getName()) || "StyleCopViolations".equals(xml.getName())) {
+                    parseViolations(xml, consumer);
+                    return;
+                }
+            }
+            throw new ParsingException("Input stream is not a StyleCop file.");
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
         }
-
-        Element rootElement = (Element) mainNode.item(0);
-        return parseViolations(XmlElementUtil.getChildElementsByName(rootElement, "Violation"));
     }
 
-    private Report parseViolations(final List<Element> elements) {
-        Report report = new Report();
-        for (Element element : elements) {
-            IssueBuilder builder = new IssueBuilder().setFileName(getString(element, "Source"))
-                    .setLineStart(getLineNumber(element))
-                    .setCategory(getCategory(element))
-                    .setType(getString(element, "Rule"))
-                    .setMessage(element.getTextContent())
-                    .setSeverity(Severity.WARNING_NORMAL);
+    private void parseViolations(final SecureXmlStreamReader xml, final IssueConsumer consumer) {
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1 && "Violation".equals(xml.getName())) {
+                IssueBuilder builder = new IssueBuilder().setFileName(getString(xml, "Source"))
+                        .setLineStart(getLineNumber(xml))
+                        .setCategory(getCategory(xml))
+                        .setType(getString(xml, "Rule"))
+                        .setSeverity(Severity.WARNING_NORMAL);
+                builder.setMessage(xml.getTextContent());
 
-            report.add(builder.build());
+                consumer.accept(builder.build());
+            }
         }
-        return report;
     }
 
     /**
@@ -62,7 +72,7 @@ public class StyleCopParser extends IssueParser {
      *
      * @return Category of violation
      */
-    private String getCategory(final Element element) {
+    private String getCategory(final SecureXmlStreamReader element) {
         String ruleNameSpace = getString(element, "RuleNamespace");
 
         int i = ruleNameSpace.lastIndexOf('.');
@@ -83,13 +93,8 @@ public class StyleCopParser extends IssueParser {
      *            the name of the attribute
      * @return the value of the attribute; "" if there is no such attribute.
      */
-    private String getString(final Element element, final String name) {
-        if (element.hasAttribute(name)) {
-            return element.getAttribute(name);
-        }
-        else {
-            return StringUtils.EMPTY;
-        }
+    private String getString(final SecureXmlStreamReader element, final String name) {
+        return StringUtils.defaultString(element.getAttribute(name));
     }
 
     /***
@@ -100,9 +105,10 @@ public class StyleCopParser extends IssueParser {
      * @return the lineNumber of the violation. 0 if there is no LineNumber or the LineNumber cant't be parsed into an
      *         Integer.
      */
-    private int getLineNumber(final Element violation) {
-        if (violation.hasAttribute("LineNumber")) {
-            return parseInt(violation.getAttribute("LineNumber"));
+    private int getLineNumber(final SecureXmlStreamReader violation) {
+        String lineNumber = violation.getAttribute("LineNumber");
+        if (lineNumber != null) {
+            return parseInt(lineNumber);
         }
         else {
             return 0;
@@ -1,20 +1,17 @@
 package edu.hm.hafner.analysis.parser;
 
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.Reader;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.util.XmlElementUtil;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
@@ -29,42 +26,50 @@ public class TaglistParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        try {
-            XPathFactory xPathFactory = XPathFactory.newInstance();
-            XPath xPath = xPathFactory.newXPath();
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
 
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
             IssueBuilder issueBuilder = new IssueBuilder();
-            Report report = new Report();
 
-            Document document = readerFactory.readDocument();
-            NodeList tags = (NodeList)xPath.evaluate("/report/tags/tag", document, XPathConstants.NODESET);
-            for (Element tag : XmlElementUtil.nodeListToList(tags)) {
-                String category = xPath.evaluate("@name", tag);
-                issueBuilder.setCategory(category);
-
-                NodeList files = (NodeList)xPath.evaluate("files/file", tag, XPathConstants.NODESET);
-                for (Element file : XmlElementUtil.nodeListToList(files)) {
-                    String clazz = xPath.evaluate("@name", file);
-                    if (clazz != null) {
-                        issueBuilder.setFileName(class2file(clazz));
-                        issueBuilder.setPackageName(class2package(clazz));
-                        issueBuilder.setAdditionalProperties(clazz);
+            while (xml.nextElement()) {
+                if (xml.isAt("report/tags/tag")) {
+                    issueBuilder.setCategory(StringUtils.defaultString(xml.getAttribute("name")));
+                }
+                else if (xml.isAt("report/tags/tag/files/file")) {
+                    String clazz = StringUtils.defaultString(xml.getAttribute("name"));
+                    issueBuilder.setFileName(class2file(clazz));
+                    issueBuilder.setPackageName(class2package(clazz));
+                    issueBuilder.setAdditionalProperties(clazz);
+                }
+                else if (xml.isAt("report/tags/tag/files/file/comments/comment")) {
+                    String lineNumber = null;
+                    String message = null;
+                    int depth = xml.getDepth();
+                    while (xml.nextElement(depth)) {
+                        if (xml.getDepth() == depth + 1) {
+                            if (lineNumber == null && "lineNumber".equals(xml.getName())) {
+                                lineNumber = xml.getTextContent();
+                            }
+                            else if (message == null && "comment".equals(xml.getName())) {
+                                message = xml.getTextContent();
+                            }
+                        }
                     }
+                    issueBuilder.setLineStart(StringUtils.defaultString(lineNumber));
+                    issueBuilder.setMessage(StringUtils.defaultString(message));
 
-                    NodeList comments = (NodeList)xPath.evaluate("comments/comment", file, XPathConstants.NODESET);
-                    for (Element comment : XmlElementUtil.nodeListToList(comments)) {
-                        issueBuilder.setLineStart(xPath.evaluate("lineNumber", comment));
-                        issueBuilder.setMessage(xPath.evaluate("comment", comment));
-
-                        report.add(issueBuilder.build());
-                    }
+                    consumer.accept(issueBuilder.build());
                 }
             }
-
-            return report;
         }
-        catch (XPathExpressionException e) {
-            throw new ParsingException(e);
+        catch (IOException exception) {
+            throw new ParsingException(exception);
         }
     }
 
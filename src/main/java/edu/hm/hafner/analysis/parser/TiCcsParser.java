@@ -28,6 +28,16 @@ public class TiCcsParser extends RegexpLineParser {
         super(TI_CCS_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean hasLineFilter() {
+        return false;
+    }
+
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String lineNumber = matcher.group(5);
@@ -25,6 +25,11 @@ public class TnsdlParser extends RegexpLineParser {
         super(TNSDL_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean requiresCompleteReport() {
+        return false;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.contains("tnsdl");
@@ -31,7 +31,9 @@ import java.util.List;
  *
  * @author Bruno P. Kinoshita - http://www.kinoshita.eti.br
  * @since 1.0
+ * @deprecated the {@link CcmParser} reads the issues directly from the XML stream
  */
+@Deprecated
 @SuppressWarnings("all")
 public class Ccm {
     /**
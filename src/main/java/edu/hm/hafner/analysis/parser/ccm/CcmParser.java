@@ -27,14 +27,15 @@ import java.io.IOException;
 import java.io.Reader;
 
 import org.apache.commons.lang3.StringUtils;
-import org.xml.sax.SAXException;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.hm.hafner.analysis.Severity;
 
 /**
@@ -47,61 +48,87 @@ public class CcmParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Ccm report = parseCCMXmlFile(readerFactory);
-
-        return convert(report);
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
     }
 
-    private Ccm parseCCMXmlFile(final ReaderFactory ccmXmlFile) {
-        SecureDigester digester = new SecureDigester(CcmParser.class);
-
-        String rootXPath = "ccm";
-        digester.addObjectCreate(rootXPath, Ccm.class);
-        digester.addSetProperties(rootXPath);
-
-        String fileMetric = "ccm/metric";
-        digester.addObjectCreate(fileMetric, Metric.class);
-        digester.addSetProperties(fileMetric);
-        digester.addBeanPropertySetter("ccm/metric/complexity");
-        digester.addBeanPropertySetter("ccm/metric/unit");
-        digester.addBeanPropertySetter("ccm/metric/classification");
-        digester.addBeanPropertySetter("ccm/metric/file");
-        digester.addBeanPropertySetter("ccm/metric/startLineNumber");
-        digester.addBeanPropertySetter("ccm/metric/endLineNumber");
-        digester.addSetNext(fileMetric, "addMetric", Metric.class.getName());
-
-        try (Reader reader = ccmXmlFile.create()) {
-            Ccm report = digester.parse(reader);
-            if (report == null) {
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("ccm")) {
                 throw new ParsingException("Input stream is not a CCM file.");
             }
 
-            return report;
+            convert(xml, consumer);
         }
-        catch (IOException | SAXException exception) {
+        catch (IOException exception) {
             throw new ParsingException(exception);
         }
     }
 
-    private Report convert(final Ccm collection) {
-        Report report = new Report();
+    /**
+     * Converts the metrics of the CCM file to issues while the file is being read. Only the metric that is currently
+     * read is kept in memory.
+     *
+     * @param xml
+     *         the CCM file, positioned at the root element
+     * @param consumer
+     *         the consumer that receives the issues
+     */
+    private void convert(final SecureXmlStreamReader xml, final IssueConsumer consumer) {
+        Metric metric = null;
+        while (xml.nextElement()) {
+            if (xml.isAt("ccm/metric")) {
+                if (metric != null) {
+                    consumer.accept(convert(metric));
+                }
+                metric = new Metric();
+            }
+            else if (metric != null) {
+                readProperty(xml, metric);
+            }
+        }
+        if (metric != null) {
+            consumer.accept(convert(metric));
+        }
+    }
 
-        for (Metric metric : collection.getMetrics()) {
-            Severity priority = calculateMetricPriority(metric);
+    private void readProperty(final SecureXmlStreamReader xml, final Metric metric) {
+        if (xml.isAt("ccm/metric/complexity")) {
+            metric.setComplexity(xml.getIntText());
+        }
+        else if (xml.isAt("ccm/metric/unit")) {
+            metric.setUnit(xml.getText());
+        }
+        else if (xml.isAt("ccm/metric/classification")) {
+            metric.setClassification(xml.getText());
+        }
+        else if (xml.isAt("ccm/metric/file")) {
+            metric.setFile(xml.getText());
+        }
+        else if (xml.isAt("ccm/metric/startLineNumber")) {
+            metric.setStartLineNumber(xml.getIntText());
+        }
+        else if (xml.isAt("ccm/metric/endLineNumber")) {
+            metric.setEndLineNumber(xml.getIntText());
+        }
+    }
 
-            String complexity = String.format("%s has a complexity of %d", metric.getUnit(), metric.getComplexity());
+    private Issue convert(final Metric metric) {
+        Severity priority = calculateMetricPriority(metric);
 
-            IssueBuilder builder = new IssueBuilder();
-            builder.setSeverity(priority)
-                    .setMessage(complexity)
-                    .setCategory(metric.getClassification())
-                    .setLineStart(metric.getStartLineNumber())
-                    .setLineEnd(metric.getEndLineNumber())
-                    .setFileName(metric.getFile());
-            report.add(builder.build());
-        }
+        String complexity = String.format("%s has a complexity of %d", metric.getUnit(), metric.getComplexity());
 
-        return report;
+        IssueBuilder builder = new IssueBuilder();
+        builder.setSeverity(priority)
+                .setMessage(complexity)
+                .setCategory(metric.getClassification())
+                .setLineStart(metric.getStartLineNumber())
+                .setLineEnd(metric.getEndLineNumber())
+                .setFileName(metric.getFile());
+        return builder.build();
     }
 
     private Severity calculateMetricPriority(final Metric metric) {
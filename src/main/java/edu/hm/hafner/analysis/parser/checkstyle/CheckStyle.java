@@ -9,7 +9,9 @@ import java.util.List;
  * Java Bean class for a errors collection of the Checkstyle format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link CheckStyleParser} reads the issues directly from the XML stream
  */
+@Deprecated
 public class CheckStyle {
     /** All files of this violations collection. */
     private final List<File> files = new ArrayList<>();
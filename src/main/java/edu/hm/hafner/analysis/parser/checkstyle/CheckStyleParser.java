@@ -4,17 +4,17 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.Optional;
 
-import org.apache.commons.digester3.Digester;
 import org.apache.commons.lang3.StringUtils;
-import org.xml.sax.SAXException;
 
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.TreeStringBuilder;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
@@ -27,64 +27,56 @@ public class CheckStyleParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Digester digester = new SecureDigester(CheckStyleParser.class);
-
-        String rootXPath = "checkstyle";
-        digester.addObjectCreate(rootXPath, CheckStyle.class);
-        digester.addSetProperties(rootXPath);
-
-        String fileXPath = "checkstyle/file";
-        digester.addObjectCreate(fileXPath, File.class);
-        digester.addSetProperties(fileXPath);
-        digester.addSetNext(fileXPath, "addFile", File.class.getName());
-
-        String bugXPath = "checkstyle/file/error";
-        digester.addObjectCreate(bugXPath, Error.class);
-        digester.addSetProperties(bugXPath);
-        digester.addSetNext(bugXPath, "addError", Error.class.getName());
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
 
-        try (Reader reader = readerFactory.create()) {
-            CheckStyle checkStyle = digester.parse(reader);
-            if (checkStyle == null) {
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("checkstyle")) {
                 throw new ParsingException("Input stream is not a Checkstyle file.");
             }
 
-            return convert(checkStyle);
+            convert(xml, consumer);
         }
-        catch (IOException | SAXException exception) {
+        catch (IOException exception) {
             throw new ParsingException(exception);
         }
     }
 
     /**
-     * Converts the internal structure to the annotations API.
+     * Converts the errors of the Checkstyle file to issues while the file is being read.
      *
-     * @param collection
-     *         the internal maven module
-     *
-     * @return a maven module of the annotations API
+     * @param xml
+     *         the Checkstyle file, positioned at the root element
+     * @param consumer
+     *         the consumer that receives the issues
      */
-    private Report convert(final CheckStyle collection) {
-        Report report = new Report();
-
-        for (File file : collection.getFiles()) {
-            if (isValidWarning(file)) {
-                for (Error error : file.getErrors()) {
-                    IssueBuilder builder = new IssueBuilder();
-                    mapPriority(error).ifPresent(builder::setSeverity);
-
-                    String source = error.getSource();
-                    builder.setType(getType(source));
-                    builder.setCategory(getCategory(source));
-                    builder.setMessage(error.getMessage());
-                    builder.setLineStart(error.getLine());
-                    builder.setFileName(file.getName());
-                    builder.setColumnStart(error.getColumn());
-                    report.add(builder.build());
-                }
+    private void convert(final SecureXmlStreamReader xml, final IssueConsumer consumer) {
+        TreeStringBuilder stringBuilder = new TreeStringBuilder();
+        String fileName = null;
+        while (xml.nextElement()) {
+            if (xml.isAt("checkstyle/file")) {
+                fileName = xml.getAttribute("name");
+            }
+            else if (xml.isAt("checkstyle/file/error") && isValidWarning(fileName)) {
+                IssueBuilder builder = new IssueBuilder(stringBuilder);
+                mapPriority(xml.getAttribute("severity")).ifPresent(builder::setSeverity);
+
+                String source = xml.getAttribute("source");
+                builder.setType(getType(source));
+                builder.setCategory(getCategory(source));
+                builder.setMessage(xml.getAttribute("message"));
+                builder.setLineStart(xml.getIntAttribute("line"));
+                builder.setFileName(fileName);
+                builder.setColumnStart(xml.getIntAttribute("column"));
+                consumer.accept(builder.build());
             }
         }
-        return report;
+        stringBuilder.dedup();
     }
 
     private String getCategory(@Nullable final String source) {
@@ -95,14 +87,14 @@ public class CheckStyleParser extends IssueParser {
         return StringUtils.substringAfterLast(source, ".");
     }
 
-    private Optional<Severity> mapPriority(final Error error) {
-        if ("error".equalsIgnoreCase(error.getSeverity())) {
+    private Optional<Severity> mapPriority(@Nullable final String severity) {
+        if ("error".equalsIgnoreCase(severity)) {
             return Optional.of(Severity.WARNING_HIGH);
         }
-        if ("warning".equalsIgnoreCase(error.getSeverity())) {
+        if ("warning".equalsIgnoreCase(severity)) {
             return Optional.of(Severity.WARNING_NORMAL);
         }
-        if ("info".equalsIgnoreCase(error.getSeverity())) {
+        if ("info".equalsIgnoreCase(severity)) {
             return Optional.of(Severity.WARNING_LOW);
         }
         return Optional.empty();
@@ -112,13 +104,13 @@ public class CheckStyleParser extends IssueParser {
      * Returns {@code true} if this warning is valid or {@code false} if the warning can't be processed by the
      * checkstyle plug-in.
      *
-     * @param file
-     *         the file to check
+     * @param fileName
+     *         the name of the file to check
      *
      * @return {@code true} if this warning is valid
      */
-    private boolean isValidWarning(final File file) {
-        return !StringUtils.endsWith(file.getName(), "package.html");
+    private boolean isValidWarning(@Nullable final String fileName) {
+        return !StringUtils.endsWith(fileName, "package.html");
     }
 }
 
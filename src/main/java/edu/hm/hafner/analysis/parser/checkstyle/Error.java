@@ -6,7 +6,9 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * Java Bean class for a violation of the Checkstyle format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link CheckStyleParser} reads the issues directly from the XML stream
  */
+@Deprecated
 @SuppressWarnings({"all", "JavaLangClash"})
 public class Error {
     @Nullable
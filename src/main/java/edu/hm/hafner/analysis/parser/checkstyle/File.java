@@ -11,7 +11,9 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * Java Bean class for a file of the Checkstyle format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link CheckStyleParser} reads the issues directly from the XML stream
  */
+@Deprecated
 public class File {
     /** Name of the file. */
     @Nullable
@@ -1,160 +1,221 @@
 package edu.hm.hafner.analysis.parser.fxcop;
 
-import java.util.Optional;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingCanceledException;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.util.XmlElementUtil;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 
 /**
  * Parses a fxcop xml report file.
  *
  * <p> Note that instances of this parser are not thread safe. </p>
  */
-@SuppressWarnings("unused")
 public class FxCopParser extends IssueParser {
     private static final long serialVersionUID = -7208558002331355408L;
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
-        return new XmlParser().parse(readerFactory);
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            return new XmlParser().parse(xml);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
     }
 
     /**
-     * Handles parsing of the XML file.
+     * Handles parsing of the XML file. The rules are located at the end of the file, so the issues are collected
+     * first and then converted when all rules have been read. The issues are reported in the order of the elements in
+     * the report: messages of an element first, then the messages of the nested elements.
      */
     private static class XmlParser {
-        private final Report warnings = new Report();
-        private final FxCopRuleSet ruleSet = new FxCopRuleSet();
-
-        public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
-            Document doc = readerFactory.readDocument();
-
-            NodeList mainNode = doc.getElementsByTagName("FxCopReport");
-
-            Element rootElement = (Element) mainNode.item(0);
-            parseRules(rootElement);
-            parseNamespaces(rootElement);
-            parseTargets(rootElement);
-
-            return warnings;
-
+        /** Maps the name of each visited element to the names of its child elements that contain messages. */
+        private static final Map<String, List<String>> CONTAINERS = new HashMap<>();
+        /** Maps the name of each visited list element to the name of its entries. */
+        private static final Map<String, String> ENTRIES = new HashMap<>();
+
+        static {
+            CONTAINERS.put("FxCopReport", Arrays.asList("Namespaces", "Targets"));
+            CONTAINERS.put("Target", Arrays.asList("Messages", "Modules", "Resources"));
+            CONTAINERS.put("Resource", Collections.singletonList("Messages"));
+            CONTAINERS.put("Module", Arrays.asList("Messages", "Namespaces"));
+            CONTAINERS.put("Namespace", Arrays.asList("Messages", "Types"));
+            CONTAINERS.put("Type", Arrays.asList("Messages", "Members"));
+            CONTAINERS.put("Member", Arrays.asList("Messages", "Accessors"));
+            CONTAINERS.put("Accessor", Arrays.asList("Messages", "Accessors"));
+
+            ENTRIES.put("Targets", "Target");
+            ENTRIES.put("Resources", "Resource");
+            ENTRIES.put("Modules", "Module");
+            ENTRIES.put("Namespaces", "Namespace");
+            ENTRIES.put("Types", "Type");
+            ENTRIES.put("Members", "Member");
+            ENTRIES.put("Accessors", "Accessor");
         }
 
-        private void parseRules(final Element rootElement) {
-            Optional<Element> rulesElement = XmlElementUtil.getFirstChildElementByName(rootElement, "Rules");
-            if (rulesElement.isPresent()) {
-                for (Element rule : XmlElementUtil.getChildElementsByName(rulesElement.get(), "Rule")) {
-                    ruleSet.addRule(rule);
-                }
-            }
-        }
+        private final FxCopRuleSet ruleSet = new FxCopRuleSet();
+        private boolean hasRules = false;
 
-        private void parseTargets(final Element rootElement) {
-            Optional<Element> targetsElement = XmlElementUtil.getFirstChildElementByName(rootElement, "Targets");
-            if (targetsElement.isPresent()) {
-                for (Element target : XmlElementUtil.getChildElementsByName(targetsElement.get(), "Target")) {
-                    String name = getString(target, "Name");
-                    parseMessages(target, name);
-                    parseModules(target, name);
-                    parseResources(target, name);
+        Report parse(final SecureXmlStreamReader xml) {
+            while (xml.nextElement()) {
+                if ("FxCopReport".equals(xml.getName())) {
+                    return createReport(parseContainer(xml));
                 }
             }
+            throw new ParsingException("Input stream is not a FxCop file.");
         }
 
-        private void parseResources(final Element target, final String parentName) {
-            Optional<Element> resources = XmlElementUtil.getFirstChildElementByName(target, "Resources");
-            if (resources.isPresent()) {
-                for (Element resource : XmlElementUtil.getChildElementsByName(resources.get(), "Resource")) {
-                    String name = getString(resource, "Name");
-                    parseMessages(resource, name);
-                }
+        private Report createReport(final List<PendingIssue> issues) {
+            Report warnings = new Report();
+            for (PendingIssue issue : issues) {
+                warnings.add(issue.build(ruleSet));
             }
+            return warnings;
         }
 
-        private void parseModules(final Element target, final String parentName) {
-            Optional<Element> modulesElement = XmlElementUtil.getFirstChildElementByName(target, "Modules");
-            if (modulesElement.isPresent()) {
-                for (Element module : XmlElementUtil.getChildElementsByName(modulesElement.get(), "Module")) {
-                    String name = getString(module, "Name");
-                    parseMessages(module, name);
-                    parseNamespaces(module);
+        /**
+         * Reads an element that contains messages or other elements with messages.
+         *
+         * @param xml
+         *         the report, positioned at the start of the container element
+         *
+         * @return the issues of the container and of all nested elements
+         */
+        private List<PendingIssue> parseContainer(final SecureXmlStreamReader xml) {
+            boolean isRoot = "FxCopReport".equals(xml.getName());
+            List<String> children = CONTAINERS.get(xml.getName());
+            List<List<PendingIssue>> issuesOfChildren = new ArrayList<>(Collections.nCopies(children.size(), null));
+
+            int depth = xml.getDepth();
+            while (xml.nextElement(depth)) {
+                if (xml.getDepth() == depth + 1) {
+                    int index = children.indexOf(xml.getName());
+                    if (index >= 0 && issuesOfChildren.get(index) == null) {
+                        issuesOfChildren.set(index, parseChild(xml));
+                    }
+                    else if (isRoot && !hasRules && "Rules".equals(xml.getName())) {
+                        parseRules(xml);
+                    }
                 }
             }
-        }
-
-        private void parseNamespaces(final Element rootElement) {
-            Optional<Element> namespacesElement = XmlElementUtil.getFirstChildElementByName(rootElement, "Namespaces");
-            if (namespacesElement.isPresent()) {
-                for (Element namespace : XmlElementUtil.getChildElementsByName(namespacesElement.get(), "Namespace")) {
-                    String name = getString(namespace, "Name");
 
-                    parseMessages(namespace, name);
-                    parseTypes(namespace, name);
+            List<PendingIssue> issues = new ArrayList<>();
+            for (List<PendingIssue> issuesOfChild : issuesOfChildren) {
+                if (issuesOfChild != null) {
+                    issues.addAll(issuesOfChild);
                 }
             }
+            return issues;
         }
 
-        private void parseTypes(final Element typesElement, final String parentName) {
-            Optional<Element> types = XmlElementUtil.getFirstChildElementByName(typesElement, "Types");
-            if (types.isPresent()) {
-                for (Element type : XmlElementUtil.getChildElementsByName(types.get(), "Type")) {
-                    String name = parentName + "." + getString(type, "Name");
+        private List<PendingIssue> parseChild(final SecureXmlStreamReader xml) {
+            if ("Messages".equals(xml.getName())) {
+                return parseMessages(xml);
+            }
 
-                    parseMessages(type, name);
-                    parseMembers(type, name);
+            String entry = ENTRIES.get(xml.getName());
+            List<PendingIssue> issues = new ArrayList<>();
+            int depth = xml.getDepth();
+            while (xml.nextElement(depth)) {
+                if (xml.getDepth() == depth + 1 && entry.equals(xml.getName())) {
+                    issues.addAll(parseContainer(xml));
                 }
             }
+            return issues;
         }
 
-        private void parseMembers(final Element members, final String parentName) {
-            Optional<Element> membersElement = XmlElementUtil.getFirstChildElementByName(members, "Members");
-            if (membersElement.isPresent()) {
-                for (Element member : XmlElementUtil.getChildElementsByName(membersElement.get(), "Member")) {
-                    parseMember(member, parentName);
+        private List<PendingIssue> parseMessages(final SecureXmlStreamReader xml) {
+            List<PendingIssue> issues = new ArrayList<>();
+            int depth = xml.getDepth();
+            while (xml.nextElement(depth)) {
+                if (xml.getDepth() == depth + 1 && "Message".equals(xml.getName())) {
+                    String typeName = getString(xml, "TypeName");
+                    String category = getString(xml, "Category");
+                    String checkId = getString(xml, "CheckId");
+
+                    int messageDepth = xml.getDepth();
+                    while (xml.nextElement(messageDepth)) {
+                        if (xml.getDepth() == messageDepth + 1 && "Issue".equals(xml.getName())) {
+                            PendingIssue issue = new PendingIssue(typeName, category, checkId);
+                            issue.level = getString(xml, "Level");
+                            issue.filePath = getString(xml, "Path");
+                            issue.fileName = getString(xml, "File");
+                            issue.fileLine = getString(xml, "Line");
+                            issue.text = xml.getTextContent();
+                            issues.add(issue);
+                        }
+                    }
                 }
             }
+            return issues;
         }
 
-        private void parseAccessors(final Element accessorsElement, final String parentName) {
-            Optional<Element> accessors = XmlElementUtil.getFirstChildElementByName(accessorsElement, "Accessors");
-            if (accessors.isPresent()) {
-                for (Element member : XmlElementUtil.getChildElementsByName(accessors.get(), "Accessor")) {
-                    parseMember(member, parentName);
+        private void parseRules(final SecureXmlStreamReader xml) {
+            hasRules = true;
+
+            int depth = xml.getDepth();
+            while (xml.nextElement(depth)) {
+                if (xml.getDepth() == depth + 1 && "Rule".equals(xml.getName())) {
+                    FxCopRule rule = new FxCopRule(getString(xml, "TypeName"), getString(xml, "Category"),
+                            getString(xml, "CheckId"));
+                    Map<String, String> texts = new HashMap<>();
+                    int ruleDepth = xml.getDepth();
+                    while (xml.nextElement(ruleDepth)) {
+                        if (xml.getDepth() == ruleDepth + 1) {
+                            String name = xml.getName();
+                            String text = xml.getTextContent();
+                            texts.putIfAbsent(name, text);
+                        }
+                    }
+                    rule.setUrl(texts.getOrDefault("Url", StringUtils.EMPTY));
+                    rule.setDescription(texts.getOrDefault("Description", StringUtils.EMPTY));
+                    rule.setName(texts.getOrDefault("Name", StringUtils.EMPTY));
+                    ruleSet.addRule(rule);
                 }
             }
         }
 
-        private void parseMember(final Element member, final String parentName) {
-            parseMessages(member, parentName);
-            parseAccessors(member, parentName);
+        private String getString(final SecureXmlStreamReader xml, final String name) {
+            return StringUtils.defaultString(xml.getAttribute(name));
         }
+    }
 
-        private void parseMessages(final Element messages, final String parentName) {
-            Optional<Element> messagesElement = XmlElementUtil.getFirstChildElementByName(messages, "Messages");
-            if (messagesElement.isPresent()) {
-                for (Element message : XmlElementUtil.getChildElementsByName(messagesElement.get(), "Message")) {
-                    for (Element issue : XmlElementUtil.getChildElementsByName(message, "Issue")) {
-                        parseIssue(issue, message, parentName);
-                    }
-                }
-            }
+    /**
+     * An issue of the report whose rule has not been read yet.
+     */
+    private static class PendingIssue {
+        private final String typeName;
+        private final String category;
+        private final String checkId;
+        private String level = StringUtils.EMPTY;
+        private String filePath = StringUtils.EMPTY;
+        private String fileName = StringUtils.EMPTY;
+        private String fileLine = StringUtils.EMPTY;
+        private String text = StringUtils.EMPTY;
+
+        PendingIssue(final String typeName, final String category, final String checkId) {
+            this.typeName = typeName;
+            this.category = category;
+            this.checkId = checkId;
         }
 
-        private void parseIssue(final Element issue, final Element parent, final String parentName) {
-            String typeName = getString(parent, "TypeName");
-            String category = getString(parent, "Category");
-            String checkId = getString(parent, "CheckId");
-            String issueLevel = getString(issue, "Level");
-
+        Issue build(final FxCopRuleSet ruleSet) {
             StringBuilder msgBuilder = new StringBuilder();
             FxCopRule rule = ruleSet.getRule(category, checkId);
             if (rule == null) {
@@ -168,30 +229,17 @@ public class FxCopParser extends IssueParser {
                 msgBuilder.append("</a>");
             }
             msgBuilder.append(" - ");
-            msgBuilder.append(issue.getTextContent());
-
-            String filePath = getString(issue, "Path");
-            String fileName = getString(issue, "File");
-            String fileLine = getString(issue, "Line");
+            msgBuilder.append(text);
 
             IssueBuilder builder = new IssueBuilder().setFileName(filePath + "/" + fileName)
                     .setLineStart(fileLine)
                     .setCategory(category)
                     .setMessage(msgBuilder.toString())
-                    .guessSeverity(issueLevel);
+                    .guessSeverity(level);
             if (rule != null) {
                 builder.setDescription(rule.getDescription());
             }
-            warnings.add(builder.build());
-        }
-
-        private String getString(final Element element, final String name) {
-            if (element.hasAttribute(name)) {
-                return element.getAttribute(name);
-            }
-            else {
-                return "";
-            }
+            return builder.build();
         }
     }
 }
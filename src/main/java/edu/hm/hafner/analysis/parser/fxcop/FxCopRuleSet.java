@@ -30,6 +30,16 @@ public class FxCopRuleSet {
         rule.setDescription(getNamedTagText(element, "Description"));
         rule.setName(getNamedTagText(element, "Name"));
 
+        addRule(rule);
+    }
+
+    /**
+     * Inserts the specified rule into the rule set.
+     *
+     * @param rule
+     *         the rule to add
+     */
+    public void addRule(final FxCopRule rule) {
         rules.put(getRuleKey(rule.getCategory(), rule.getCheckId()), rule);
     }
 
@@ -1,25 +1,27 @@
 package edu.hm.hafner.analysis.parser.gendarme;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.hm.hafner.analysis.Severity;
-import edu.hm.hafner.util.XmlElementUtil;
 
 import static edu.hm.hafner.util.IntegerParser.*;
 
@@ -35,49 +37,119 @@ public class GendarmeParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory factory) throws ParsingException {
-        Document document = factory.readDocument();
-
-        NodeList mainNode = document.getElementsByTagName("gendarme-output");
-
-        Element rootElement = (Element) mainNode.item(0);
-        Element resultsElement = (Element) rootElement.getElementsByTagName("results").item(0);
-        Element rulesElement = (Element) rootElement.getElementsByTagName("rules").item(0);
-
-        Map<String, GendarmeRule> rules = parseRules(XmlElementUtil.getChildElementsByName(rulesElement, "rule"));
-        return parseViolations(XmlElementUtil.getChildElementsByName(resultsElement, "rule"), rules);
+        try (Reader reader = factory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            while (xml.nextElement()) {
+                if ("gendarme-output".equals(xml.getName())) {
+                    return parseOutput(xml);
+                }
+            }
+            throw new ParsingException("Input stream is not a Gendarme file.");
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
     }
 
-    private Report parseViolations(final List<Element> ruleElements, final Map<String, GendarmeRule> rules) {
+    /**
+     * Reads the rules and results of the Gendarme report. Violations that are reported before the corresponding rules
+     * have been read are kept until the end of the report.
+     *
+     * @param xml
+     *         the report, positioned at the root element
+     *
+     * @return the issues of the report
+     */
+    private Report parseOutput(final SecureXmlStreamReader xml) {
+        Map<String, GendarmeRule> rules = new HashMap<>();
+        boolean hasRules = false;
+        boolean hasResults = false;
+        List<Defect> pendingDefects = new ArrayList<>();
         Report warnings = new Report();
-        for (Element ruleElement : ruleElements) {
-            String ruleName = ruleElement.getAttribute("Name");
-            String problem = ruleElement.getElementsByTagName("problem").item(0).getTextContent();
-            List<Element> targetElements = XmlElementUtil.getChildElementsByName(ruleElement, "target");
-
-            GendarmeRule rule = rules.get(ruleName);
-            if (rule != null) {
-                for (Element targetElement : targetElements) {
-                    Element defectElement = (Element) targetElement.getElementsByTagName("defect").item(0);
-                    String source = defectElement.getAttribute("Source");
-
-                    String fileName = extractFileNameMatch(rule, source, 1);
-                    Severity priority = extractPriority(defectElement);
-                    int line = parseInt(extractFileNameMatch(rule, source, 2));
-
-                    IssueBuilder builder = new IssueBuilder().setFileName(fileName)
-                            .setLineStart(line)
-                            .setCategory(rule.getName())
-                            .setMessage(problem)
-                            .setSeverity(priority);
-                    warnings.add(builder.build());
+
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (!hasRules && "rules".equals(xml.getName())) {
+                hasRules = true;
+                parseRules(xml, rules);
+                for (Defect defect : pendingDefects) {
+                    createIssue(defect, rules).ifPresent(warnings::add);
+                }
+                pendingDefects.clear();
+            }
+            else if (!hasResults && "results".equals(xml.getName())) {
+                hasResults = true;
+                int resultsDepth = xml.getDepth();
+                while (xml.nextElement(resultsDepth)) {
+                    if (xml.getDepth() == resultsDepth + 1 && "rule".equals(xml.getName())) {
+                        for (Defect defect : parseViolations(xml)) {
+                            if (hasRules) {
+                                createIssue(defect, rules).ifPresent(warnings::add);
+                            }
+                            else {
+                                pendingDefects.add(defect);
+                            }
+                        }
+                    }
                 }
             }
         }
         return warnings;
     }
 
-    private Severity extractPriority(final Element defectElement) {
-        switch (defectElement.getAttribute("Severity")) {
+    private List<Defect> parseViolations(final SecureXmlStreamReader xml) {
+        String ruleName = StringUtils.defaultString(xml.getAttribute("Name"));
+        String problem = null;
+        List<Defect> defects = new ArrayList<>();
+
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (problem == null && "problem".equals(xml.getName())) {
+                problem = xml.getTextContent();
+            }
+            else if (xml.getDepth() == depth + 1 && "target".equals(xml.getName())) {
+                Defect defect = null;
+                int targetDepth = xml.getDepth();
+                while (xml.nextElement(targetDepth)) {
+                    if (defect == null && "defect".equals(xml.getName())) {
+                        defect = new Defect(ruleName, StringUtils.defaultString(xml.getAttribute("Source")),
+                                StringUtils.defaultString(xml.getAttribute("Severity")));
+                    }
+                }
+                if (defect != null) {
+                    defects.add(defect);
+                }
+            }
+        }
+        if (problem == null) {
+            throw new ParsingException(String.format("Rule '%s' has no problem description.", ruleName));
+        }
+        for (Defect defect : defects) {
+            defect.problem = problem;
+        }
+        return defects;
+    }
+
+    private Optional<Issue> createIssue(final Defect defect, final Map<String, GendarmeRule> rules) {
+        GendarmeRule rule = rules.get(defect.ruleName);
+        if (rule == null) {
+            return Optional.empty();
+        }
+
+        String fileName = extractFileNameMatch(rule, defect.source, 1);
+        Severity priority = extractPriority(defect.severity);
+        int line = parseInt(extractFileNameMatch(rule, defect.source, 2));
+
+        IssueBuilder builder = new IssueBuilder().setFileName(fileName)
+                .setLineStart(line)
+                .setCategory(rule.getName())
+                .setMessage(defect.problem)
+                .setSeverity(priority);
+        return Optional.of(builder.build());
+    }
+
+    private Severity extractPriority(final String severity) {
+        switch (severity) {
             case "Low":
                 return Severity.WARNING_LOW;
             case "High":
@@ -98,35 +170,50 @@ public class GendarmeParser extends IssueParser {
         return fileName;
     }
 
-    private Map<String, GendarmeRule> parseRules(final List<Element> ruleElements) {
-        Map<String, GendarmeRule> rules = new HashMap<>();
+    private void parseRules(final SecureXmlStreamReader xml, final Map<String, GendarmeRule> rules) {
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1 && "rule".equals(xml.getName())) {
+                GendarmeRule rule = new GendarmeRule();
+                rule.setName(StringUtils.defaultString(xml.getAttribute("Name")));
 
-        for (Element ruleElement : ruleElements) {
-            GendarmeRule rule = new GendarmeRule();
-            rule.setName(ruleElement.getAttribute("Name"));
-            rule.setTypeName(ruleElement.getTextContent());
+                String typeString = xml.getAttribute("Type");
+                if ("Type".equals(typeString)) {
+                    rule.setType(GendarmeRuleType.Type);
+                }
+                else if ("Method".equals(typeString)) {
+                    rule.setType(GendarmeRuleType.Method);
+                }
+                else if ("Assembly".equals(typeString)) {
+                    rule.setType(GendarmeRuleType.Assembly);
+                }
+                try {
+                    rule.setUrl(new URL(StringUtils.defaultString(xml.getAttribute("Uri"))));
+                }
+                catch (MalformedURLException ignored) {
+                    rule.setUrl(null);
+                }
+                rule.setTypeName(xml.getTextContent());
 
-            String typeString = ruleElement.getAttribute("Type");
-            if ("Type".equals(typeString)) {
-                rule.setType(GendarmeRuleType.Type);
-            }
-            else if ("Method".equals(typeString)) {
-                rule.setType(GendarmeRuleType.Method);
-            }
-            else if ("Assembly".equals(typeString)) {
-                rule.setType(GendarmeRuleType.Assembly);
-            }
-            try {
-                rule.setUrl(new URL(ruleElement.getAttribute("Uri")));
+                // add the rule to the cache
+                rules.put(rule.getName(), rule);
             }
-            catch (MalformedURLException ignored) {
-                rule.setUrl(null);
-            }
-
-            // add the rule to the cache
-            rules.put(rule.getName(), rule);
         }
+    }
 
-        return rules;
+    /**
+     * A defect of a result rule.
+     */
+    private static class Defect {
+        private final String ruleName;
+        private final String source;
+        private final String severity;
+        private String problem = StringUtils.EMPTY;
+
+        Defect(final String ruleName, final String source, final String severity) {
+            this.ruleName = ruleName;
+            this.source = source;
+            this.severity = severity;
+        }
     }
 }
@@ -11,7 +11,9 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * Java Bean class for a file of the PMD format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link PmdParser} reads the issues directly from the XML stream
  */
+@Deprecated
 @SuppressWarnings("InstanceVariableMayNotBeInitialized")
 public class File {
     /** Name of the file. */
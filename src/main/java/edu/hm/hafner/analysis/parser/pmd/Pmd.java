@@ -9,7 +9,9 @@ import java.util.List;
  * Java Bean class for a violations collection of the PMD format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link PmdParser} reads the issues directly from the XML stream
  */
+@Deprecated
 public class Pmd {
     /** All files of this violations collection. */
     private final List<File> files = new ArrayList<>();
@@ -4,15 +4,16 @@ import java.io.IOException;
 import java.io.Reader;
 
 import org.apache.commons.lang3.StringUtils;
-import org.xml.sax.SAXException;
 
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.TreeStringBuilder;
 
 /**
  * A parser for PMD XML files.
@@ -29,71 +30,70 @@ public class PmdParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        SecureDigester digester = new SecureDigester(PmdParser.class);
-
-        String rootXPath = "pmd";
-        digester.addObjectCreate(rootXPath, Pmd.class);
-        digester.addSetProperties(rootXPath);
-
-        String fileXPath = "pmd/file";
-        digester.addObjectCreate(fileXPath, File.class);
-        digester.addSetProperties(fileXPath);
-        digester.addSetNext(fileXPath, "addFile", File.class.getName());
-
-        String bugXPath = "pmd/file/violation";
-        digester.addObjectCreate(bugXPath, Violation.class);
-        digester.addSetProperties(bugXPath);
-        digester.addCallMethod(bugXPath, "setMessage", 0);
-        digester.addSetNext(bugXPath, "addViolation", Violation.class.getName());
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
 
-        try (Reader reader = readerFactory.create()) {
-            Pmd pmd = digester.parse(reader);
-            if (pmd == null) {
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("pmd")) {
                 throw new ParsingException("Input stream is not a PMD file.");
             }
 
-            return convert(pmd);
+            convert(xml, consumer);
         }
-        catch (IOException | SAXException exception) {
+        catch (IOException exception) {
             throw new ParsingException(exception);
         }
     }
 
-    private Report convert(final Pmd pmdIssues) {
-        Report report = new Report();
-        for (File file : pmdIssues.getFiles()) {
-            for (Violation warning : file.getViolations()) {
-                IssueBuilder builder = new IssueBuilder().setSeverity(mapPriority(warning))
-                        .setMessage(createMessage(warning))
-                        .setCategory(warning.getRuleset())
-                        .setType(warning.getRule())
-                        .setLineStart(warning.getBeginline())
-                        .setLineEnd(warning.getEndline())
-                        .setPackageName(warning.getPackage())
-                        .setFileName(file.getName())
-                        .setColumnStart(warning.getBegincolumn())
-                        .setColumnEnd(warning.getEndcolumn());
-                report.add(builder.build());
+    /**
+     * Converts the violations of the PMD file to issues while the file is being read.
+     *
+     * @param xml
+     *         the PMD file, positioned at the root element
+     * @param consumer
+     *         the consumer that receives the issues
+     */
+    private void convert(final SecureXmlStreamReader xml, final IssueConsumer consumer) {
+        TreeStringBuilder stringBuilder = new TreeStringBuilder();
+        String fileName = null;
+        while (xml.nextElement()) {
+            if (xml.isAt("pmd/file")) {
+                fileName = xml.getAttribute("name");
+            }
+            else if (xml.isAt("pmd/file/violation")) {
+                IssueBuilder builder = new IssueBuilder(stringBuilder)
+                        .setSeverity(mapPriority(xml.getIntAttribute("priority")))
+                        .setCategory(xml.getAttribute("ruleset"))
+                        .setType(xml.getAttribute("rule"))
+                        .setLineStart(xml.getIntAttribute("beginline"))
+                        .setLineEnd(xml.getIntAttribute("endline"))
+                        .setPackageName(xml.getAttribute("package"))
+                        .setFileName(fileName)
+                        .setColumnStart(xml.getIntAttribute("begincolumn"))
+                        .setColumnEnd(xml.getIntAttribute("endcolumn"));
+                builder.setMessage(createMessage(xml.getText()));
+                consumer.accept(builder.build());
             }
         }
-        return report;
+        stringBuilder.dedup();
     }
 
-    private Severity mapPriority(final Violation warning) {
-        if (warning.getPriority() < PMD_PRIORITY_MAPPED_TO_HIGH_PRIORITY) {
+    private Severity mapPriority(final int priority) {
+        if (priority < PMD_PRIORITY_MAPPED_TO_HIGH_PRIORITY) {
             return Severity.WARNING_HIGH;
         }
-        else if (warning.getPriority() > PMD_PRIORITY_MAPPED_TO_LOW_PRIORITY) {
+        else if (priority > PMD_PRIORITY_MAPPED_TO_LOW_PRIORITY) {
             return Severity.WARNING_LOW;
         }
         return Severity.WARNING_NORMAL;
     }
 
-    private String createMessage(final Violation warning) {
-        String original = warning.getMessage();
-        if (original == null) {
-            return StringUtils.EMPTY;
-        }
+    private String createMessage(final String original) {
         if (StringUtils.endsWith(original, ".")) {
             return original;
         }
@@ -6,7 +6,9 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * Java Bean class for a violation of the PMD format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link PmdParser} reads the issues directly from the XML stream
  */
+@Deprecated
 @SuppressWarnings("all")
 public class Violation {
     /** Type of warning. */
@@ -4,6 +4,7 @@ import java.util.List;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingCanceledException;
 import edu.hm.hafner.analysis.ParsingException;
@@ -23,14 +24,22 @@ import se.bjurr.violations.lib.parsers.ViolationsParser;
 public abstract class AbstractViolationAdapter extends IssueParser {
     private static final long serialVersionUID = 7203311857999721045L;
 
-    @SuppressWarnings({"illegalcatch", "OverlyBroadCatchBlock"})
     @Override
     public Report parse(final ReaderFactory readerFactory)
             throws ParsingCanceledException, ParsingException {
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
+
+    @SuppressWarnings({"illegalcatch", "OverlyBroadCatchBlock"})
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingCanceledException, ParsingException {
         try {
             ViolationsParser parser = createParser();
             List<Violation> violations = parser.parseReportOutput(readerFactory.readString());
-            return convertToReport(violations);
+            convert(violations, consumer);
         }
         catch (Exception exception) {
             throw new ParsingException(exception);
@@ -44,14 +53,12 @@ public abstract class AbstractViolationAdapter extends IssueParser {
      */
     protected abstract ViolationsParser createParser();
 
-    private Report convertToReport(final List<Violation> violations) {
-        Report report = new Report();
+    private void convert(final List<Violation> violations, final IssueConsumer consumer) {
         for (Violation violation : violations) {
             if (isValid(violation)) {
-                report.add(convertToIssue(violation));
+                consumer.accept(convertToIssue(violation));
             }
         }
-        return report;
     }
 
     /**
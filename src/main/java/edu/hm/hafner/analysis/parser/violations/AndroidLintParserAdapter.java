@@ -1,5 +1,20 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
+import edu.hm.hafner.analysis.Severity;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
 import se.bjurr.violations.lib.parsers.AndroidLintParser;
 
 /**
@@ -10,8 +25,84 @@ import se.bjurr.violations.lib.parsers.AndroidLintParser;
 public class AndroidLintParserAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = 2441144477814669681L;
 
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are read using
+     * a {@link SecureXmlStreamReader}.
+     *
+     * @return the {@link AndroidLintParser} instance
+     * @deprecated the reports are parsed natively
+     */
+    @Deprecated
     @Override
     protected AndroidLintParser createParser() {
         return new AndroidLintParser();
     }
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("issues")) {
+                throw new ParsingException("Input stream is not an Android Lint file.");
+            }
+
+            while (xml.nextElement()) {
+                if (xml.isAt("issues/issue")) {
+                    consumer.accept(parseIssue(xml));
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private Issue parseIssue(final SecureXmlStreamReader xml) {
+        IssueBuilder builder = new IssueBuilder().setType(xml.getAttribute("id"))
+                .setCategory(xml.getAttribute("category"))
+                .setSeverity(mapSeverity(xml.getAttribute("severity")))
+                .setMessage(createMessage(xml.getAttribute("summary"), xml.getAttribute("message"),
+                        xml.getAttribute("explanation")));
+
+        boolean hasLocation = false;
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (!hasLocation && xml.getDepth() == depth + 1 && "location".equals(xml.getName())) {
+                hasLocation = true;
+                builder.setFileName(xml.getAttribute("file"))
+                        .setLineStart(xml.getIntAttribute("line"))
+                        .setColumnStart(xml.getIntAttribute("column"));
+            }
+        }
+        return builder.build();
+    }
+
+    private String createMessage(@Nullable final String summary, @Nullable final String message,
+            @Nullable final String explanation) {
+        StringBuilder text = new StringBuilder(StringUtils.defaultString(summary));
+        if (StringUtils.isNotBlank(message)) {
+            text.append(": ").append(message);
+        }
+        if (StringUtils.isNotBlank(explanation)) {
+            text.append("\n\n").append(explanation);
+        }
+        return text.toString();
+    }
+
+    private Severity mapSeverity(@Nullable final String severity) {
+        if ("Fatal".equals(severity) || "Error".equals(severity)) {
+            return Severity.WARNING_HIGH;
+        }
+        if ("Warning".equals(severity)) {
+            return Severity.WARNING_NORMAL;
+        }
+        return Severity.WARNING_LOW;
+    }
 }
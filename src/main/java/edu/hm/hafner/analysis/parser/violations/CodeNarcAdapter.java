@@ -1,17 +1,173 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
+import edu.hm.hafner.analysis.Severity;
+
 import se.bjurr.violations.lib.parsers.CodeNarcParser;
 
 /**
- * Parses CodeNarc files.
+ * Parses CodeNarc files. The descriptions of the rules are listed at the end of a CodeNarc file, so the violations are
+ * converted to issues after the whole file has been read.
  *
  * @author Ullrich Hafner
  */
 public class CodeNarcAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = -5699747899173867285L;
 
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are read using
+     * a {@link SecureXmlStreamReader}.
+     *
+     * @return the {@link CodeNarcParser} instance
+     * @deprecated the reports are parsed natively
+     */
+    @Deprecated
     @Override
     protected CodeNarcParser createParser() {
         return new CodeNarcParser();
     }
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("CodeNarc")) {
+                throw new ParsingException("Input stream is not a CodeNarc file.");
+            }
+
+            List<Violation> violations = new ArrayList<>();
+            Map<String, String> descriptions = new HashMap<>();
+            String path = StringUtils.EMPTY;
+            String fileName = StringUtils.EMPTY;
+            while (xml.nextElement()) {
+                if (xml.isAt("CodeNarc/Package")) {
+                    path = StringUtils.defaultString(xml.getAttribute("path"));
+                }
+                else if (xml.isAt("CodeNarc/Package/File")) {
+                    fileName = getFileName(path, StringUtils.defaultString(xml.getAttribute("name")));
+                }
+                else if (xml.isAt("CodeNarc/Package/File/Violation")) {
+                    violations.add(parseViolation(xml, fileName));
+                }
+                else if (xml.isAt("CodeNarc/Rules/Rule")) {
+                    parseRule(xml, descriptions);
+                }
+            }
+            return convert(violations, descriptions);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the specified file for issues and hands each issue over to the specified consumer. Since the descriptions
+     * of the rules are available only at the end of the file, the complete report is created first.
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     * @param consumer
+     *         the consumer that receives the issues
+     *
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     */
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        for (Issue issue : parse(readerFactory)) {
+            consumer.accept(issue);
+        }
+    }
+
+    private String getFileName(final String path, final String name) {
+        if (path.isEmpty()) {
+            return name;
+        }
+        return path + "/" + name;
+    }
+
+    private Violation parseViolation(final SecureXmlStreamReader xml, final String fileName) {
+        Violation violation = new Violation(fileName, StringUtils.defaultString(xml.getAttribute("ruleName")),
+                xml.getIntAttribute("priority"), xml.getIntAttribute("lineNumber"));
+
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1 && "Message".equals(xml.getName())) {
+                violation.message = xml.getText();
+            }
+        }
+        return violation;
+    }
+
+    private void parseRule(final SecureXmlStreamReader xml, final Map<String, String> descriptions) {
+        String name = StringUtils.defaultString(xml.getAttribute("name"));
+
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1 && "Description".equals(xml.getName())) {
+                descriptions.putIfAbsent(name, xml.getText());
+            }
+        }
+    }
+
+    private Report convert(final List<Violation> violations, final Map<String, String> descriptions) {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (Violation violation : violations) {
+            String message = violation.message;
+            if (StringUtils.isBlank(message)) {
+                message = descriptions.getOrDefault(violation.ruleName, violation.ruleName);
+            }
+            report.add(builder.setFileName(violation.fileName)
+                    .setLineStart(violation.line)
+                    .setType(violation.ruleName)
+                    .setMessage(message)
+                    .setSeverity(mapPriority(violation.priority))
+                    .build());
+        }
+        return report;
+    }
+
+    private Severity mapPriority(final int priority) {
+        if (priority == 1) {
+            return Severity.WARNING_HIGH;
+        }
+        if (priority == 2) {
+            return Severity.WARNING_NORMAL;
+        }
+        return Severity.WARNING_LOW;
+    }
+
+    /**
+     * A violation whose rule description has not been read yet.
+     */
+    private static class Violation {
+        private final String fileName;
+        private final String ruleName;
+        private final int priority;
+        private final int line;
+        private String message = StringUtils.EMPTY;
+
+        Violation(final String fileName, final String ruleName, final int priority, final int line) {
+            this.fileName = fileName;
+            this.ruleName = ruleName;
+            this.priority = priority;
+            this.line = line;
+        }
+    }
 }
@@ -1,17 +1,99 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.LookaheadParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.LookaheadStream;
+
 import se.bjurr.violations.lib.parsers.Flake8Parser;
 
 /**
- * Parses Flake8 files.
+ * Parses Flake8 files. Both the default format and the pylint format of Flake8 are supported.
  *
  * @author Ullrich Hafner
  */
 public class Flake8Adapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = 4524731070497002381L;
 
+    private static final String FLAKE8_WARNING_PATTERN = "([^:]*):(\\d+)?:?(\\d+)?:? \\[?(\\D+)(\\d*)\\]? (.*)";
+
+    private final LineParser lineParser = new LineParser();
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        return lineParser.parse(readerFactory);
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        lineParser.parse(readerFactory, consumer);
+    }
+
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are parsed line
+     * by line.
+     *
+     * @return the {@link Flake8Parser} instance
+     * @deprecated the reports are parsed using a {@link LookaheadParser}
+     */
+    @Deprecated
     @Override
     protected Flake8Parser createParser() {
         return new Flake8Parser();
     }
+
+    /**
+     * Parses the lines of a Flake8 report.
+     */
+    private static class LineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        LineParser() {
+            super(FLAKE8_WARNING_PATTERN);
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            String severity = matcher.group(4);
+
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setColumnStart(matcher.group(3))
+                    .setType(severity + matcher.group(5))
+                    .setMessage(matcher.group(6))
+                    .setSeverity(mapSeverity(severity))
+                    .buildOptional();
+        }
+
+        private Severity mapSeverity(final String severity) {
+            if ("E".equals(severity) || "F".equals(severity)) {
+                return Severity.WARNING_HIGH;
+            }
+            if ("W".equals(severity) || "C".equals(severity)) {
+                return Severity.WARNING_NORMAL;
+            }
+            return Severity.WARNING_LOW;
+        }
+    }
 }
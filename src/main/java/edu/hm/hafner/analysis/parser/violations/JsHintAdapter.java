@@ -1,17 +1,90 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
+import edu.hm.hafner.analysis.Severity;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
 import se.bjurr.violations.lib.parsers.JSHintParser;
 
 /**
- * Parses JSHint files.
+ * Parses JSHint files that have been created using the JSLint XML reporter.
  *
  * @author Ullrich Hafner
  */
 public class JsHintAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = 2981825338893917845L;
 
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are read using
+     * a {@link SecureXmlStreamReader}.
+     *
+     * @return the {@link JSHintParser} instance
+     * @deprecated the reports are parsed natively
+     */
+    @Deprecated
     @Override
     protected JSHintParser createParser() {
         return new JSHintParser();
     }
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("jslint")) {
+                throw new ParsingException("Input stream is not a JSLint file.");
+            }
+
+            IssueBuilder builder = new IssueBuilder();
+            while (xml.nextElement()) {
+                if (xml.isAt("jslint/file")) {
+                    builder.setFileName(xml.getAttribute("name"));
+                }
+                else if (xml.isAt("jslint/file/issue")) {
+                    builder.setLineStart(xml.getIntAttribute("line"))
+                            .setColumnStart(xml.getIntAttribute("char"))
+                            .setMessage(createMessage(xml.getAttribute("reason"), xml.getAttribute("evidence")))
+                            .setSeverity(mapSeverity(xml.getAttribute("severity")));
+                    consumer.accept(builder.build());
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private String createMessage(@Nullable final String reason, @Nullable final String evidence) {
+        if (StringUtils.isBlank(evidence)) {
+            return StringUtils.defaultString(reason);
+        }
+        return StringUtils.defaultString(reason) + ": " + evidence.trim();
+    }
+
+    private Severity mapSeverity(@Nullable final String severity) {
+        if ("E".equals(severity)) {
+            return Severity.WARNING_HIGH;
+        }
+        if ("W".equals(severity)) {
+            return Severity.WARNING_NORMAL;
+        }
+        return Severity.WARNING_LOW;
+    }
 }
@@ -1,5 +1,19 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
+import edu.hm.hafner.analysis.Severity;
+
 import se.bjurr.violations.lib.parsers.KlocworkParser;
 
 /**
@@ -10,8 +24,115 @@ import se.bjurr.violations.lib.parsers.KlocworkParser;
 public class KlocWorkAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = 5676554459268768313L;
 
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are read using
+     * a {@link SecureXmlStreamReader}.
+     *
+     * @return the {@link KlocworkParser} instance
+     * @deprecated the reports are parsed natively
+     */
+    @Deprecated
     @Override
     protected KlocworkParser createParser() {
         return new KlocworkParser();
     }
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("errorList")) {
+                throw new ParsingException("Input stream is not a Klocwork file.");
+            }
+
+            while (xml.nextElement()) {
+                if (xml.isAt("errorList/problem")) {
+                    consumer.accept(parseProblem(xml));
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private Issue parseProblem(final SecureXmlStreamReader xml) {
+        String file = null;
+        String method = StringUtils.EMPTY;
+        String code = null;
+        String message = StringUtils.EMPTY;
+        String url = StringUtils.EMPTY;
+        int line = 0;
+        int column = 0;
+        int severity = 0;
+
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1) {
+                switch (xml.getName()) {
+                    case "file":
+                        file = xml.getText();
+                        break;
+                    case "method":
+                        method = xml.getText();
+                        break;
+                    case "code":
+                        code = xml.getText();
+                        break;
+                    case "message":
+                        message = xml.getText();
+                        break;
+                    case "url":
+                        url = xml.getText();
+                        break;
+                    case "line":
+                        line = xml.getIntText();
+                        break;
+                    case "column":
+                        column = xml.getIntText();
+                        break;
+                    case "severitylevel":
+                        severity = xml.getIntText();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        StringBuilder text = new StringBuilder();
+        if (StringUtils.isNotEmpty(method)) {
+            text.append("In method ").append(method).append(". ");
+        }
+        text.append(message);
+        if (StringUtils.isNotEmpty(url)) {
+            text.append(' ').append(url);
+        }
+
+        // issues without a line number are assigned to the first line of the file
+        return new IssueBuilder().setFileName(file)
+                .setLineStart(line > 0 ? line : 1)
+                .setColumnStart(column)
+                .setType(code)
+                .setMessage(text.toString())
+                .setSeverity(mapSeverity(severity))
+                .build();
+    }
+
+    private Severity mapSeverity(final int severityLevel) {
+        if (severityLevel == 1 || severityLevel == 2) {
+            return Severity.WARNING_HIGH;
+        }
+        if (severityLevel == 3) {
+            return Severity.WARNING_NORMAL;
+        }
+        return Severity.WARNING_LOW;
+    }
 }
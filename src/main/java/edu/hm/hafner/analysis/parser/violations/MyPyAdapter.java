@@ -1,17 +1,96 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.LookaheadParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.LookaheadStream;
+
 import se.bjurr.violations.lib.parsers.MyPyParser;
 
 /**
- * Parses MyPy files.
+ * Parses MyPy files. Notes without a line number (e.g. the enclosing class of the following errors) are skipped.
  *
  * @author Ullrich Hafner
  */
 public class MyPyAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = -6091072858896474363L;
 
+    private static final String MYPY_WARNING_PATTERN = "([^:]*):(\\d+):(?:(\\d+):)? (error|warning|note): (.*)";
+
+    private final LineParser lineParser = new LineParser();
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        return lineParser.parse(readerFactory);
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        lineParser.parse(readerFactory, consumer);
+    }
+
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are parsed line
+     * by line.
+     *
+     * @return the {@link MyPyParser} instance
+     * @deprecated the reports are parsed using a {@link LookaheadParser}
+     */
+    @Deprecated
     @Override
     protected MyPyParser createParser() {
         return new MyPyParser();
     }
+
+    /**
+     * Parses the lines of a MyPy report.
+     */
+    private static class LineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        LineParser() {
+            super(MYPY_WARNING_PATTERN);
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setColumnStart(matcher.group(3))
+                    .setMessage(matcher.group(5))
+                    .setSeverity(mapSeverity(matcher.group(4)))
+                    .buildOptional();
+        }
+
+        private Severity mapSeverity(final String severity) {
+            if ("error".equals(severity)) {
+                return Severity.WARNING_HIGH;
+            }
+            if ("warning".equals(severity)) {
+                return Severity.WARNING_NORMAL;
+            }
+            return Severity.WARNING_LOW;
+        }
+    }
 }
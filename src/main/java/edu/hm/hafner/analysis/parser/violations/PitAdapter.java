@@ -1,45 +1,122 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
 import edu.hm.hafner.analysis.Severity;
-import edu.umd.cs.findbugs.annotations.Nullable;
 
-import se.bjurr.violations.lib.model.SEVERITY;
-import se.bjurr.violations.lib.model.Violation;
 import se.bjurr.violations.lib.parsers.PiTestParser;
 
 /**
- * Parses PIT results files.
+ * Parses PIT results files. Only mutations that have not been detected by the tests are reported.
  *
  * @author Ullrich Hafner
  */
 public class PitAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = -7811207963029906228L;
-    private static final String STATUS = "status";
-    private static final String DETECTED = "detected";
+    private static final String SURVIVED = "SURVIVED";
 
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are read using
+     * a {@link SecureXmlStreamReader}.
+     *
+     * @return the {@link PiTestParser} instance
+     * @deprecated the reports are parsed natively
+     */
+    @Deprecated
     @Override
     protected PiTestParser createParser() {
         return new PiTestParser();
     }
 
     @Override
-    protected boolean isValid(final Violation violation) {
-        return "false".equals(getSpecifics(violation, DETECTED));
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
     }
 
     @Override
-    protected Severity convertSeverity(final SEVERITY severity, final Violation violation) {
-        return "SURVIVED".equals(getSpecifics(violation, STATUS)) ? Severity.WARNING_HIGH : Severity.WARNING_NORMAL;
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("mutations")) {
+                throw new ParsingException("Input stream is not a PIT file.");
+            }
+
+            while (xml.nextElement()) {
+                if (xml.isAt("mutations/mutation")) {
+                    parseMutation(xml).ifPresent(consumer::accept);
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
     }
 
-    @Nullable
-    private String getSpecifics(final Violation violation, final String key) {
-        return violation.getSpecifics().get(key);
+    private Optional<Issue> parseMutation(final SecureXmlStreamReader xml) {
+        boolean isDetected = !"false".equals(xml.getAttribute("detected"));
+        String status = xml.getAttribute("status");
+
+        String sourceFile = StringUtils.EMPTY;
+        String mutatedClass = StringUtils.EMPTY;
+        String methodDescription = StringUtils.EMPTY;
+        String mutator = StringUtils.EMPTY;
+        int lineNumber = 0;
+
+        int depth = xml.getDepth();
+        while (xml.nextElement(depth)) {
+            if (xml.getDepth() == depth + 1) {
+                switch (xml.getName()) {
+                    case "sourceFile":
+                        sourceFile = xml.getText();
+                        break;
+                    case "mutatedClass":
+                        mutatedClass = xml.getText();
+                        break;
+                    case "methodDescription":
+                        methodDescription = xml.getText();
+                        break;
+                    case "mutator":
+                        mutator = xml.getText();
+                        break;
+                    case "lineNumber":
+                        lineNumber = xml.getIntText();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        if (isDetected) {
+            return Optional.empty();
+        }
+        return new IssueBuilder().setFileName(getFileName(mutatedClass, sourceFile))
+                .setLineStart(lineNumber)
+                .setCategory(status)
+                .setType(mutator)
+                .setMessage(status + ", " + mutator + ", " + methodDescription)
+                .setSeverity(SURVIVED.equals(status) ? Severity.WARNING_HIGH : Severity.WARNING_NORMAL)
+                .buildOptional();
     }
 
-    @Override
-    protected void extractAdditionalProperties(final IssueBuilder builder, final Violation violation) {
-        builder.setCategory(getSpecifics(violation, STATUS));
+    private String getFileName(final String mutatedClass, final String sourceFile) {
+        String packageName = StringUtils.substringBeforeLast(mutatedClass, ".");
+        if (packageName.equals(mutatedClass)) {
+            return sourceFile;
+        }
+        return packageName.replace('.', '/') + "/" + sourceFile;
     }
 }
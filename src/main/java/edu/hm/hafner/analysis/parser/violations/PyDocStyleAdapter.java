@@ -1,17 +1,97 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.LookaheadParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.LookaheadStream;
+
 import se.bjurr.violations.lib.parsers.PyDocStyleParser;
 
 /**
- * Parses PyDocStyle results files.
+ * Parses PyDocStyle results files. Each issue consists of two lines: the location of the issue is followed by the
+ * code and message of the issue on an indented line.
  *
  * @author Ullrich Hafner
  */
 public class PyDocStyleAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = 1119003057153007718L;
 
+    private static final String PY_DOC_STYLE_LOCATION_PATTERN = "^(.+?):(\\d+)\\s.*:$";
+    private static final Pattern MESSAGE_PATTERN = Pattern.compile("^\\s+(D\\d+): (.*)$");
+
+    private final LineParser lineParser = new LineParser();
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        return lineParser.parse(readerFactory);
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        lineParser.parse(readerFactory, consumer);
+    }
+
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are parsed line
+     * by line.
+     *
+     * @return the {@link PyDocStyleParser} instance
+     * @deprecated the reports are parsed using a {@link LookaheadParser}
+     */
+    @Deprecated
     @Override
     protected PyDocStyleParser createParser() {
         return new PyDocStyleParser();
     }
+
+    /**
+     * Parses the lines of a PyDocStyle report.
+     */
+    private static class LineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        LineParser() {
+            super(PY_DOC_STYLE_LOCATION_PATTERN);
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            if (!lookahead.hasNext(MESSAGE_PATTERN)) {
+                return Optional.empty();
+            }
+            Matcher messageMatcher = MESSAGE_PATTERN.matcher(lookahead.next());
+            if (!messageMatcher.matches()) {
+                return Optional.empty();
+            }
+
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setType(messageMatcher.group(1))
+                    .setMessage(messageMatcher.group(2))
+                    .setSeverity(Severity.WARNING_HIGH)
+                    .buildOptional();
+        }
+    }
 }
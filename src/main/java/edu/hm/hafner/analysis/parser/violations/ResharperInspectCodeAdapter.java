@@ -1,18 +1,126 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlStreamReader;
+import edu.hm.hafner.analysis.Severity;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
 import se.bjurr.violations.lib.parsers.ResharperParser;
 import se.bjurr.violations.lib.parsers.ViolationsParser;
 
 /**
- * A parser for the Resharper InspectCode compiler warnings.
+ * A parser for the Resharper InspectCode compiler warnings. The issue types are listed before the issues, so the
+ * issues are created while the file is being read.
  *
  * @author Ullrich Hafner
  */
 public class ResharperInspectCodeAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = -7285232072855215797L;
 
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are read using
+     * a {@link SecureXmlStreamReader}.
+     *
+     * @return the {@link ResharperParser} instance
+     * @deprecated the reports are parsed natively
+     */
+    @Deprecated
     @Override
     protected ViolationsParser createParser() {
         return new ResharperParser();
     }
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        Report report = new Report();
+        parse(readerFactory, report);
+        return report;
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer) throws ParsingException {
+        try (Reader reader = readerFactory.create();
+                SecureXmlStreamReader xml = new SecureXmlStreamReader(reader)) {
+            if (!xml.nextElement() || !xml.isAt("Report")) {
+                throw new ParsingException("Input stream is not a Resharper InspectCode file.");
+            }
+
+            Map<String, IssueType> issueTypes = new HashMap<>();
+            while (xml.nextElement()) {
+                if (xml.isAt("Report/IssueTypes/IssueType")) {
+                    IssueType issueType = new IssueType(xml);
+                    issueTypes.put(issueType.id, issueType);
+                }
+                else if (xml.isAt("Report/Issues/Project/Issue")) {
+                    consumer.accept(createIssue(xml, issueTypes));
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private Issue createIssue(final SecureXmlStreamReader xml, final Map<String, IssueType> issueTypes) {
+        String typeId = StringUtils.defaultString(xml.getAttribute("TypeId"));
+        IssueType issueType = issueTypes.getOrDefault(typeId, new IssueType(typeId));
+
+        return new IssueBuilder().setFileName(StringUtils.replace(xml.getAttribute("File"), "\\", "/"))
+                .setLineStart(xml.getIntAttribute("Line"))
+                .setType(typeId)
+                .setMessage(StringUtils.defaultString(xml.getAttribute("Message")) + ". " + issueType.category
+                        + ". " + issueType.getDescription())
+                .setSeverity(issueType.severity)
+                .build();
+    }
+
+    private static Severity mapSeverity(@Nullable final String severity) {
+        if ("ERROR".equals(severity)) {
+            return Severity.WARNING_HIGH;
+        }
+        if ("WARNING".equals(severity)) {
+            return Severity.WARNING_NORMAL;
+        }
+        return Severity.WARNING_LOW;
+    }
+
+    /**
+     * The properties of an issue type.
+     */
+    private static class IssueType {
+        private final String id;
+        private final String category;
+        private final String description;
+        private final Severity severity;
+
+        IssueType(final SecureXmlStreamReader xml) {
+            id = StringUtils.defaultString(xml.getAttribute("Id"));
+            category = StringUtils.defaultString(xml.getAttribute("Category"));
+            description = StringUtils.defaultString(xml.getAttribute("Description"));
+            severity = mapSeverity(xml.getAttribute("Severity"));
+        }
+
+        IssueType(final String id) {
+            this.id = id;
+            category = StringUtils.EMPTY;
+            description = StringUtils.EMPTY;
+            severity = Severity.WARNING_LOW;
+        }
+
+        String getDescription() {
+            return description.isEmpty() ? id : description;
+        }
+    }
 }
@@ -1,17 +1,88 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.LookaheadParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.LookaheadStream;
+
 import se.bjurr.violations.lib.parsers.YAMLlintParser;
 
 /**
- * Parses YAMLLint results files.
+ * Parses YAMLLint results files that have been created using the parsable format.
  *
  * @author Ullrich Hafner
  */
 public class YamlLintAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = 1233385439193697120L;
 
+    private static final String YAML_LINT_WARNING_PATTERN
+            = "([^:]*):(\\d+):(\\d+): \\[(error|warning)\\] (.*?)(?: \\(([\\w-]+)\\))?$";
+
+    private final LineParser lineParser = new LineParser();
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        return lineParser.parse(readerFactory);
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        lineParser.parse(readerFactory, consumer);
+    }
+
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are parsed line
+     * by line.
+     *
+     * @return the {@link YAMLlintParser} instance
+     * @deprecated the reports are parsed using a {@link LookaheadParser}
+     */
+    @Deprecated
     @Override
     protected YAMLlintParser createParser() {
         return new YAMLlintParser();
     }
+
+    /**
+     * Parses the lines of a YamlLint report.
+     */
+    private static class LineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        LineParser() {
+            super(YAML_LINT_WARNING_PATTERN);
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setColumnStart(matcher.group(3))
+                    .setType(matcher.group(6))
+                    .setMessage(matcher.group(5))
+                    .setSeverity("error".equals(matcher.group(4)) ? Severity.WARNING_HIGH : Severity.WARNING_NORMAL)
+                    .buildOptional();
+        }
+    }
 }
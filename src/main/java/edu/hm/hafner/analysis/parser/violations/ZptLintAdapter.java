@@ -1,5 +1,19 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueConsumer;
+import edu.hm.hafner.analysis.LookaheadParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.LookaheadStream;
+
 import se.bjurr.violations.lib.parsers.ZPTLintParser;
 
 /**
@@ -10,8 +24,62 @@ import se.bjurr.violations.lib.parsers.ZPTLintParser;
 public class ZptLintAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = -6204265426578715957L;
 
+    private static final String ZPT_LINT_WARNING_PATTERN = "Error in: (.*?)  (.*?)\\s*, at line (\\d+)";
+
+    private final LineParser lineParser = new LineParser();
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        return lineParser.parse(readerFactory);
+    }
+
+    @Override
+    public void parse(final ReaderFactory readerFactory, final IssueConsumer consumer)
+            throws ParsingException, ParsingCanceledException {
+        lineParser.parse(readerFactory, consumer);
+    }
+
+    /**
+     * Creates the parser of the violations library. This parser is not used anymore, since the reports are parsed line
+     * by line.
+     *
+     * @return the {@link ZPTLintParser} instance
+     * @deprecated the reports are parsed using a {@link LookaheadParser}
+     */
+    @Deprecated
     @Override
     protected ZPTLintParser createParser() {
         return new ZPTLintParser();
     }
+
+    /**
+     * Parses the lines of a ZptLint report.
+     */
+    private static class LineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        LineParser() {
+            super(ZPT_LINT_WARNING_PATTERN);
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(3))
+                    .setMessage(matcher.group(2))
+                    .setSeverity(Severity.WARNING_HIGH)
+                    .buildOptional();
+        }
+    }
 }
@@ -0,0 +1,219 @@
+package edu.hm.hafner.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Searches a text for several literal strings at once using the algorithm of Aho and Corasick. The text is scanned
+ * only once, independent of the number of literals.
+ *
+ * @author Ullrich Hafner
+ */
+public class AhoCorasickMatcher {
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final int size;
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    /**
+     * Creates a new {@link AhoCorasickMatcher} for the specified literals. The index of a literal is given by the
+     * iteration order of the collection.
+     *
+     * @param literals
+     *         the literals to search for
+     */
+    public AhoCorasickMatcher(final Collection<String> literals) {
+        size = literals.size();
+
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> matches = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        matches.add(new ArrayList<>());
+
+        int index = 0;
+        for (String literal : literals) {
+            int state = ROOT;
+            for (int i = 0; i < literal.length(); i++) {
+                Integer next = trie.get(state).get(literal.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    matches.add(new ArrayList<>());
+                    trie.get(state).put(literal.charAt(i), next);
+                }
+                state = next;
+            }
+            matches.get(state).add(index++);
+        }
+
+        int states = trie.size();
+        labels = new char[states][];
+        targets = new int[states][];
+        failures = new int[states];
+        outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            Map<Character, Integer> transitions = trie.get(state);
+            labels[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int position = 0;
+            for (Entry<Character, Integer> transition : transitions.entrySet()) {
+                labels[state][position] = transition.getKey();
+                targets[state][position] = transition.getValue();
+                position++;
+            }
+        }
+
+        createFailureLinks(matches);
+    }
+
+    /**
+     * Computes the failure links in breadth first order. The matches of the failure state are merged into the matches
+     * of each state, so that a search needs to inspect the output of the current state only.
+     */
+    private void createFailureLinks(final List<List<Integer>> matches) {
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputs[ROOT] = toArray(matches.get(ROOT));
+        for (int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            List<Integer> output = matches.get(state);
+            output.addAll(matches.get(failures[state]));
+            outputs[state] = toArray(output);
+
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                failures[child] = step(failures[state], labels[state][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private int[] toArray(final List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private int step(final int start, final char character) {
+        int state = start;
+        while (true) {
+            int position = binarySearch(labels[state], character);
+            if (position >= 0) {
+                return targets[state][position];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+
+    private int binarySearch(final char[] sorted, final char character) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char value = sorted[middle];
+            if (value < character) {
+                low = middle + 1;
+            }
+            else if (value > character) {
+                high = middle - 1;
+            }
+            else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of literals of this matcher.
+     *
+     * @return the number of literals
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the specified text contains at least one of the literals.
+     *
+     * @param text
+     *         the text to search in
+     *
+     * @return {@code true} if the text contains at least one of the literals, {@code false} otherwise
+     */
+    public boolean containsAny(final CharSequence text) {
+        if (outputs[ROOT].length > 0) {
+            return true;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns all literals that are contained in the specified text.
+     *
+     * @param text
+     *         the text to search in
+     *
+     * @return the indexes of the found literals
+     */
+    public BitSet findAll(final CharSequence text) {
+        BitSet found = new BitSet(size);
+        findAll(text, found);
+        return found;
+    }
+
+    /**
+     * Finds all literals that are contained in the specified text. The indexes of the found literals are stored in the
+     * specified bit set, so that the same bit set can be reused when searching several texts.
+     *
+     * @param text
+     *         the text to search in
+     * @param found
+     *         the bit set that will be cleared and then receives the indexes of the found literals
+     */
+    public void findAll(final CharSequence text, final BitSet found) {
+        found.clear();
+        addOutput(found, ROOT);
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            addOutput(found, state);
+        }
+    }
+
+    private void addOutput(final BitSet found, final int state) {
+        for (int literal : outputs[state]) {
+            found.set(literal);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package edu.hm.hafner.util;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A source of text lines. In contrast to a {@link Stream} of strings, the lines are provided as {@link CharSequence}
+ * views that are valid only until the next line has been read. So a source does not need to create a new string for
+ * each line: callers that need to keep a line need to call {@link CharSequence#toString()}.
+ *
+ * @author Ullrich Hafner
+ */
+public interface LineSource extends AutoCloseable {
+    /**
+     * Reads the next line. The returned view is valid until the next invocation of this method.
+     *
+     * @return the next line (without line terminator), or {@code null} if there are no more lines
+     */
+    @Nullable
+    CharSequence nextLine();
+
+    /**
+     * Returns the byte offset of the line that has been returned by the last invocation of {@link #nextLine()}.
+     *
+     * @return the byte offset of the current line, or -1 if the offset is not known
+     */
+    long getOffset();
+
+    @Override
+    void close();
+
+    /**
+     * Creates a {@link LineSource} that reads the lines of the specified stream.
+     *
+     * @param lines
+     *         the lines to read
+     *
+     * @return a line source for the stream
+     */
+    static LineSource of(final Stream<String> lines) {
+        Iterator<String> iterator = lines.iterator();
+        return new LineSource() {
+            @Override
+            @Nullable
+            public CharSequence nextLine() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public long getOffset() {
+                return -1;
+            }
+
+            @Override
+            public void close() {
+                lines.close();
+            }
+        };
+    }
+}
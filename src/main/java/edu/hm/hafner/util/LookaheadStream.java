@@ -1,25 +1,44 @@
 package edu.hm.hafner.util;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
+
 /**
- * A stream of lines with a lookahead of one line. Useful to parse a stream of lines when it is required to check if the
- * next line matches a given regular expression.
+ * A stream of lines with a lookahead of several lines. Useful to parse a stream of lines when it is required to check
+ * if the next line matches a given regular expression. The lookahead is limited to {@link #MAX_LOOKAHEAD} lines.
+ * <p>
+ * Lines can be obtained as strings using {@link #next()} or as {@link CharSequence} views using {@link
+ * #nextSequence()}. If the lines are read from a {@link LineSource} then a view does not require a copy of the line.
+ * </p>
  *
  * @author Ullrich Hafner
  */
 public class LookaheadStream implements AutoCloseable {
-    private final Stream<String> stream;
-    private final Iterator<String> lineIterator;
+    /** The maximum number of lines that can be inspected using {@link #peek(int)}. */
+    public static final int MAX_LOOKAHEAD = 100;
+
+    private static final int MAX_CACHED_PATTERNS = 256;
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
 
-    private boolean isLookaheadFilled = false;
-    private String lookaheadLine = StringUtils.EMPTY;
-    private int line = 0;
+    private final LineSource source;
+
+    private final Deque<String> lookaheadLines = new ArrayDeque<>();
+    @Nullable
+    private CharSequence unreadLine;
+    private int line;
 
     /**
      * Wraps the specified stream of lines into a {@link LookaheadStream}.
@@ -28,13 +47,36 @@ public class LookaheadStream implements AutoCloseable {
      *         the lines to wrap
      */
     public LookaheadStream(final Stream<String> stream) {
-        this.stream = stream;
-        lineIterator = stream.iterator();
+        this(LineSource.of(stream));
+    }
+
+    /**
+     * Wraps the specified source of lines into a {@link LookaheadStream}.
+     *
+     * @param source
+     *         the lines to wrap
+     */
+    public LookaheadStream(final LineSource source) {
+        this(source, 1);
+    }
+
+    /**
+     * Wraps the specified source of lines into a {@link LookaheadStream}. The lines of the source are part of a larger
+     * file, so the line numbers returned by {@link #getLine()} start with the specified number.
+     *
+     * @param source
+     *         the lines to wrap
+     * @param firstLine
+     *         the line number of the first line of the source
+     */
+    public LookaheadStream(final LineSource source, final int firstLine) {
+        this.source = source;
+        this.line = firstLine - 1;
     }
 
     @Override
     public void close() {
-        stream.close();
+        source.close();
     }
 
     /**
@@ -44,11 +86,18 @@ public class LookaheadStream implements AutoCloseable {
      * @return {@code true} if the stream has more elements
      */
     public boolean hasNext() {
-        return lineIterator.hasNext() || isLookaheadFilled;
+        if (!lookaheadLines.isEmpty() || unreadLine != null) {
+            return true;
+        }
+        unreadLine = source.nextLine();
+
+        return unreadLine != null;
     }
 
     /**
-     * Returns {@code true} if the stream has at least one more element that matches the given regular expression.
+     * Returns {@code true} if the stream has at least one more element that matches the given regular expression. The
+     * compiled regular expressions are cached, nevertheless parsers should prefer {@link #hasNext(Pattern)} with a
+     * precompiled pattern.
      *
      * @param regexp
      *         the regular expression
@@ -56,15 +105,85 @@ public class LookaheadStream implements AutoCloseable {
      * @return {@code true} if the stream has more elements that match the regexp
      */
     public boolean hasNext(final String regexp) {
-        if (!isLookaheadFilled) {
-            if (!hasNext()) {
-                return false;
+        return hasNext(compile(regexp));
+    }
+
+    private static Pattern compile(final String regexp) {
+        Pattern pattern = PATTERNS.get(regexp);
+        if (pattern == null) {
+            if (PATTERNS.size() >= MAX_CACHED_PATTERNS) {
+                PATTERNS.clear();
             }
-            lookaheadLine = lineIterator.next();
-            isLookaheadFilled = true;
+            pattern = Pattern.compile(regexp);
+            PATTERNS.put(regexp, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Returns {@code true} if the stream has at least one more element that matches the given regular expression.
+     *
+     * @param pattern
+     *         the regular expression
+     *
+     * @return {@code true} if the stream has more elements that match the pattern
+     */
+    public boolean hasNext(final Pattern pattern) {
+        if (!fill(1)) {
+            return false;
         }
 
-        return Pattern.compile(regexp).matcher(lookaheadLine).find();
+        return pattern.matcher(lookaheadLines.getFirst()).find();
+    }
+
+    /**
+     * Returns the next lines of the stream without consuming them. If the stream has less than the specified number of
+     * remaining lines, then only the remaining lines are returned.
+     *
+     * @param count
+     *         the number of lines to inspect, at most {@link #MAX_LOOKAHEAD}
+     *
+     * @return the next lines
+     * @throws IllegalArgumentException
+     *         if the number of lines is negative or larger than {@link #MAX_LOOKAHEAD}
+     */
+    public List<String> peek(final int count) {
+        if (count < 0 || count > MAX_LOOKAHEAD) {
+            throw new IllegalArgumentException(
+                    String.format("Lookahead must be between 0 and %d: %d", MAX_LOOKAHEAD, count));
+        }
+        fill(count);
+
+        List<String> lines = new ArrayList<>(Math.min(count, lookaheadLines.size()));
+        Iterator<String> iterator = lookaheadLines.iterator();
+        while (lines.size() < count && iterator.hasNext()) {
+            lines.add(iterator.next());
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * Reads lines from the underlying stream until the lookahead contains the specified number of lines.
+     *
+     * @param count
+     *         the number of lines
+     *
+     * @return {@code true} if the lookahead contains the requested number of lines, {@code false} if the stream has no
+     *         more lines
+     */
+    private boolean fill(final int count) {
+        if (unreadLine != null) {
+            lookaheadLines.addLast(unreadLine.toString());
+            unreadLine = null;
+        }
+        while (lookaheadLines.size() < count) {
+            CharSequence next = source.nextLine();
+            if (next == null) {
+                return false;
+            }
+            lookaheadLines.addLast(next.toString());
+        }
+        return true;
     }
 
     /**
@@ -75,19 +194,38 @@ public class LookaheadStream implements AutoCloseable {
      *         if the stream has no more elements
      */
     public String next() {
+        return nextSequence().toString();
+    }
+
+    /**
+     * Returns the next element in the stream as a {@link CharSequence}. The returned view is valid only until the next
+     * invocation of another method of this stream, use {@link CharSequence#toString()} to keep the line.
+     *
+     * @return the next element in the stream
+     * @throws NoSuchElementException
+     *         if the stream has no more elements
+     */
+    public CharSequence nextSequence() {
         line++;
 
-        if (isLookaheadFilled) {
-            isLookaheadFilled = false;
-            return lookaheadLine;
+        if (!lookaheadLines.isEmpty()) {
+            return lookaheadLines.removeFirst();
+        }
+        CharSequence next = unreadLine;
+        if (next == null) {
+            next = source.nextLine();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
         }
-        return lineIterator.next();
+        unreadLine = null;
+        return next;
     }
 
     /**
      * Returns the line number of the line that has been handed out using the {@link #next()} method.
      *
-     * @return the current line, or 0 if no line has been handed out yet
+     * @return the current line, or the number of the line before the first line if no line has been handed out yet
      */
     public int getLine() {
         return line;
@@ -95,6 +233,6 @@ public class LookaheadStream implements AutoCloseable {
 
     @Override
     public String toString() {
-        return String.format("[%d] -> '%s'", line, lookaheadLine);
+        return String.format("[%d] -> '%s'", line, StringUtils.defaultString(lookaheadLines.peekFirst()));
     }
 }
@@ -81,13 +81,60 @@ public final class TreeString implements Serializable {
         return i;
     }
 
+    /**
+     * Returns the number of characters of the full string representation.
+     */
+    private int length() {
+        int length = 0;
+        for (TreeString p = this; p != null; p = p.parent) {
+            length += p.label.length;
+        }
+        return length;
+    }
+
+    /**
+     * Compares the full string representations of two nodes without creating these strings. Since the labels of the
+     * nodes depend on the strings that have been interned in the same builder, the characters of both parent chains
+     * are compared one by one, starting with the last character.
+     */
     @Override
     public boolean equals(final Object rhs) {
-        if (rhs == null) {
+        if (this == rhs) {
+            return true;
+        }
+        if (rhs == null || rhs.getClass() != TreeString.class) {
             return false;
         }
-        return rhs.getClass() == TreeString.class
-                && ((TreeString) rhs).getLabel().equals(getLabel());
+        TreeString other = (TreeString) rhs;
+        return length() == other.length() && hasSameCharacters(other);
+    }
+
+    private boolean hasSameCharacters(final TreeString other) {
+        TreeString left = this;
+        int leftIndex = label.length;
+        TreeString right = other;
+        int rightIndex = other.label.length;
+        while (true) {
+            while (left != null && leftIndex == 0) {
+                left = left.parent;
+                leftIndex = left == null ? 0 : left.label.length;
+            }
+            while (right != null && rightIndex == 0) {
+                right = right.parent;
+                rightIndex = right == null ? 0 : right.label.length;
+            }
+            if (left == null || right == null) {
+                return left == right;
+            }
+            if (left == right && leftIndex == rightIndex) {
+                return true; // same prefix
+            }
+            leftIndex--;
+            rightIndex--;
+            if (left.label[leftIndex] != right.label[rightIndex]) {
+                return false;
+            }
+        }
     }
 
     @Override
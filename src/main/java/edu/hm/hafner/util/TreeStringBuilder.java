@@ -13,7 +13,9 @@ import java.util.Map.Entry;
  * Because the internal state of {@link TreeString}s get mutated as new strings are interned (to exploit new-found
  * common prefixes), {@link TreeString}s returned from {@link #intern(String)} aren't thread-safe until {@link
  * TreeStringBuilder} is disposed. That is, you have to make sure other threads don't see those {@link TreeString}s
- * until you are done interning strings.
+ * until you are done interning strings. Even in a single thread, the labels and parents of {@link TreeString}s that
+ * have already been returned are rewritten when a new string is interned. So a builder must be confined to a single
+ * thread and a single parse run.
  *
  * @author Kohsuke Kawaguchi
  */
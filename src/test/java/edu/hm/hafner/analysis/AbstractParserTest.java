@@ -1,5 +1,6 @@
 package edu.hm.hafner.analysis;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -70,6 +71,18 @@ public abstract class AbstractParserTest extends ResourceTest {
         return createParser().parse(getDefaultFileFactory());
     }
 
+    /**
+     * Parses the default file and hands the issues over to an {@link IssueConsumer}. The consumer must receive the
+     * same issues as the report that is returned by {@link IssueParser#parse(ReaderFactory)}.
+     */
+    @Test
+    void shouldHandOverIssuesToConsumer() {
+        Report consumed = new Report();
+        createParser().parse(getDefaultFileFactory(), consumed);
+
+        assertThat(consumed).isEqualTo(parseDefaultFile());
+    }
+
     /**
      * Ensures that the parser under test could be serialized. This test will fail with an {@link
      * NotSerializableException} if the parser does not correctly implement the {@link Serializable} interface.
@@ -98,6 +111,19 @@ public abstract class AbstractParserTest extends ResourceTest {
         return createParser().parse(createReaderFactory(fileName));
     }
 
+    /**
+     * Parses the specified content of a report and returns the found issues.
+     *
+     * @param content
+     *         the content of the report to parse
+     *
+     * @return the found issues
+     */
+    protected Report parseContent(final String content) {
+        return createParser().parse(createReaderFactory("report",
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+    }
+
     /**
      * Verifies that the provided default file has been parsed correctly. I.e., a concrete test case needs to verify
      * that the number of issues is correct and that each issue contains the correct properties.
@@ -155,6 +181,7 @@ public abstract class AbstractParserTest extends ResourceTest {
         when(readerFactory.readDocument()).thenCallRealMethod();
         when(readerFactory.readString()).thenCallRealMethod();
         when(readerFactory.readStream()).thenCallRealMethod();
+        when(readerFactory.readLines()).thenCallRealMethod();
         when(readerFactory.getCharset()).thenReturn(StandardCharsets.UTF_8);
         return readerFactory;
     }
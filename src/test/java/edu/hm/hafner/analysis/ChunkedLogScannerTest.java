@@ -0,0 +1,161 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.parser.GccParser;
+import edu.hm.hafner.analysis.parser.RfLintParser;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
+/**
+ * Tests the class {@link ChunkedLogScanner}.
+ *
+ * @author Ullrich Hafner
+ */
+class ChunkedLogScannerTest extends ResourceTest {
+    private static final int[] CHUNK_SIZES = {1, 7, 50, 333, 4096, 100_000};
+
+    @Test
+    void shouldCreateSameReportAsSequentialParser() throws IOException {
+        assertThatScannerCreatesSameReport(readAllBytes("gcc.txt"), new GccParser());
+    }
+
+    @Test
+    void shouldParseSequentiallyWithParserThatRequiresCompleteReport() throws IOException {
+        Report report = assertThatScannerCreatesSameReport(readAllBytes("rflint.txt"), new RfLintParser());
+        assertThat(report).isNotEmpty();
+    }
+
+    @Test
+    void shouldHandleIssuesThatSpanSeveralChunks() throws IOException {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            if (i % 13 == 0) {
+                log.append("make: Entering directory '/path/to/module").append(i).append("'\r\n");
+            }
+            log.append("warning: file").append(i % 17).append(".c: message äöü ").append(i).append('\n');
+            for (int detail = 0; detail < i % 5; detail++) {
+                log.append("  detail ").append(detail).append('\n');
+            }
+            if (i % 11 == 0) {
+                log.append("  make: Entering directory '/consumed").append(i).append("'\n");
+            }
+        }
+
+        Report report = assertThatScannerCreatesSameReport(log.toString().getBytes(StandardCharsets.UTF_8),
+                new WarningParser());
+        assertThat(report).hasSize(2000);
+        assertThat(report.get(1)).hasFileName("/path/to/module0/file1.c").hasLineStart(4).hasLineEnd(5);
+    }
+
+    @Test
+    void shouldRestoreInterruptFlagIfCanceled() throws IOException {
+        Path file = Files.createTempFile("chunked", ".log");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch released = new CountDownLatch(1);
+        try {
+            Files.write(file, readAllBytes("gcc.txt"));
+            executor.execute(() -> {
+                try {
+                    released.await();
+                }
+                catch (InterruptedException ignored) {
+                    // stop waiting
+                }
+            });
+
+            Thread caller = Thread.currentThread();
+            Executor interrupting = command -> {
+                caller.interrupt();
+                executor.execute(command);
+            };
+            assertThatThrownBy(() -> new ChunkedLogScanner(interrupting, 50)
+                    .scan(new GccParser(), file, StandardCharsets.UTF_8))
+                    .isInstanceOf(ParsingCanceledException.class)
+                    .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(Thread.interrupted()).as("Interrupt flag has been restored").isTrue();
+        }
+        finally {
+            released.countDown();
+            executor.shutdownNow();
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidChunkSize() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new ChunkedLogScanner(Runnable::run, 0));
+    }
+
+    private Report assertThatScannerCreatesSameReport(final byte[] log, final LookaheadParser parser)
+            throws IOException {
+        Path file = Files.createTempFile("chunked", ".log");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Files.write(file, log);
+
+            Report expected = parser.parse(new FileReaderFactory(file, StandardCharsets.UTF_8));
+            for (int chunkSize : CHUNK_SIZES) {
+                assertThat(new ChunkedLogScanner(executor, chunkSize).scan(parser, file, StandardCharsets.UTF_8))
+                        .as("Chunk size %d", chunkSize)
+                        .isEqualTo(expected);
+            }
+            return expected;
+        }
+        finally {
+            executor.shutdownNow();
+            Files.delete(file);
+        }
+    }
+
+    @Override
+    protected Class<?> getTestResourceClass() {
+        return GccParser.class;
+    }
+
+    /**
+     * Creates an issue for each warning, the following indented lines are appended to the message.
+     */
+    private static class WarningParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        WarningParser() {
+            super("^warning: (\\S+): (.*)$");
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) throws ParsingException {
+            builder.setFileName(matcher.group(1)).setLineStart(lookahead.getLine());
+            StringBuilder message = new StringBuilder(matcher.group(2));
+            while (lookahead.hasNext("^  ")) {
+                message.append(' ').append(lookahead.next().trim());
+            }
+            return Optional.of(builder.setLineEnd(lookahead.getLine()).setMessage(message.toString()).build());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.parser.ClangTidyParser;
+import edu.hm.hafner.analysis.parser.GccParser;
+import edu.hm.hafner.analysis.parser.JavaDocParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MavenConsoleParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.analysis.parser.RfLintParser;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
+/**
+ * Tests the class {@link ConsoleLogScanner}.
+ *
+ * @author Ullrich Hafner
+ */
+class ConsoleLogScannerTest extends ResourceTest {
+    private static final String[] LOGS = {"gcc.txt", "maven-console.txt", "javac.txt", "javadoc.txt",
+            "ClangTidy.txt", "msbuild.txt"};
+
+    @Test
+    void shouldCreateSameReportsAsIndividualParsers() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        for (String fileName : LOGS) {
+            log.write(readAllBytes(fileName));
+            log.write('\n');
+        }
+
+        List<LookaheadParser> parsers = Arrays.asList(new GccParser(), new MavenConsoleParser(), new JavacParser(),
+                new JavaDocParser(), new ClangTidyParser(), new MsBuildParser());
+
+        assertThatScannerCreatesSameReports(log.toByteArray(), parsers);
+    }
+
+    @Test
+    void shouldHandleParsersThatConsumeAdditionalLines() throws IOException {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            log.append("start ").append(i).append('\n');
+            for (int detail = 0; detail < i % 7; detail++) {
+                log.append("  detail ").append(detail).append('\n');
+            }
+        }
+
+        List<LookaheadParser> parsers = Arrays.asList(new MultiLineParser(), new MultiLineParser(),
+                new GccParser());
+
+        List<Report> reports = assertThatScannerCreatesSameReports(
+                log.toString().getBytes(StandardCharsets.UTF_8), parsers);
+        assertThat(reports.get(0)).hasSize(5000);
+        assertThat(reports.get(0).get(6)).hasMessage("start 6: detail 0 detail 1 detail 2 detail 3 detail 4 detail 5");
+        assertThat(reports.get(2)).isEmpty();
+    }
+
+    @Test
+    void shouldUseSeveralMaskWordsForMoreThan64Parsers() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        for (String fileName : LOGS) {
+            log.write(readAllBytes(fileName));
+            log.write('\n');
+        }
+
+        List<LookaheadParser> parsers = new ArrayList<>();
+        for (int i = 0; i < 22; i++) {
+            parsers.add(new GccParser());
+            parsers.add(new JavacParser());
+            parsers.add(new MultiLineParser());
+        }
+
+        List<Report> reports = assertThatScannerCreatesSameReports(log.toByteArray(), parsers);
+        assertThat(reports.get(63)).isEqualTo(reports.get(0)).isNotEmpty();
+        assertThat(reports.get(64)).isEqualTo(reports.get(1)).isNotEmpty();
+    }
+
+    @Test
+    void shouldParseLogIndividuallyWithParsersThatRequireCompleteReport() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        log.write(readAllBytes("gcc.txt"));
+        log.write('\n');
+        log.write(readAllBytes("rflint.txt"));
+
+        List<LookaheadParser> parsers = Arrays.asList(new RfLintParser(), new GccParser(), new RfLintParser());
+
+        List<Report> reports = assertThatScannerCreatesSameReports(log.toByteArray(), parsers);
+        assertThat(reports.get(0)).isNotEmpty();
+        assertThat(reports.get(1)).isNotEmpty();
+        assertThat(reports.get(2)).isEqualTo(reports.get(0));
+    }
+
+    @Test
+    void shouldCreateNoReportsWithoutParsers() throws IOException {
+        assertThatScannerCreatesSameReports(readAllBytes("gcc.txt"), new ArrayList<>());
+    }
+
+    private List<Report> assertThatScannerCreatesSameReports(final byte[] log, final List<LookaheadParser> parsers)
+            throws IOException {
+        Path file = Files.createTempFile("console", ".log");
+        try {
+            Files.write(file, log);
+
+            List<Report> reports = new ConsoleLogScanner(parsers)
+                    .scan(new FileReaderFactory(file, StandardCharsets.UTF_8));
+
+            assertThat(reports).hasSize(parsers.size());
+            for (int i = 0; i < parsers.size(); i++) {
+                assertThat(reports.get(i)).isEqualTo(
+                        parsers.get(i).parse(new FileReaderFactory(file, StandardCharsets.UTF_8)));
+            }
+            return reports;
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Override
+    protected Class<?> getTestResourceClass() {
+        return GccParser.class;
+    }
+
+    /**
+     * Creates an issue for each start line, the following indented lines are appended to the message. The next lines
+     * are stored as additional properties.
+     */
+    private static class MultiLineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        MultiLineParser() {
+            super("^start \\d+$");
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) throws ParsingException {
+            builder.setAdditionalProperties(String.join(",", lookahead.peek(10)));
+            StringBuilder message = new StringBuilder(matcher.group());
+            String separator = ":";
+            while (lookahead.hasNext("^  ")) {
+                message.append(separator).append(' ').append(lookahead.next().trim());
+                separator = "";
+            }
+            return Optional.of(builder.setFileName("log").setLineStart(lookahead.getLine())
+                    .setMessage(message.toString()).build());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link FingerprintCache}.
+ *
+ * @author Ullrich Hafner
+ */
+class FingerprintCacheTest {
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final String FILE_NAME = "/workspace/File.java";
+    private static final String FINGERPRINT_ONE = "C10CFE4EC75F0C7F54980D432624D1C9";
+    private static final String FINGERPRINT_TWO = "0123456789ABCDEF0123456789ABCDEF";
+    private static final long SIZE = 100;
+    private static final long MODIFIED = 1000;
+
+    @Test
+    void shouldReturnCachedFingerprintsOfUnchangedFile() {
+        FingerprintCache cache = new FingerprintCache(10);
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE, MODIFIED, Collections.singleton(1))).isNull();
+
+        cache.put(FILE_NAME, CHARSET, SIZE, MODIFIED, createFingerprints());
+
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE, MODIFIED, Arrays.asList(1, 2)))
+                .containsEntry(1, FINGERPRINT_ONE)
+                .containsEntry(2, FINGERPRINT_TWO);
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE, MODIFIED, Collections.singleton(2)))
+                .containsOnlyKeys(2);
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotReturnFingerprintsOfChangedFile() {
+        FingerprintCache cache = new FingerprintCache(10);
+        cache.put(FILE_NAME, CHARSET, SIZE, MODIFIED, createFingerprints());
+
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE + 1, MODIFIED, Collections.singleton(1))).isNull();
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE, MODIFIED + 1, Collections.singleton(1))).isNull();
+        assertThat(cache.get(FILE_NAME, StandardCharsets.ISO_8859_1, SIZE, MODIFIED, Collections.singleton(1)))
+                .isNull();
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE, MODIFIED, Collections.singleton(3))).isNull();
+        assertThat(cache.getMisses()).isEqualTo(4);
+
+        cache.put(FILE_NAME, CHARSET, SIZE + 1, MODIFIED, Collections.singletonMap(3, FINGERPRINT_ONE));
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE + 1, MODIFIED, Collections.singleton(1))).isNull();
+        assertThat(cache.get(FILE_NAME, CHARSET, SIZE + 1, MODIFIED, Collections.singleton(3)))
+                .containsEntry(3, FINGERPRINT_ONE);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFiles() {
+        FingerprintCache cache = new FingerprintCache(2);
+
+        cache.put("a", CHARSET, SIZE, MODIFIED, createFingerprints());
+        cache.put("b", CHARSET, SIZE, MODIFIED, createFingerprints());
+        assertThat(cache.get("a", CHARSET, SIZE, MODIFIED, Collections.singleton(1))).isNotNull();
+        cache.put("c", CHARSET, SIZE, MODIFIED, createFingerprints());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", CHARSET, SIZE, MODIFIED, Collections.singleton(1))).isNotNull();
+        assertThat(cache.get("b", CHARSET, SIZE, MODIFIED, Collections.singleton(1))).isNull();
+        assertThat(cache.get("c", CHARSET, SIZE, MODIFIED, Collections.singleton(1))).isNotNull();
+    }
+
+    @Test
+    void shouldWriteAndReadCache() throws IOException {
+        Path cacheFile = Files.createTempFile("fingerprints", ".cache");
+        try {
+            FingerprintCache cache = new FingerprintCache(10);
+            cache.put(FILE_NAME, CHARSET, SIZE, MODIFIED, createFingerprints());
+            cache.put("other", CHARSET, SIZE, MODIFIED, Collections.singletonMap(5, FINGERPRINT_TWO));
+            cache.write(cacheFile);
+
+            FingerprintCache restored = FingerprintCache.read(cacheFile, 10);
+
+            assertThat(restored.size()).isEqualTo(2);
+            assertThat(restored.get(FILE_NAME, CHARSET, SIZE, MODIFIED, Arrays.asList(1, 2)))
+                    .isEqualTo(createFingerprints());
+            assertThat(restored.get("other", CHARSET, SIZE, MODIFIED, Collections.singleton(5)))
+                    .containsEntry(5, FINGERPRINT_TWO);
+        }
+        finally {
+            Files.delete(cacheFile);
+        }
+    }
+
+    @Test
+    void shouldStartWithEmptyCacheIfFileIsMissingOrBroken() throws IOException {
+        assertThat(FingerprintCache.read(Paths.get("/does/not/exist"), 10).size()).isZero();
+
+        Path cacheFile = Files.createTempFile("fingerprints", ".cache");
+        try {
+            Files.write(cacheFile, new byte[] {1, 2, 3});
+
+            assertThat(FingerprintCache.read(cacheFile, 10).size()).isZero();
+        }
+        finally {
+            Files.delete(cacheFile);
+        }
+    }
+
+    private Map<Integer, String> createFingerprints() {
+        Map<Integer, String> fingerprints = new HashMap<>();
+        fingerprints.put(1, FINGERPRINT_ONE);
+        fingerprints.put(2, FINGERPRINT_TWO);
+        return fingerprints;
+    }
+}
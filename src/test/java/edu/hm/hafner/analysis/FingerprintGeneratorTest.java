@@ -1,10 +1,13 @@
 package edu.hm.hafner.analysis;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -109,7 +112,7 @@ class FingerprintGeneratorTest extends ResourceTest {
 
     @Test
     void shouldAssignDifferentFingerprint() {
-        Report report = createTwoIssues();
+        Report report = createTwoIssues(AFFECTED_FILE_NAME, "other-file.txt");
         FingerprintGenerator generator = new FingerprintGenerator();
         FullTextFingerprint fingerprint = createFullTextFingerprint("fingerprint-one.txt", "fingerprint-two.txt");
 
@@ -122,6 +125,83 @@ class FingerprintGeneratorTest extends ResourceTest {
         assertThat(referenceIssue.getFingerprint()).isNotEqualTo(currentIssue.getFingerprint());
     }
 
+    @Test
+    void shouldReadAffectedFileOnlyOnce() throws IOException {
+        Report report = createTwoIssues();
+        report.add(new IssueBuilder().setFileName(AFFECTED_FILE_NAME).setLineStart(1).build());
+        FileSystem fileSystem = stubFileSystem("fingerprint-one.txt", "fingerprint-two.txt");
+
+        FingerprintGenerator generator = new FingerprintGenerator();
+        generator.run(new FullTextFingerprint(fileSystem), report, CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem, times(1)).readLinesFromFile(AFFECTED_FILE_NAME, CHARSET_AFFECTED_FILE);
+        assertThat(report.get(0).getFingerprint()).isEqualTo(report.get(1).getFingerprint());
+        assertThat(report.get(2).getFingerprint()).isNotEqualTo(report.get(0).getFingerprint());
+        assertThat(report.getInfoMessages()).contains("-> created fingerprints for 3 issues");
+    }
+
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldCreateSameFingerprintsInParallel() throws IOException {
+        FileSystem fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any())).thenAnswer(i -> asStream("fingerprint-one.txt"));
+        when(fileSystem.readLinesFromFile(startsWith("missing"), any())).thenThrow(new FileNotFoundException());
+        FullTextFingerprint algorithm = new FullTextFingerprint(fileSystem);
+
+        Report sequential = createManyIssues();
+        new FingerprintGenerator().run(algorithm, sequential, CHARSET_AFFECTED_FILE);
+
+        Report parallel = createManyIssues();
+        new FingerprintGenerator().run(algorithm, parallel, CHARSET_AFFECTED_FILE, 4);
+
+        for (int i = 0; i < sequential.size(); i++) {
+            assertThat(parallel.get(i).getFingerprint()).isEqualTo(sequential.get(i).getFingerprint());
+        }
+        assertThat(parallel.getErrorMessages()).isEqualTo(sequential.getErrorMessages());
+        assertThat(parallel.getInfoMessages()).isEqualTo(sequential.getInfoMessages())
+                .contains("-> created fingerprints for 150 issues");
+    }
+
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldUseCachedFingerprintsOfUnchangedFiles() throws IOException {
+        FileSystem fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any())).thenAnswer(i -> asStream("fingerprint-one.txt"));
+        BasicFileAttributes attributes = mock(BasicFileAttributes.class);
+        when(attributes.size()).thenReturn(100L);
+        when(attributes.lastModifiedTime()).thenReturn(FileTime.fromMillis(1000));
+        when(fileSystem.readAttributes(anyString())).thenReturn(attributes);
+        FullTextFingerprint algorithm = new FullTextFingerprint(fileSystem);
+
+        FingerprintCache cache = new FingerprintCache(100);
+        Report first = createManyIssues();
+        new FingerprintGenerator(cache).run(algorithm, first, CHARSET_AFFECTED_FILE);
+
+        assertThat(first.getInfoMessages()).contains("-> fingerprint cache: 0 hits, 40 misses");
+        verify(fileSystem, times(40)).readLinesFromFile(anyString(), any());
+
+        Report second = createManyIssues();
+        new FingerprintGenerator(cache).run(algorithm, second, CHARSET_AFFECTED_FILE);
+
+        assertThat(second.getInfoMessages()).contains("-> fingerprint cache: 40 hits, 0 misses");
+        verify(fileSystem, times(40)).readLinesFromFile(anyString(), any());
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i).getFingerprint()).isEqualTo(first.get(i).getFingerprint());
+        }
+    }
+
+    private Report createManyIssues() {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (int file = 0; file < 40; file++) {
+            builder.setFileName(file % 4 == 0 ? "missing-" + file : "file-" + file + ".txt");
+            for (int line = 0; line < 5; line++) {
+                report.add(builder.setLineStart(line * 5).build());
+            }
+        }
+        return report;
+    }
+
     @ParameterizedTest(name = "[{index}] Illegal filename")
     @ValueSource(strings = {"/does/not/exist", "!<>$&/&(", "\0 Null-Byte"})
     void shouldUseFallbackFingerprintOnError(final String fileName) {
@@ -144,12 +224,15 @@ class FingerprintGeneratorTest extends ResourceTest {
     }
 
     private Report createTwoIssues() {
+        return createTwoIssues(AFFECTED_FILE_NAME, AFFECTED_FILE_NAME);
+    }
+
+    private Report createTwoIssues(final String firstFile, final String secondFile) {
         Report report = createIssues();
         IssueBuilder builder = new IssueBuilder();
-        builder.setFileName(AFFECTED_FILE_NAME);
         builder.setLineStart(5);
-        report.add(builder.setPackageName("a").build());
-        report.add(builder.setPackageName("b").build());
+        report.add(builder.setFileName(firstFile).setPackageName("a").build());
+        report.add(builder.setFileName(secondFile).setPackageName("b").build());
         return report;
     }
 
@@ -3,7 +3,10 @@ package edu.hm.hafner.analysis;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -79,6 +82,31 @@ class FullTextFingerprintTest extends ResourceTest {
         }
     }
 
+    /**
+     * Verifies that the fingerprints of several lines that are computed in a single pass are identical to the
+     * fingerprints that are computed line by line.
+     */
+    @Test
+    void shouldCreateSameFingerprintsInSinglePass() {
+        String affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+
+        FullTextFingerprint code = new FullTextFingerprint();
+
+        List<Integer> lines = new ArrayList<>();
+        for (int line = 34; line >= -1; line--) {
+            lines.add(line);
+        }
+        lines.add(10);
+
+        Map<Integer, String> fingerprints = code.createFingerprints(lines, asIterator(affectedFile), getCharset());
+
+        assertThat(fingerprints).hasSize(36);
+        for (int line : lines) {
+            assertThat(fingerprints.get(line)).as("Fingerprint of line %d", line).isEqualTo(
+                    code.createFingerprint(line, getTextLinesAsStream(affectedFile), getCharset()));
+        }
+    }
+
     @Test
     void shouldThrowNoSuchFileExceptionIfFileDoesNotExist() {
         FullTextFingerprint fingerprint = new FullTextFingerprint();
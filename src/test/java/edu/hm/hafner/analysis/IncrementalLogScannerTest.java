@@ -0,0 +1,170 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.parser.RfLintParser;
+import edu.hm.hafner.util.LookaheadStream;
+
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
+/**
+ * Tests the class {@link IncrementalLogScanner}.
+ *
+ * @author Ullrich Hafner
+ */
+class IncrementalLogScannerTest {
+    @Test
+    void shouldParseAppendedLinesOnly() throws IOException {
+        Path file = Files.createTempFile("incremental", ".log");
+        try {
+            IncrementalLogScanner scanner = new IncrementalLogScanner(new WarningParser(), file,
+                    StandardCharsets.UTF_8);
+            assertThat(scanner.scan()).isEmpty();
+
+            append(file, "make: Entering directory '/path'\nwarning: one.c: first\n  detail\nwarning: two");
+            Report report = scanner.scan();
+            assertThat(report).isEmpty();
+            assertThat(scanner.getLine()).isEqualTo(1);
+
+            append(file, ".c: second\n");
+            assertThat(scanner.scan()).hasSize(1);
+            assertThat(report.get(0)).hasFileName("/path/one.c").hasMessage("first detail")
+                    .hasLineStart(2).hasLineEnd(3);
+            assertThat(scanner.getLine()).isEqualTo(3);
+
+            append(file, "  more\n  details\nno warning\n");
+            assertThat(scanner.scan()).hasSize(2);
+            assertThat(report.get(1)).hasFileName("/path/two.c").hasMessage("second more details")
+                    .hasLineStart(4).hasLineEnd(6);
+
+            append(file, "warning: three.c: third\n  last");
+            assertThat(scanner.scan()).hasSize(2);
+            assertThat(scanner.finish()).hasSize(3);
+            assertThat(report.get(2)).hasFileName("/path/three.c").hasMessage("third last")
+                    .hasLineStart(8).hasLineEnd(9);
+            assertThat(scanner.getLine()).isEqualTo(9);
+            assertThat(scanner.getOffset()).isEqualTo(Files.size(file));
+
+            assertThat(scanner.getReport()).isSameAs(report);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldStartAgainIfFileHasBeenTruncated() throws IOException {
+        Path file = Files.createTempFile("incremental", ".log");
+        try {
+            IncrementalLogScanner scanner = new IncrementalLogScanner(new WarningParser(), file,
+                    StandardCharsets.UTF_8);
+            append(file, "warning: one.c: first\nwarning: two.c: second\nwarning: three.c: third\n");
+            assertThat(scanner.scan()).hasSize(2);
+
+            Files.write(file, "warning: four.c: fourth\n".getBytes(StandardCharsets.UTF_8));
+            Report report = scanner.finish();
+            assertThat(report).hasSize(1);
+            assertThat(report.get(0)).hasFileName("four.c").hasLineStart(1);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldResumeAfterParserPeekedAtManyLines() throws IOException {
+        Path file = Files.createTempFile("incremental", ".log");
+        try {
+            IncrementalLogScanner scanner = new IncrementalLogScanner(new PeekingParser(), file,
+                    StandardCharsets.UTF_8);
+            for (int i = 0; i < 200; i++) {
+                append(file, "warning: file" + i + ".c: message " + i + "\n  detail\n");
+                if (i % 7 == 0) {
+                    scanner.scan();
+                }
+            }
+
+            assertThat(scanner.finish()).hasSize(200)
+                    .isEqualTo(new PeekingParser().parse(new FileReaderFactory(file, StandardCharsets.UTF_8)));
+            assertThat(scanner.getLine()).isEqualTo(400);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRejectUnsupportedCharset() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new IncrementalLogScanner(new WarningParser(), Paths.get("console.log"),
+                        StandardCharsets.UTF_16));
+    }
+
+    @Test
+    void shouldRejectParserThatRequiresCompleteReport() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new IncrementalLogScanner(new RfLintParser(), Paths.get("console.log"),
+                        StandardCharsets.UTF_8))
+                .withMessageContaining(RfLintParser.class.getName());
+    }
+
+    private void append(final Path file, final String text) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Creates an issue for each warning, the following indented lines are appended to the message.
+     */
+    private static class WarningParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        WarningParser() {
+            super("^warning: (\\S+): (.*)$");
+        }
+
+        @Override
+        protected boolean hasLineFilter() {
+            return false;
+        }
+
+        @Override
+        protected boolean requiresCompleteReport() {
+            return false;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) throws ParsingException {
+            builder.setFileName(matcher.group(1)).setLineStart(lookahead.getLine());
+            StringBuilder message = new StringBuilder(matcher.group(2));
+            while (lookahead.hasNext("^  ")) {
+                message.append(' ').append(lookahead.next().trim());
+            }
+            return Optional.of(builder.setLineEnd(lookahead.getLine()).setMessage(message.toString()).build());
+        }
+    }
+
+    /**
+     * Peeks at the next lines before creating an issue, so that these lines are part of the lookahead.
+     */
+    private static class PeekingParser extends WarningParser {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) throws ParsingException {
+            lookahead.peek(40);
+
+            return super.createIssue(matcher, lookahead, builder);
+        }
+    }
+}
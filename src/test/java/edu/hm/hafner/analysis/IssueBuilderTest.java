@@ -8,6 +8,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import edu.hm.hafner.util.TreeStringBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import static edu.hm.hafner.analysis.IssueTest.*;
@@ -189,6 +190,22 @@ class IssueBuilderTest {
         assertThat(issue1).isEqualTo(issue2);
     }
 
+    @Test
+    void shouldShareStringsOfAllCreatedIssues() {
+        TreeStringBuilder stringBuilder = new TreeStringBuilder();
+
+        IssueBuilder first = new IssueBuilder(stringBuilder).copy(FILLED_ISSUE);
+        IssueBuilder second = new IssueBuilder(stringBuilder).copy(FILLED_ISSUE);
+
+        Issue issue = first.setFileName("/workspace/module/File.java").build();
+        Issue other = second.setFileName("/workspace/module/Other.java").build();
+        first.dedup();
+
+        assertThat(issue).hasFileName("/workspace/module/File.java").hasMessage(MESSAGE);
+        assertThat(other).hasFileName("/workspace/module/Other.java").hasMessage(MESSAGE);
+        assertThat(first.setFileName("/workspace/module/Other.java").build()).isEqualTo(other);
+    }
+
     @Test
     void shouldCollectLineRanges() {
         IssueBuilder builder = new IssueBuilder();
@@ -1,5 +1,6 @@
 package edu.hm.hafner.analysis;
 
+import java.util.Collections;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -207,6 +208,25 @@ class IssueFilterTest {
         applyFilterAndCheckResult(filter, getIssues(), ISSUE1, ISSUE3);
     }
 
+    @Test
+    void shouldCombineLiteralPrefixAndRegularExpressionPatterns() {
+        Predicate<? super Issue> filter = new IssueFilterBuilder()
+                .setIncludeFileNameFilter("FileName1", "File.*")
+                .setIncludeFileNameFilter("[A-Z]ile.ame\\d")
+                .setExcludeFileNameFilter("File\\w+3", "(F)ile\\1")
+                .setExcludePackageNameFilter("Package.*2")
+                .build();
+        applyFilterAndCheckResult(filter, getIssues(), ISSUE1);
+    }
+
+    @Test
+    void shouldIgnoreEmptyListOfPatterns() {
+        Predicate<? super Issue> filter = new IssueFilterBuilder()
+                .setIncludeFileNameFilter(Collections.emptyList())
+                .build();
+        applyFilterAndCheckResult(filter, getIssues(), ISSUE1, ISSUE2, ISSUE3);
+    }
+
     /**
      * Applies filter and checks if result is equal to expected values.
      *
@@ -0,0 +1,133 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.IssueTable.Property;
+
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
+/**
+ * Tests the class {@link IssueTable}.
+ *
+ * @author Ullrich Hafner
+ */
+class IssueTableTest {
+    private static final Severity[] SEVERITIES = {Severity.ERROR, Severity.WARNING_HIGH, Severity.WARNING_LOW};
+
+    @Test
+    void shouldCreateEqualIssues() {
+        Report report = createReport(500);
+
+        IssueTable table = new IssueTable(report);
+
+        assertThat(table).hasSize(500).hasToString("500 issues");
+        for (int i = 0; i < report.size(); i++) {
+            Issue expected = report.get(i);
+            Issue actual = table.get(i);
+            assertThat(actual).isEqualTo(expected).isNotSameAs(expected);
+            assertThat(actual.getId()).isEqualTo(expected.getId());
+            assertThat(actual).hasReference(expected.getReference()).hasFingerprint(expected.getFingerprint());
+            assertThat(actual.getLineRanges()).isEqualTo(expected.getLineRanges());
+            assertThat(actual.getAdditionalProperties()).isEqualTo(expected.getAdditionalProperties());
+        }
+        assertThat(table.stream()).containsExactlyElementsOf(report);
+        assertThat(table.toReport()).isEqualTo(report);
+
+        table.trim();
+        assertThat(table.add(report.get(0))).hasSize(501);
+    }
+
+    @Test
+    void shouldAggregatePropertiesWithoutCreatingIssues() {
+        Report report = createReport(300);
+
+        IssueTable table = new IssueTable(report);
+
+        assertThat(table.getSeverities()).isEqualTo(report.getSeverities());
+        assertThat(table.getSizeOf(Severity.ERROR)).isEqualTo(100);
+        assertThat(table.getSizeOf(Severity.WARNING_NORMAL)).isZero();
+        assertThat(table.getSeverityCount()).isEqualTo(report.getPropertyCount(Issue::getSeverity));
+
+        assertThat(table.getProperties(Property.MODULE_NAME)).isEqualTo(report.getModules());
+        assertThat(table.getProperties(Property.FILE_NAME)).isEqualTo(report.getFiles());
+        assertThat(table.getProperties(Property.PACKAGE_NAME)).isEqualTo(report.getPackages());
+        assertThat(table.getProperties(Property.CATEGORY)).isEqualTo(report.getCategories());
+        assertThat(table.getProperties(Property.TYPE)).isEqualTo(report.getTypes());
+        assertThat(table.getProperties(Property.ORIGIN)).isEqualTo(report.getTools());
+        assertThat(table.getPropertyCount(Property.FILE_NAME))
+                .isEqualTo(report.getPropertyCount(Issue::getFileName));
+        assertThat(table.getSizeOf(Property.MODULE_NAME, "module-1")).isEqualTo(60);
+        assertThat(table.getSizeOf(Property.MODULE_NAME, "module-5")).isZero();
+    }
+
+    @Test
+    void shouldFilterBySeverityAndProperty() {
+        Report report = createReport(300);
+
+        IssueTable table = new IssueTable(report);
+
+        IssueTable errors = table.filter(Severity.ERROR);
+        assertThat(errors.stream()).containsExactlyElementsOf(report.filter(Issue.bySeverity(Severity.ERROR)));
+
+        IssueTable filtered = errors.filter(Property.MODULE_NAME, "module-2");
+        assertThat(filtered.stream()).containsExactlyElementsOf(
+                report.filter(Issue.bySeverity(Severity.ERROR).and(Issue.byModuleName("module-2"))));
+        assertThat(filtered.getProperties(Property.MODULE_NAME)).containsExactly("module-2");
+        assertThat(filtered.getSeverities()).containsExactly(Severity.ERROR);
+
+        assertThat(table.filter(Property.TYPE, "unknown")).isEmpty();
+        assertThat(new IssueTable().filter(Severity.ERROR)).isEmpty();
+
+        Issue issue = report.get(0);
+        filtered.add(issue);
+        assertThat(filtered.get(filtered.size() - 1)).isEqualTo(issue);
+        assertThat(table).hasSize(300);
+    }
+
+    @Test
+    void shouldNotChangeTableIfIssueIsModified() {
+        IssueTable table = new IssueTable();
+        table.accept(new IssueBuilder().setFileName("file.txt").setModuleName("module").build());
+
+        table.get(0).setModuleName("changed");
+
+        assertThat(table.get(0)).hasModuleName("module");
+    }
+
+    @Test
+    void shouldRejectInvalidIndexes() {
+        IssueTable table = new IssueTable();
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> table.get(0));
+
+        Iterator<Issue> iterator = table.iterator();
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    private Report createReport(final int size) {
+        IssueBuilder builder = new IssueBuilder().setCategory("category").setOrigin("tool").setReference("1");
+        Report report = new Report();
+        for (int i = 0; i < size; i++) {
+            LineRangeList lineRanges = new LineRangeList();
+            if (i % 7 == 0) {
+                lineRanges.add(new LineRange(i + 10, i + 12));
+            }
+            report.add(builder.setFileName(String.format("/path/to/module-%d/File%d.java", i % 5, i % 17))
+                    .setModuleName("module-" + i % 5)
+                    .setPackageName("edu.hm.hafner.package" + i % 3)
+                    .setType("type-" + i % 4)
+                    .setLineStart(i + 1).setLineEnd(i + 1 + i % 3).setColumnStart(i % 80)
+                    .setLineRanges(lineRanges)
+                    .setSeverity(SEVERITIES[i % SEVERITIES.length])
+                    .setMessage("Message " + i % 50).setDescription("Description " + i % 2)
+                    .setFingerprint("fingerprint-" + i)
+                    .setAdditionalProperties(i % 11 == 0 ? Integer.valueOf(i) : null)
+                    .build());
+        }
+        return report;
+    }
+}
@@ -0,0 +1,105 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.util.LookaheadStream;
+
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
+/**
+ * Tests the class {@link LookaheadParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class LookaheadParserTest {
+    private static final String LOG = "warning: file-1: ignored\nwarning: file-2: reported\n";
+
+    @Test
+    void shouldUseLineFilterOfSubClassThatOnlyOverridesIsLineInteresting() throws IOException {
+        LookaheadParser parser = new WarningParser() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean isLineInteresting(final String line) {
+                return !line.contains("ignored");
+            }
+        };
+
+        assertThatParserReports(parser, "reported");
+    }
+
+    @Test
+    void shouldPostProcessReportOfSubClassThatOnlyOverridesPostProcess() throws IOException {
+        LookaheadParser parser = new WarningParser() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Report postProcess(final Report report) {
+                return report.filter(issue -> !"ignored".equals(issue.getMessage()));
+            }
+        };
+
+        assertThatParserReports(parser, "reported");
+    }
+
+    @Test
+    void shouldHandOverIssuesWhileParsingIfSubClassDoesNotRequireCompleteReport() throws IOException {
+        LookaheadParser parser = new WarningParser() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean hasLineFilter() {
+                return false;
+            }
+
+            @Override
+            protected boolean requiresCompleteReport() {
+                return false;
+            }
+        };
+
+        assertThatParserReports(parser, "ignored", "reported");
+    }
+
+    private void assertThatParserReports(final LookaheadParser parser, final String... messages) throws IOException {
+        Path file = Files.createTempFile("lookahead", ".log");
+        try {
+            Files.write(file, LOG.getBytes(StandardCharsets.UTF_8));
+            FileReaderFactory readerFactory = new FileReaderFactory(file, StandardCharsets.UTF_8);
+
+            Report report = parser.parse(readerFactory);
+            assertThat(report.stream().map(Issue::getMessage)).containsExactly(messages);
+
+            Report consumed = new Report();
+            parser.parse(readerFactory, consumed);
+            assertThat(consumed).isEqualTo(report);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Creates an issue for each warning. Uses the default implementations of all hooks of {@link LookaheadParser}.
+     */
+    private static class WarningParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        WarningParser() {
+            super("^warning: (\\S+): (.*)$");
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) throws ParsingException {
+            return builder.setFileName(matcher.group(1)).setMessage(matcher.group(2)).buildOptional();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.input.BOMInputStream;
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.util.LineSource;
+import edu.hm.hafner.util.ResourceTest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.Assumptions.*;
+
+/**
+ * Tests the class {@link MappedLineSource}.
+ *
+ * @author Ullrich Hafner
+ */
+class MappedLineSourceTest extends ResourceTest {
+    private static final String[] CONTENTS = {"", "\n", "\r\n", "\r", "one", "one\n", "one\r\ntwo", "one\r\rtwo\n\n",
+            "one\n\rtwo\r", "a long line that does not fit into a single window\nshort\r\nanother long line\r",
+            "\u00e4\u00f6\u00fc \u00df\r\n\u20ac sign\n\ud83d\ude00 emoji"};
+
+    @Test
+    void shouldSplitLinesLikeBufferedReader() throws IOException {
+        for (String content : CONTENTS) {
+            for (Charset charset : new Charset[] {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1,
+                    StandardCharsets.US_ASCII}) {
+                byte[] bytes = content.getBytes(charset);
+                for (int windowSize = 1; windowSize <= bytes.length + 1; windowSize++) {
+                    assertThat(readLines(bytes, charset, windowSize))
+                            .as("Content '%s' in %s with window size %d", content, charset, windowSize)
+                            .isEqualTo(readLinesWithReader(bytes, charset));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldReplaceMalformedCharacters() throws IOException {
+        byte[] bytes = {'a', (byte) 0xC3, '\n', (byte) 0xFF, 'b', (byte) 0xE2, (byte) 0x82};
+
+        for (int windowSize = 1; windowSize <= bytes.length; windowSize++) {
+            assertThat(readLines(bytes, StandardCharsets.UTF_8, windowSize))
+                    .isEqualTo(readLinesWithReader(bytes, StandardCharsets.UTF_8))
+                    .containsExactly("a\ufffd", "\ufffdb\ufffd");
+        }
+    }
+
+    @Test
+    void shouldSkipByteOrderMark() throws IOException {
+        byte[] bytes = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a', '\n', 'b'};
+
+        assertThat(readLines(bytes, StandardCharsets.UTF_8, 2)).containsExactly("a", "b");
+        assertThat(readLinesWithReader(bytes, StandardCharsets.UTF_8)).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldProvideByteOffsetsOfLines() throws IOException {
+        Path file = createFile("one\r\ntw\u00f6\nthree".getBytes(StandardCharsets.UTF_8));
+        try (MappedLineSource source = new MappedLineSource(file, StandardCharsets.UTF_8, 4)) {
+            assertThat(source.getOffset()).isEqualTo(-1);
+            assertThat(source.nextLine()).hasToString("one");
+            assertThat(source.getOffset()).isEqualTo(0);
+            assertThat(source.nextLine()).hasToString("tw\u00f6");
+            assertThat(source.getOffset()).isEqualTo(5);
+            assertThat(source.nextLine()).hasToString("three");
+            assertThat(source.getOffset()).isEqualTo(10);
+            assertThat(source.nextLine()).isNull();
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRejectUnsupportedCharsets() throws IOException {
+        assertThat(MappedLineSource.isSupported(StandardCharsets.UTF_16)).isFalse();
+
+        Path file = createFile(new byte[0]);
+        try {
+            assertThatIllegalArgumentException().isThrownBy(
+                    () -> new MappedLineSource(file, StandardCharsets.UTF_16));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldUseMappedLinesOnlyInMappedFileReaderFactory() throws IOException {
+        Path file = createFile("one\ntwo".getBytes(StandardCharsets.UTF_8));
+        try {
+            try (LineSource source = new MappedFileReaderFactory(file, StandardCharsets.UTF_8).readLines()) {
+                assertThat(source).isInstanceOf(MappedLineSource.class);
+                assertThat(source.nextLine()).hasToString("one");
+            }
+            try (LineSource source = new MappedFileReaderFactory(file, StandardCharsets.UTF_16BE).readLines()) {
+                assertThat(source).isNotInstanceOf(MappedLineSource.class);
+            }
+            try (LineSource source = new FileReaderFactory(file, StandardCharsets.UTF_8).readLines()) {
+                assertThat(source).isNotInstanceOf(MappedLineSource.class);
+                assertThat(source.nextLine()).hasToString("one");
+            }
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldReportFileThatHasBeenTruncatedWhileReading() throws IOException {
+        assumeThat(isWindows()).as("Windows does not truncate mapped files").isFalse();
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            content.append("line ").append(i).append('\n');
+        }
+        Path file = createFile(content.toString().getBytes(StandardCharsets.UTF_8));
+        try (MappedLineSource source = new MappedLineSource(file, StandardCharsets.UTF_8, 64 * 1024)) {
+            assertThat(source.nextLine()).hasToString("line 0");
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(10);
+            }
+
+            assertThatThrownBy(() -> {
+                while (source.nextLine() != null) {
+                    // read until the missing part of the window is accessed
+                }
+            }).isInstanceOf(UncheckedIOException.class).hasMessageContaining("truncated");
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    private List<String> readLines(final byte[] bytes, final Charset charset, final int windowSize)
+            throws IOException {
+        Path file = createFile(bytes);
+        try (MappedLineSource source = new MappedLineSource(file, charset, windowSize)) {
+            List<String> lines = new ArrayList<>();
+            for (CharSequence line = source.nextLine(); line != null; line = source.nextLine()) {
+                lines.add(line.toString());
+            }
+            return lines;
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    private List<String> readLinesWithReader(final byte[] bytes, final Charset charset) {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new BOMInputStream(new ByteArrayInputStream(bytes)), charset));
+        return reader.lines().collect(Collectors.toList());
+    }
+
+    private Path createFile(final byte[] bytes) throws IOException {
+        Path file = Files.createTempFile("mapped", ".txt");
+        Files.write(file, bytes);
+        return file;
+    }
+}
@@ -0,0 +1,193 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
+/**
+ * Tests the class {@link ParallelReportScanner}.
+ *
+ * @author Ullrich Hafner
+ */
+class ParallelReportScannerTest {
+    private static final int NUMBER_OF_FILES = 50;
+
+    private final List<Path> files = new ArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void createFiles() throws IOException {
+        for (int file = 0; file < NUMBER_OF_FILES; file++) {
+            Path path = Files.createTempFile("parallel-scanner", ".txt");
+            Files.write(path, Arrays.asList("file-" + file + "-first", "file-" + file + "-second", "duplicate"),
+                    StandardCharsets.UTF_8);
+            files.add(path);
+        }
+    }
+
+    @AfterEach
+    void deleteFiles() throws IOException {
+        executor.shutdownNow();
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void shouldMergeReportsInOrderOfFiles() {
+        Report report = new ParallelReportScanner(executor).scanFiles(new LineParser(), files, StandardCharsets.UTF_8);
+
+        Report expected = new Report();
+        for (Path file : files) {
+            expected.addAll(new LineParser().parse(new FileReaderFactory(file, StandardCharsets.UTF_8)));
+        }
+
+        assertThat(report).isEqualTo(expected);
+        assertThat(report).hasSize(2 * NUMBER_OF_FILES + 1).hasDuplicatesSize(NUMBER_OF_FILES - 1);
+        assertThat(report.get(0)).hasMessage("file-0-first");
+        assertThat(report.get(report.size() - 1)).hasMessage("file-49-second");
+        assertThat(report.getInfoMessages()).hasSize(NUMBER_OF_FILES);
+    }
+
+    @Test
+    void shouldUseCommonPoolByDefault() {
+        Report report = new ParallelReportScanner().scanFiles(new LineParser(), files, StandardCharsets.UTF_8);
+
+        assertThat(report).hasSize(2 * NUMBER_OF_FILES + 1);
+    }
+
+    @Test
+    void shouldCancelParsingIfParserHasBeenCanceled() throws IOException {
+        Files.write(files.get(10), Arrays.asList("line", "cancel"), StandardCharsets.UTF_8);
+
+        ParallelReportScanner scanner = new ParallelReportScanner(executor);
+        assertThatThrownBy(() -> scanner.scanFiles(new LineParser(), files, StandardCharsets.UTF_8))
+                .isInstanceOf(ParsingCanceledException.class);
+    }
+
+    @Test
+    void shouldStopRunningParsersIfCallingThreadIsInterrupted() throws InterruptedException {
+        BlockingParser.reset();
+        Thread caller = Thread.currentThread();
+        Thread interrupter = new Thread(() -> {
+            try {
+                BlockingParser.started.await();
+                caller.interrupt();
+            }
+            catch (InterruptedException ignored) {
+                // stop waiting
+            }
+        });
+        interrupter.start();
+
+        ParallelReportScanner scanner = new ParallelReportScanner(executor);
+        assertThatThrownBy(() -> scanner.scanFiles(new BlockingParser(), files.subList(0, 1), StandardCharsets.UTF_8))
+                .isInstanceOf(ParsingCanceledException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+        assertThat(Thread.interrupted()).as("Interrupt flag has been restored").isTrue();
+
+        BlockingParser.released.countDown();
+        assertThat(BlockingParser.finished.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(BlockingParser.lines.get()).as("Lines read after cancel").isEqualTo(1);
+        interrupter.join();
+    }
+
+    @Test
+    void shouldThrowParsingExceptionOfFirstBrokenFile() {
+        files.add(5, Paths.get("/does/not/exist"));
+
+        ParallelReportScanner scanner = new ParallelReportScanner(executor);
+        assertThatThrownBy(() -> scanner.scanFiles(new LineParser(), files, StandardCharsets.UTF_8))
+                .isInstanceOf(ParsingException.class)
+                .hasMessageContaining("/does/not/exist");
+    }
+
+    /**
+     * Creates an issue for each line. Stores the number of parsed lines in a field to verify that each file is parsed
+     * with a separate parser instance.
+     */
+    private static class LineParser extends IssueParser {
+        private static final long serialVersionUID = 1L;
+
+        private int lines = 0;
+
+        @Override
+        public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+            Report report = new Report();
+            IssueBuilder builder = new IssueBuilder().setFileName("file.txt");
+            try (Stream<String> content = readerFactory.readStream()) {
+                content.forEach(line -> {
+                    if ("cancel".equals(line)) {
+                        throw new ParsingCanceledException();
+                    }
+                    lines++;
+                    report.add(builder.setLineStart(lines).setMessage(line).build());
+                });
+            }
+            report.logInfo("Parsed %d lines", lines);
+            return report;
+        }
+    }
+
+    /**
+     * Blocks after the first line until the test releases the parser. Since the parser is copied for each file, the
+     * synchronization objects are shared using static fields.
+     */
+    private static class BlockingParser extends IssueParser {
+        private static final long serialVersionUID = 1L;
+
+        private static CountDownLatch started;
+        private static CountDownLatch released;
+        private static CountDownLatch finished;
+        private static AtomicInteger lines;
+
+        static void reset() {
+            started = new CountDownLatch(1);
+            released = new CountDownLatch(1);
+            finished = new CountDownLatch(1);
+            lines = new AtomicInteger();
+        }
+
+        @Override
+        public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+            try (Stream<String> content = readerFactory.readStream()) {
+                content.forEach(line -> {
+                    if (lines.incrementAndGet() == 1) {
+                        started.countDown();
+                        awaitRelease();
+                    }
+                });
+                return new Report();
+            }
+            finally {
+                finished.countDown();
+            }
+        }
+
+        private void awaitRelease() {
+            try {
+                released.await();
+            }
+            catch (InterruptedException exception) {
+                throw new ParsingCanceledException(exception);
+            }
+        }
+    }
+}
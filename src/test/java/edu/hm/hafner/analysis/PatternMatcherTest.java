@@ -0,0 +1,90 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link PatternMatcher}.
+ *
+ * @author Ullrich Hafner
+ */
+class PatternMatcherTest {
+    @Test
+    void shouldMatchNothingIfEmpty() {
+        PatternMatcher matcher = new PatternMatcher(Collections.emptyList());
+
+        assertThat(matcher.isEmpty()).isTrue();
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches("value")).isFalse();
+    }
+
+    @Test
+    void shouldMatchLiterals() {
+        PatternMatcher matcher = new PatternMatcher(Arrays.asList("one", "two"));
+
+        assertThat(matcher.isEmpty()).isFalse();
+        assertThat(matcher.matches("one")).isTrue();
+        assertThat(matcher.matches("two")).isTrue();
+        assertThat(matcher.matches("one two")).isFalse();
+        assertThat(matcher.matches("on")).isFalse();
+    }
+
+    @Test
+    void shouldMatchPrefixes() {
+        PatternMatcher matcher = new PatternMatcher(Collections.singletonList("/workspace/.*"));
+
+        assertThat(matcher.matches("/workspace/")).isTrue();
+        assertThat(matcher.matches("/workspace/file.txt")).isTrue();
+        assertThat(matcher.matches("/other/file.txt")).isFalse();
+        assertThat(matcher.matches("/workspace/first\nsecond")).isFalse();
+    }
+
+    @Test
+    void shouldMatchLikeIndividualPatterns() {
+        String[] patterns = {"a+", "(?i)b", "c|d", "(e)\\1", "\\Qf.\\E", "g.*h", ".*"};
+        String[] values = {"aaa", "B", "c", "d", "ee", "f.", "fx", "gxh", "", "x\ny"};
+
+        PatternMatcher all = new PatternMatcher(Arrays.asList(patterns));
+        for (String value : values) {
+            boolean expected = Arrays.stream(patterns).anyMatch(value::matches);
+            assertThat(all.matches(value)).as("Value '%s'", value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldNotMergePatternsWithSameNamedGroups() {
+        String[] patterns = {"(?<name>a+)b", "(?<name>c+)d", "(?<=x)y", "e(?<!f)"};
+        String[] values = {"aab", "cd", "ccd", "ab d", "y", "e", ""};
+
+        PatternMatcher all = new PatternMatcher(Arrays.asList(patterns));
+        for (String value : values) {
+            boolean expected = Arrays.stream(patterns).anyMatch(value::matches);
+            assertThat(all.matches(value)).as("Value '%s'", value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldNotMergePatternsWithInlineFlags() {
+        String[] patterns = {"(?x) a b # comment", "c+", "(?i)d", "(?-i:e)", "(?s)f.g", "h.i"};
+        String[] values = {"ab", "a b", "c", "cc", "D", "d", "e", "E", "f\ng", "h\ni", "hxi"};
+
+        PatternMatcher all = new PatternMatcher(Arrays.asList(patterns));
+        for (String value : values) {
+            boolean expected = Arrays.stream(patterns).anyMatch(value::matches);
+            assertThat(all.matches(value)).as("Value '%s'", value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidPatterns() {
+        assertThatThrownBy(() -> new PatternMatcher(Arrays.asList("a", "(b")))
+                .isInstanceOf(PatternSyntaxException.class);
+        assertThatThrownBy(() -> new PatternMatcher(Arrays.asList("a)", "(b")))
+                .isInstanceOf(PatternSyntaxException.class);
+    }
+}
@@ -1,16 +1,21 @@
 package edu.hm.hafner.analysis;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.junit.jupiter.api.Test;
@@ -218,6 +223,150 @@ class ReportTest extends SerializableTest<Report> {
         assertThatThrownBy(iterator::remove).isInstanceOf(UnsupportedOperationException.class);
     }
 
+    @Test
+    void shouldUpdateAggregatedPropertiesOnAddAndRemove() {
+        Report report = new Report();
+        report.addAll(HIGH, NORMAL_1, NORMAL_2);
+
+        assertThat(report.getFiles()).containsExactly("file-1");
+        assertThat(report.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(2);
+        assertThat(report.getSeverities()).containsExactlyInAnyOrder(Severity.WARNING_HIGH, Severity.WARNING_NORMAL);
+
+        report.addAll(LOW_2_A, LOW_FILE_3);
+
+        assertThat(report.getFiles()).containsExactlyInAnyOrder("file-1", "file-2", "file-3");
+        assertThat(report.getSizeOf(Severity.WARNING_LOW)).isEqualTo(2);
+
+        report.remove(LOW_FILE_3.getId());
+        report.remove(HIGH.getId());
+
+        assertThat(report.getFiles()).containsExactlyInAnyOrder("file-1", "file-2");
+        assertThat(report.getSizeOf(Severity.WARNING_LOW)).isEqualTo(1);
+        assertThat(report.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(0);
+        assertThat(report.getSeverities()).containsExactlyInAnyOrder(Severity.WARNING_NORMAL, Severity.WARNING_LOW);
+    }
+
+    @Test
+    void shouldUpdateAggregatedPropertiesIfIssueIsChanged() {
+        Issue issue = new IssueBuilder().setFileName("file-1").setModuleName("module-1").build();
+        Report report = new Report();
+        report.add(issue);
+
+        assertThat(report.getModules()).containsExactly("module-1");
+        assertThat(report.getFiles()).containsExactly("file-1");
+
+        issue.setModuleName("module-2");
+        issue.setFileName("file-2");
+        issue.setPackageName("package");
+        issue.setOrigin("origin");
+
+        assertThat(report.getModules()).containsExactly("module-2");
+        assertThat(report.getFiles()).containsExactly("file-2");
+        assertThat(report.getPackages()).containsExactly("package");
+        assertThat(report.getTools()).containsExactly("origin");
+    }
+
+    @Test
+    void shouldUpdateAggregatedPropertiesOfAllReportsThatContainChangedIssue() {
+        Issue changed = new IssueBuilder().setMessage("changed").setModuleName("module-1").build();
+        Issue unchanged = new IssueBuilder().setMessage("unchanged").setModuleName("module-1").build();
+        Report first = new Report();
+        first.addAll(changed, unchanged);
+        Report second = new Report();
+        second.add(changed);
+        Report third = new Report();
+        third.add(unchanged);
+
+        assertThat(first.getModules()).containsExactly("module-1");
+        assertThat(second.getModules()).containsExactly("module-1");
+        assertThat(third.getModules()).containsExactly("module-1");
+
+        changed.setModuleName("module-2");
+
+        assertThat(first.getModules()).containsExactlyInAnyOrder("module-1", "module-2");
+        assertThat(second.getModules()).containsExactly("module-2");
+        assertThat(third.getModules()).containsExactly("module-1");
+
+        changed.setModuleName("module-3");
+        first.remove(changed.getId());
+
+        assertThat(first.getModules()).containsExactly("module-1");
+        assertThat(second.getModules()).containsExactly("module-3");
+    }
+
+    @Test
+    void shouldReturnCopiesOfAggregatedProperties() {
+        Report report = new Report();
+        report.addAll(HIGH, NORMAL_1, NORMAL_2);
+
+        Set<String> files = report.getFiles();
+        files.add("file-2");
+        Set<Severity> severities = report.getSeverities();
+        for (Severity severity : severities) {
+            report.add(new IssueBuilder().setMessage("new").setFileName("file-3").setSeverity(severity).build());
+        }
+
+        assertThat(files).containsExactlyInAnyOrder("file-1", "file-2");
+        assertThat(severities).containsExactlyInAnyOrder(Severity.WARNING_HIGH, Severity.WARNING_NORMAL);
+        assertThat(report.getFiles()).containsExactlyInAnyOrder("file-1", "file-3");
+        assertThat(report).hasSize(5);
+    }
+
+    @Test
+    void shouldIterateOverSnapshotIfReportIsModified() {
+        Report report = new Report();
+        report.addAll(HIGH, NORMAL_1, NORMAL_2);
+
+        Iterator<Issue> iterator = report.iterator();
+        assertThat(iterator.next()).isSameAs(HIGH);
+
+        report.add(LOW_2_A);
+        Iterator<Issue> afterAdd = report.iterator();
+        report.remove(HIGH.getId());
+
+        assertThat(iterator).containsExactly(NORMAL_1, NORMAL_2);
+        assertThat(afterAdd).containsExactly(HIGH, NORMAL_1, NORMAL_2, LOW_2_A);
+        assertThat((Iterable<Issue>) report).containsExactly(NORMAL_1, NORMAL_2, LOW_2_A);
+    }
+
+    @Test
+    void shouldKeepSnapshotsWhileIssuesAreAdded() {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        List<Iterator<Issue>> iterators = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Issue issue = builder.setMessage("issue-" + i).build();
+            assertThat(report.stream().anyMatch(issue::equals)).isFalse();
+            report.add(issue);
+            iterators.add(report.iterator());
+        }
+
+        for (int i = 0; i < iterators.size(); i++) {
+            List<Issue> snapshot = new ArrayList<>();
+            iterators.get(i).forEachRemaining(snapshot::add);
+            assertThat(snapshot).hasSize(i + 1);
+            assertThat(snapshot.get(i)).isSameAs(report.get(i));
+        }
+    }
+
+    @Test
+    void shouldProvideSizedAndSplittableStream() {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (int i = 0; i < 1000; i++) {
+            report.add(builder.setMessage("issue-" + i).build());
+        }
+
+        Spliterator<Issue> spliterator = report.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(1000);
+        assertThat(spliterator.trySplit()).isNotNull();
+
+        assertThat(report.stream().parallel().count()).isEqualTo(1000);
+        assertThat(report.stream().parallel().map(Issue::getMessage).collect(Collectors.toList()))
+                .isEqualTo(report.stream().map(Issue::getMessage).collect(Collectors.toList()));
+    }
+
     /**
      * Ensures that each method that creates a copy of another issue instance also copies the corresponding properties.
      */
@@ -622,6 +771,51 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(report.getErrorMessages()).containsExactly("1: Hello World", "2: Hello World");
     }
 
+    @Test
+    void shouldKeepIndexesConsistentWhenRemovingAndAddingIssues() {
+        Report report = new Report();
+        report.addAll(asList(HIGH, NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3));
+
+        assertThat(report.get(3)).isSameAs(LOW_2_A);
+        assertThat(report.remove(NORMAL_1.getId())).isSameAs(NORMAL_1);
+
+        assertThat(report.get(1)).isSameAs(NORMAL_2);
+        assertThat(report.get(4)).isSameAs(LOW_FILE_3);
+        assertThatThrownBy(() -> report.findById(NORMAL_1.getId())).isInstanceOf(NoSuchElementException.class);
+
+        report.add(NORMAL_1);
+
+        assertThat(report.get(5)).isSameAs(NORMAL_1);
+        assertThat(report.findById(NORMAL_1.getId())).isSameAs(NORMAL_1);
+        assertThat((Iterable<Issue>) report).containsExactly(HIGH, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3, NORMAL_1);
+    }
+
+    @Test
+    void shouldRemoveIssueWithChangedProperties() {
+        Issue issue = new IssueBuilder().setFileName("file-1").setMessage("changed").build();
+        Report report = new Report();
+        report.addAll(issue, HIGH);
+
+        issue.setFileName("file-2");
+
+        assertThat(report.remove(issue.getId())).isSameAs(issue);
+        assertThat((Iterable<Issue>) report).containsExactly(HIGH);
+    }
+
+    @Test
+    void shouldFindIssuesOfDeserializedReport() throws IOException, ClassNotFoundException {
+        Report report = createSerializable();
+
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(toByteArray(report)))) {
+            Report restored = (Report) stream.readObject();
+
+            assertThat(restored.findById(HIGH.getId())).isEqualTo(HIGH);
+            assertThat(restored.get(5)).isEqualTo(LOW_FILE_3);
+            assertThat(restored.remove(NORMAL_1.getId())).isEqualTo(NORMAL_1);
+            assertThat(restored.get(1)).isEqualTo(NORMAL_2);
+        }
+    }
+
     @Override
     protected Report createSerializable() {
         return new Report().addAll(HIGH, NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3);
@@ -0,0 +1,144 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
+/**
+ * Tests the classes {@link ReportWriter} and {@link ReportReader}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportWriterTest {
+    private static final String FILE_NAME = "/path/to/module/src/main/java/edu/hm/hafner/File.java";
+
+    @Test
+    void shouldWriteAndReadReport() throws IOException {
+        Report report = createReport();
+
+        Report restored = read(write(report));
+
+        assertThat(restored).isEqualTo(report);
+        assertThat(restored).hasDuplicatesSize(1);
+        assertThat(restored.getInfoMessages()).containsExactly("info %d", "second info");
+        assertThat(restored.getErrorMessages()).containsExactly("error");
+        for (int i = 0; i < report.size(); i++) {
+            Issue expected = report.get(i);
+            Issue actual = restored.get(i);
+            assertThat(actual.getId()).isEqualTo(expected.getId());
+            assertThat(actual).hasReference(expected.getReference()).hasFingerprint(expected.getFingerprint());
+            assertThat(actual.getAdditionalProperties()).isEqualTo(expected.getAdditionalProperties());
+        }
+    }
+
+    @Test
+    void shouldReadIssuesOneByOne() throws IOException {
+        Report report = createReport();
+
+        try (ReportReader reader = new ReportReader(new ByteArrayInputStream(write(report)))) {
+            for (Issue issue : report) {
+                assertThat(reader.read()).isEqualTo(issue);
+            }
+            assertThat(reader.read()).isNull();
+            assertThat(reader.read()).isNull();
+        }
+    }
+
+    @Test
+    void shouldWriteIssuesOfParser() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ReportWriter writer = new ReportWriter(output)) {
+            createReport().forEach(writer::accept);
+        }
+
+        Report restored = read(output.toByteArray());
+
+        assertThat(restored).hasSize(3).hasDuplicatesSize(0);
+        assertThat(restored.getInfoMessages()).isEmpty();
+    }
+
+    @Test
+    void shouldBeSmallerThanJavaSerialization() throws IOException {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder().setCategory("category").setType("type").setOrigin("origin");
+        for (int i = 0; i < 1000; i++) {
+            report.add(builder.setFileName(FILE_NAME.replace("File", "File" + i % 10))
+                    .setLineStart(i).setMessage("Message " + i % 100).build());
+        }
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(serialized)) {
+            stream.writeObject(report);
+        }
+        byte[] written = write(report);
+
+        assertThat(read(written)).isEqualTo(report);
+        assertThat(written.length).isLessThan(serialized.size() / 2);
+    }
+
+    @Test
+    void shouldRejectOtherStreams() {
+        assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+                () -> read(new byte[] {1, 2, 3, 4, 1, 0}));
+
+        byte[] truncated = Arrays.copyOf(write(createReport()), 40);
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> read(truncated));
+    }
+
+    private Report createReport() {
+        LineRangeList lineRanges = new LineRangeList();
+        lineRanges.add(new LineRange(5, 7));
+        lineRanges.add(new LineRange(300_000, 300_001));
+
+        IssueBuilder builder = new IssueBuilder();
+        Report report = new Report();
+        report.add(builder.setFileName(FILE_NAME)
+                .setLineStart(1).setLineEnd(2).setColumnStart(3).setColumnEnd(4)
+                .setLineRanges(lineRanges)
+                .setCategory("category").setType("type")
+                .setPackageName("edu.hm.hafner").setModuleName("module")
+                .setSeverity(Severity.ERROR)
+                .setMessage("message").setDescription("<p>description</p>")
+                .setOrigin("origin").setReference("1")
+                .setFingerprint("fingerprint")
+                .setAdditionalProperties(Integer.valueOf(42))
+                .build());
+        report.add(builder.setLineRanges(new LineRangeList())
+                .setLineStart(1_000_000).setLineEnd(0).setColumnStart(0).setColumnEnd(0)
+                .setSeverity(new Severity("CUSTOM"))
+                .setMessage("another message ä€😀")
+                .setAdditionalProperties("additional")
+                .build());
+        Issue issue = builder.setFileName("other.c").setAdditionalProperties(null).build();
+        report.add(issue);
+        report.add(issue);
+        report.logInfo("%s", "info %d");
+        report.logInfo("second info");
+        report.logError("error");
+        return report;
+    }
+
+    private byte[] write(final Report report) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ReportWriter writer = new ReportWriter(output)) {
+            writer.write(report);
+        }
+        catch (IOException exception) {
+            throw new AssertionError(exception);
+        }
+        return output.toByteArray();
+    }
+
+    private Report read(final byte[] bytes) throws IOException {
+        try (ReportReader reader = new ReportReader(new ByteArrayInputStream(bytes))) {
+            return reader.readReport();
+        }
+    }
+}
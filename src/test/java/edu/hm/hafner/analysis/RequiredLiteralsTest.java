@@ -0,0 +1,72 @@
+package edu.hm.hafner.analysis;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link RequiredLiterals}.
+ *
+ * @author Ullrich Hafner
+ */
+class RequiredLiteralsTest {
+    @Test
+    void shouldFindLongestLiteralOfSequence() {
+        assertThat(RequiredLiterals.of("warning")).containsExactly("warning");
+        assertThat(RequiredLiterals.of("^(.*):(\\d+): warning: (.*)$")).containsExactly(": warning: ");
+        assertThat(RequiredLiterals.of("file\\.java\\((\\d+)\\)")).containsExactly("file.java(");
+    }
+
+    @Test
+    void shouldHandleQuantifiers() {
+        assertThat(RequiredLiterals.of("abcd?ef")).containsExactly("abc");
+        assertThat(RequiredLiterals.of("ab*cdef")).containsExactly("cdef");
+        assertThat(RequiredLiterals.of("abc+def")).containsExactly("abc");
+        assertThat(RequiredLiterals.of("ab{0,3}cdef")).containsExactly("cdef");
+        assertThat(RequiredLiterals.of("abc{2}de")).containsExactly("abc");
+        assertThat(RequiredLiterals.of("(?:optional)?ab")).containsExactly("ab");
+        assertThat(RequiredLiterals.of("(?:required)+?ab")).containsExactly("required");
+    }
+
+    @Test
+    void shouldCombineAlternatives() {
+        assertThat(RequiredLiterals.of("(.+?):(\\d+):(?:(\\d+):)? (warning|.*error): (.*)$"))
+                .containsExactlyInAnyOrder("warning", "error");
+        assertThat(RequiredLiterals.of("(?<severity>WARNING|ERROR) in (?<file>.*)"))
+                .containsExactlyInAnyOrder("WARNING", "ERROR");
+        assertThat(RequiredLiterals.of("warning|error|warnings")).containsExactlyInAnyOrder("warning", "error");
+    }
+
+    @Test
+    void shouldSkipCharacterClassesAndLookarounds() {
+        assertThat(RequiredLiterals.of("[abc\\]]+xyz")).containsExactly("xyz");
+        assertThat(RequiredLiterals.of("[a-z[0-9]]xyz")).containsExactly("xyz");
+        assertThat(RequiredLiterals.of("(?=lookahead)ab")).containsExactly("ab");
+        assertThat(RequiredLiterals.of("(?<!lookbehind)ab")).containsExactly("ab");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"", ".*", "\\d+", "a|.*", "(?i)warning", "(?s)warning", "\\Qwarning\\E",
+            "(warning)\\1", "\\x41warning|b", "(a|)", "[abc]*"})
+    void shouldNotDeriveLiteralsOfUnsupportedOrOptionalExpressions(final String regexp) {
+        Pattern.compile(regexp);
+
+        assertThat(RequiredLiterals.of(regexp)).isEmpty();
+    }
+
+    @Test
+    void shouldProvideLiteralsThatAreContainedInEachMatch() {
+        String regexp = "^(?:.*\\[.*\\])?\\s*(.*)\\((\\d+)\\) : (Error|Remark|Warning|Fatal [Ee]rror)\\[(\\w+)\\]: (.*)$";
+        String[] lines = {"[iccarm] C:\\src\\main.c(12) : Warning[Pe177]: variable declared but never used",
+                "main.c(3) : Fatal error[Pe1696]: cannot open source file", "file(1) : Remark[Pa082]: order"};
+
+        for (String line : lines) {
+            assertThat(Pattern.compile(regexp).matcher(line).find()).isTrue();
+            assertThat(RequiredLiterals.of(regexp)).anySatisfy(literal -> assertThat(line).contains(literal));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package edu.hm.hafner.analysis;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link SecureXmlStreamReader}.
+ *
+ * @author Ullrich Hafner
+ */
+class SecureXmlStreamReaderTest {
+    private static final String DOCUMENT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<root>\n"
+            + "  <file name=\"one\">\n"
+            + "    <error line=\"1\" column=\"column\">\n"
+            + "      first <ignored>child text</ignored> message\n"
+            + "    </error>\n"
+            + "    <error line=\" 2 \"><![CDATA[<second>]]></error>\n"
+            + "  </file>\n"
+            + "  <error/>\n"
+            + "</root>";
+
+    @Test
+    void shouldTrackPathOfElements() {
+        try (SecureXmlStreamReader xml = createReader(DOCUMENT)) {
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("root")).isTrue();
+            assertThat(xml.getName()).isEqualTo("root");
+
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("root/file")).isTrue();
+            assertThat(xml.isAt("root")).isFalse();
+            assertThat(xml.getAttribute("name")).isEqualTo("one");
+            assertThat(xml.getAttribute("undefined")).isNull();
+
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("root/file/error")).isTrue();
+            assertThat(xml.getIntAttribute("line")).isEqualTo(1);
+            assertThat(xml.getIntAttribute("column")).isEqualTo(0);
+            assertThat(xml.getIntAttribute("undefined")).isEqualTo(0);
+            assertThat(xml.getText()).isEqualTo("first  message");
+
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("root/file/error")).isTrue();
+            assertThat(xml.getIntAttribute("line")).isEqualTo(2);
+            assertThat(xml.getText()).isEqualTo("<second>");
+
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("root/error")).isTrue();
+            assertThat(xml.getText()).isEmpty();
+
+            assertThat(xml.nextElement()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldIterateOverNestedElements() {
+        try (SecureXmlStreamReader xml = createReader(DOCUMENT)) {
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.getDepth()).isEqualTo(1);
+
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("root/file")).isTrue();
+            int depth = xml.getDepth();
+            assertThat(depth).isEqualTo(2);
+
+            assertThat(xml.nextElement(depth)).isTrue();
+            assertThat(xml.getDepth()).isEqualTo(3);
+            assertThat(xml.nextElement(depth)).isTrue();
+            assertThat(xml.isAt("root/file/error/ignored")).isTrue();
+            assertThat(xml.getDepth()).isEqualTo(4);
+            assertThat(xml.nextElement(depth)).isTrue();
+            assertThat(xml.getIntAttribute("line")).isEqualTo(2);
+            assertThat(xml.nextElement(depth)).isFalse();
+            assertThat(xml.getDepth()).isEqualTo(1);
+
+            assertThat(xml.nextElement(1)).isTrue();
+            assertThat(xml.isAt("root/error")).isTrue();
+            assertThat(xml.nextElement(1)).isFalse();
+            assertThat(xml.nextElement()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldReadTextContentOfElementAndDescendants() {
+        try (SecureXmlStreamReader xml = createReader(DOCUMENT)) {
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.getTextContent()).isEqualTo("\n      first child text message\n    ");
+            assertThat(xml.getDepth()).isEqualTo(2);
+
+            assertThat(xml.nextElement(2)).isTrue();
+            assertThat(xml.getTextContent()).isEqualTo("<second>");
+            assertThat(xml.nextElement(2)).isFalse();
+        }
+    }
+
+    @Test
+    void shouldReadNumbersInElementText() {
+        try (SecureXmlStreamReader xml = createReader("<metric><complexity> 10 </complexity><unit/></metric>")) {
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.getIntText()).isEqualTo(10);
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("metric/unit")).isTrue();
+            assertThat(xml.getIntText()).isEqualTo(0);
+            assertThat(xml.nextElement()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldIgnoreDocumentTypeDefinitions() {
+        String document = "<?xml version=\"1.0\"?>\n"
+                + "<!DOCTYPE root PUBLIC \"-//Unknown//DTD\" \"http://localhost/unknown.dtd\">\n"
+                + "<root><element/></root>";
+        try (SecureXmlStreamReader xml = createReader(document)) {
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.isAt("root/element")).isTrue();
+        }
+    }
+
+    @Test
+    void shouldNotResolveExternalEntities() {
+        String document = "<?xml version=\"1.0\"?>\n"
+                + "<!DOCTYPE root [<!ENTITY secret SYSTEM \"file:///etc/passwd\">]>\n"
+                + "<root><element>&secret;</element></root>";
+        try (SecureXmlStreamReader xml = createReader(document)) {
+            assertThat(xml.nextElement()).isTrue();
+            assertThat(xml.nextElement()).isTrue();
+            assertThatExceptionOfType(ParsingException.class).isThrownBy(xml::getText);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionIfDocumentIsBroken() {
+        try (SecureXmlStreamReader xml = createReader("<root><element></root>")) {
+            assertThat(xml.nextElement()).isTrue();
+            assertThatExceptionOfType(ParsingException.class).isThrownBy(() -> {
+                while (xml.nextElement()) {
+                    xml.getName();
+                }
+            });
+        }
+    }
+
+    private SecureXmlStreamReader createReader(final String document) {
+        return new SecureXmlStreamReader(new StringReader(document));
+    }
+}
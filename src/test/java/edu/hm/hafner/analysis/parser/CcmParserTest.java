@@ -1,12 +1,22 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 import edu.hm.hafner.analysis.parser.ccm.CcmParser;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests CCMParser.
  *
@@ -43,4 +53,20 @@ class CcmParserTest extends AbstractParserTest {
         softly.assertThat(numberOfNormalPriorityFound).isEqualTo(1);
         softly.assertThat(numberOfHighPriorityFound).isEqualTo(4);
     }
+
+    /**
+     * Parses a file that is truncated after some issues. The issues that have been read before the file ends are handed
+     * over to the consumer before parsing fails.
+     */
+    @Test
+    void shouldHandOverIssuesWhileReadingTheFile() {
+        String truncated = StringUtils.substringBeforeLast(toString("pynamodb_ccm_results_sample.xml"), "</metric>");
+        ReaderFactory readerFactory = createReaderFactory("truncated.xml",
+                new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8)));
+
+        Report consumed = new Report();
+        assertThatThrownBy(() -> new CcmParser().parse(readerFactory, consumed))
+                .isInstanceOf(ParsingException.class);
+        assertThat(consumed).isNotEmpty();
+    }
 }
@@ -1,14 +1,21 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import edu.hm.hafner.analysis.AbstractParserTest;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
-import static edu.hm.hafner.analysis.assertj.Assertions.*;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 import edu.hm.hafner.analysis.parser.checkstyle.CheckStyleParser;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the extraction of CheckStyle analysis results.
  */
@@ -39,6 +46,22 @@ class CheckStyleParserTest extends AbstractParserTest {
                 .hasMessage("Die Methode 'detectPackageName' ist nicht fr Vererbung entworfen - muss abstract, final oder leer sein.");
     }
 
+    /**
+     * Parses a file that is truncated after some issues. The issues that have been read before the file ends are handed
+     * over to the consumer before parsing fails.
+     */
+    @Test
+    void shouldHandOverIssuesWhileReadingTheFile() {
+        String truncated = StringUtils.substringBeforeLast(toString(PREFIX + "checkstyle.xml"), "</file>");
+        ReaderFactory readerFactory = createReaderFactory("truncated.xml",
+                new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8)));
+
+        Report consumed = new Report();
+        assertThatThrownBy(() -> new CheckStyleParser().parse(readerFactory, consumed))
+                .isInstanceOf(ParsingException.class);
+        assertThat(consumed).isNotEmpty();
+    }
+
     /**
      * Parses a file with one fatal error.
      *
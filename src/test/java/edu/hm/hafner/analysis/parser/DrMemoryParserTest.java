@@ -2,12 +2,17 @@ package edu.hm.hafner.analysis.parser;
 
 import java.util.Iterator;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+import static edu.hm.hafner.analysis.assertj.SoftAssertions.*;
+
 /**
  * Tests the class {@link DrMemoryParser}.
  */
@@ -128,6 +133,31 @@ class DrMemoryParserTest extends AbstractParserTest {
         softly.assertAll();
     }
 
+    /**
+     * Parses the file with a window that is smaller than the file but larger than each of the errors.
+     */
+    @Test
+    void shouldFindAllIssuesInSmallWindow() {
+        DrMemoryParser parser = createParser();
+        parser.setMaxRecordSize(2000);
+
+        Report report = parser.parse(getDefaultFileFactory());
+
+        assertSoftly(softly -> assertThatIssuesArePresent(report, softly));
+    }
+
+    /**
+     * Verifies that errors that are larger than the maximum record size are skipped.
+     */
+    @Test
+    void shouldSkipErrorsThatExceedMaximumRecordSize() {
+        DrMemoryParser parser = createParser();
+        parser.setMaxRecordSize(500);
+
+        assertThat(parser.parse(getDefaultFileFactory())).hasSize(7);
+        assertThatIllegalArgumentException().isThrownBy(() -> parser.setMaxRecordSize(0));
+    }
+
     @Override
     protected DrMemoryParser createParser() {
         return new DrMemoryParser();
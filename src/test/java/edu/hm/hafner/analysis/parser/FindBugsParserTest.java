@@ -1,5 +1,6 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -7,8 +8,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
@@ -212,6 +216,43 @@ class FindBugsParserTest {
         assertThat(report.get(1)).hasCategory("SECURITY").hasType("WEAK_MESSAGE_DIGEST");
     }
 
+    /**
+     * Verifies that the single pass scanner creates the same issues as the FindBugs library.
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {FINDBUGS_NATIVE_XML, "findbugs-multclass.xml", "spotbugsXml.xml"})
+    void shouldCreateSameIssuesAsFindBugsLibrary(final String fileName) throws IOException {
+        try (Reader stream = new InputStreamReader(read(PREFIX + fileName), StandardCharsets.UTF_8)) {
+            Optional<Report> scanned = new SpotBugsXmlScanner(CONFIDENCE, Collections.emptyList(),
+                    new IssueBuilder()).scan(stream);
+
+            assertThat(scanned).contains(createLibraryReport(fileName));
+        }
+    }
+
+    /**
+     * Verifies that files without messages, instance hashes or ranks are parsed using the FindBugs library.
+     */
+    @Test
+    void shouldUseFindBugsLibraryIfPropertiesAreMissing() throws IOException {
+        try (Reader stream = new InputStreamReader(read(PREFIX + "findbugs-nomessage.xml"), StandardCharsets.UTF_8)) {
+            assertThat(new SpotBugsXmlScanner(CONFIDENCE, Collections.emptyList(), new IssueBuilder()).scan(stream))
+                    .isEmpty();
+        }
+        try (Reader stream = new InputStreamReader(read(PREFIX + FINDBUGS_NATIVE_XML), StandardCharsets.UTF_8)) {
+            assertThat(new SpotBugsXmlScanner(RANK, Collections.emptyList(), new IssueBuilder()).scan(stream))
+                    .isEmpty();
+        }
+    }
+
+    private Report createLibraryReport(final String fileName) {
+        ReaderFactory readerFactory = mock(ReaderFactory.class);
+        when(readerFactory.create()).thenAnswer(
+                mock -> new InputStreamReader(read(PREFIX + fileName), StandardCharsets.UTF_8));
+        return new FindBugsParser(CONFIDENCE).parseWithLibrary(readerFactory, Collections.emptyList(),
+                new IssueBuilder());
+    }
+
     @SuppressWarnings("parameternumber")
     private void scanNativeFile(final String findbugsFile, final String projectName, final Severity priority,
             final String fileName1, final String packageName1,
@@ -1,15 +1,22 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
-import static edu.hm.hafner.analysis.assertj.Assertions.*;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 import edu.hm.hafner.analysis.parser.pmd.PmdParser;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the extraction of PMD analysis results.
  */
@@ -47,6 +54,22 @@ class PmdParserTest extends AbstractParserTest {
                 .hasFileName("C:/Build/Results/jobs/ADT-Base/workspace/com.avaloq.adt.ui/src/main/java/com/avaloq/adt/env/internal/ui/actions/CopyToClipboard.java");
     }
 
+    /**
+     * Parses a file that is truncated after some issues. The issues that have been read before the file ends are handed
+     * over to the consumer before parsing fails.
+     */
+    @Test
+    void shouldHandOverIssuesWhileReadingTheFile() {
+        String truncated = StringUtils.substringBeforeLast(toString(PREFIX + "4-pmd-warnings.xml"), "</file>");
+        ReaderFactory readerFactory = createReaderFactory("truncated.xml",
+                new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8)));
+
+        Report consumed = new Report();
+        assertThatThrownBy(() -> new PmdParser().parse(readerFactory, consumed))
+                .isInstanceOf(ParsingException.class);
+        assertThat(consumed).isNotEmpty();
+    }
+
     @Test
     void shouldCorrectlyMapLinesAndColumns() {
         Report report = parseInPmdFolder("lines-columns.xml");
@@ -1,8 +1,12 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
 import edu.hm.hafner.analysis.AbstractParserTest;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 import static edu.hm.hafner.analysis.assertj.SoftAssertions.*;
@@ -54,6 +58,20 @@ class SonarQubeDiffParserTest extends AbstractParserTest {
         assertThat(parser.accepts(createReaderFactory("sonarqube-api.json"))).isFalse();
 
     }
+
+    @Test
+    void shouldAcceptReportWithSortedKeys() {
+        SonarQubeParser parser = createParser();
+
+        assertThat(parser.accepts(createJsonFactory("{\"components\": [{\"key\": \"a ] [ {\\\" b\", \"x\": [[]]}], "
+                + "\"issues\": [{\"line\": 1}], \"rules\": [], \"version\": \"7.0\"}"))).isTrue();
+        assertThat(parser.accepts(createJsonFactory("{\"components\": [{\"key\": \"a ] [ {\\\" b\", \"x\": [[]]}], "
+                + "\"issues\": [{\"line\": 1}], \"p\": 1, \"total\": 1}"))).isFalse();
+    }
+
+    private ReaderFactory createJsonFactory(final String json) {
+        return createReaderFactory("report.json", new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
     
     @Override
     protected SonarQubeParser createParser() {
@@ -1,8 +1,13 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
 import edu.hm.hafner.analysis.AbstractParserTest;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 import static edu.hm.hafner.analysis.assertj.SoftAssertions.*;
@@ -53,6 +58,46 @@ class SonarQubeIssuesParserTest extends AbstractParserTest {
         assertThat(parser.accepts(createReaderFactory("sonarqube-api.json"))).isTrue();
     }
 
+    @Test
+    void shouldNotAcceptOtherFiles() {
+        SonarQubeParser parser = createParser();
+
+        assertThat(parser.accepts(createReaderFactory("eclipse-withinfo.xml"))).isFalse();
+        assertThat(parser.accepts(createJsonFactory("{\"issues\": [], \"components\": []}"))).isFalse();
+        assertThat(parser.accepts(createJsonFactory("{\"total\": 0, \"issues\": [{\"line\": 1,"))).isTrue();
+    }
+
+    @Test
+    void shouldAcceptReportWithSortedKeys() {
+        SonarQubeParser parser = createParser();
+
+        assertThat(parser.accepts(createJsonFactory("{\"components\": [{\"key\": \"a ] [ {\\\" b\", \"x\": [[]]}], "
+                + "\"issues\": [{\"line\": 1}], \"p\": 1, \"total\": 1}"))).isTrue();
+        assertThat(parser.accepts(createJsonFactory("{\"components\": [{\"key\": \"a ] [ {\\\" b\", \"x\": [[]]}], "
+                + "\"issues\": [{\"line\": 1}], \"version\": \"7.0\"}"))).isFalse();
+    }
+
+    @Test
+    void shouldThrowExceptionIfReportIsBroken() {
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> createParser().parse(createJsonFactory("{\"total\": 1, \"issues\": [{\"line\": 1,")));
+    }
+
+    @Test
+    void shouldResolveComponentsThatPrecedeIssues() {
+        Report report = createParser().parse(createJsonFactory("{\"total\": 1, "
+                + "\"components\": [{\"key\": \"module\", \"path\": \"module\"}, "
+                + "{\"key\": \"module:File.java\", \"path\": \"src/File.java\"}], "
+                + "\"issues\": [{\"component\": \"module:File.java\", \"subProject\": \"module\", \"line\": 1}]}"));
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0).getFileName()).isEqualTo("module/src/File.java");
+    }
+
+    private ReaderFactory createJsonFactory(final String json) {
+        return createReaderFactory("report.json", new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Override
     protected SonarQubeParser createParser() {
         return new SonarQubeIssuesParser();
@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link AndroidLintParserAdapter}.
  *
@@ -37,6 +41,29 @@ class AndroidLintParserAdapterTest extends AbstractParserTest {
         softly.assertThat(report.get(1).getMessage()).contains("Package not included in Android");
     }
 
+    @Test
+    void shouldUseFirstLocationOfIssue() {
+        Report report = parseContent("<issues format=\"4\" by=\"lint 3.1.0\">\n"
+                + "  <issue id=\"UnusedResources\" severity=\"Warning\" category=\"Performance\"\n"
+                + "      message=\"The resource `R.string.app` appears to be unused\" summary=\"Unused resources\"\n"
+                + "      explanation=\"Unused resources make applications larger.\">\n"
+                + "    <location file=\"res/values/strings.xml\" line=\"3\" column=\"13\"/>\n"
+                + "    <location file=\"res/values-de/strings.xml\" line=\"4\" column=\"5\"/>\n"
+                + "  </issue>\n"
+                + "</issues>\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("res/values/strings.xml")
+                .hasLineStart(3)
+                .hasColumnStart(13)
+                .hasType("UnusedResources")
+                .hasCategory("Performance")
+                .hasMessage("Unused resources: The resource `R.string.app` appears to be unused\n\n"
+                        + "Unused resources make applications larger.")
+                .hasSeverity(Severity.WARNING_NORMAL);
+    }
+
     @Override
     protected AndroidLintParserAdapter createParser() {
         return new AndroidLintParserAdapter();
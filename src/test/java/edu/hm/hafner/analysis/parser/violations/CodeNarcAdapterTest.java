@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link CodeNarcAdapter}.
  *
@@ -26,6 +30,28 @@ class CodeNarcAdapterTest extends AbstractParserTest  {
                 .hasSeverity(Severity.WARNING_NORMAL);
     }
 
+    @Test
+    void shouldUseRuleDescriptionIfViolationHasNoMessage() {
+        Report report = parseContent("<CodeNarc url=\"http://www.codenarc.org\" version=\"1.1\">\n"
+                + "  <Package path=\"src/main\" totalFiles=\"1\" filesWithViolations=\"1\">\n"
+                + "    <File name=\"Build.groovy\">\n"
+                + "      <Violation ruleName=\"EmptyMethod\" priority=\"2\" lineNumber=\"7\"/>\n"
+                + "    </File>\n"
+                + "  </Package>\n"
+                + "  <Rules>\n"
+                + "    <Rule name=\"EmptyMethod\"><Description>A method is empty.</Description></Rule>\n"
+                + "  </Rules>\n"
+                + "</CodeNarc>\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("src/main/Build.groovy")
+                .hasLineStart(7)
+                .hasType("EmptyMethod")
+                .hasMessage("A method is empty.")
+                .hasSeverity(Severity.WARNING_NORMAL);
+    }
+
     @Override
     protected CodeNarcAdapter createParser() {
         return new CodeNarcAdapter();
@@ -29,6 +29,28 @@ class Flake8AdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_HIGH);
     }
 
+    @Test
+    void shouldParseDefaultAndPylintFormat() {
+        Report report = parseContent("src/a.py:12:80: E501 line too long (84 > 79 characters)\n"
+                + "src/b.py:3: [W291] trailing whitespace\n");
+
+        assertThat(report).hasSize(2);
+        assertThat(report.get(0))
+                .hasFileName("src/a.py")
+                .hasLineStart(12)
+                .hasColumnStart(80)
+                .hasType("E501")
+                .hasMessage("line too long (84 > 79 characters)")
+                .hasSeverity(Severity.WARNING_HIGH);
+        assertThat(report.get(1))
+                .hasFileName("src/b.py")
+                .hasLineStart(3)
+                .hasColumnStart(0)
+                .hasType("W291")
+                .hasMessage("trailing whitespace")
+                .hasSeverity(Severity.WARNING_NORMAL);
+    }
+
     @Override
     protected Flake8Adapter createParser() {
         return new Flake8Adapter();
@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link JsHintAdapter}.
  *
@@ -25,6 +29,32 @@ class JsHintAdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_NORMAL);
     }
 
+    @Test
+    void shouldAppendTrimmedEvidenceToMessage() {
+        Report report = parseContent("<jslint>\n"
+                + "  <file name=\"a.js\">\n"
+                + "    <issue line=\"3\" char=\"5\" reason=\"Missing semicolon.\" evidence=\"  var x = 1  \" severity=\"E\"/>\n"
+                + "  </file>\n"
+                + "  <file name=\"b.js\">\n"
+                + "    <issue line=\"9\" char=\"1\" reason=\"Unused variable.\" severity=\"W\"/>\n"
+                + "  </file>\n"
+                + "</jslint>\n");
+
+        assertThat(report).hasSize(2);
+        assertThat(report.get(0))
+                .hasFileName("a.js")
+                .hasLineStart(3)
+                .hasColumnStart(5)
+                .hasMessage("Missing semicolon.: var x = 1")
+                .hasSeverity(Severity.WARNING_HIGH);
+        assertThat(report.get(1))
+                .hasFileName("b.js")
+                .hasLineStart(9)
+                .hasColumnStart(1)
+                .hasMessage("Unused variable.")
+                .hasSeverity(Severity.WARNING_NORMAL);
+    }
+
     @Override
     protected JsHintAdapter createParser() {
         return new JsHintAdapter();
@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link KlocWorkAdapter}.
  *
@@ -32,6 +36,28 @@ class KlocWorkAdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_LOW);
     }
 
+    @Test
+    void shouldAssignProblemWithoutLineToFirstLine() {
+        Report report = parseContent("<errorList xmlns=\"http://www.klocwork.com/inForce/report/1.0\" version=\"10.1\">\n"
+                + "  <problem>\n"
+                + "    <problemID>1</problemID>\n"
+                + "    <file>src/main.c</file>\n"
+                + "    <method>main</method>\n"
+                + "    <code>NPD.FUNC.MUST</code>\n"
+                + "    <message>Pointer may be null</message>\n"
+                + "    <severitylevel>3</severitylevel>\n"
+                + "  </problem>\n"
+                + "</errorList>\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("src/main.c")
+                .hasLineStart(1)
+                .hasType("NPD.FUNC.MUST")
+                .hasMessage("In method main. Pointer may be null")
+                .hasSeverity(Severity.WARNING_NORMAL);
+    }
+
     @Override
     protected KlocWorkAdapter createParser() {
         return new KlocWorkAdapter();
@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link MyPyAdapter}.
  *
@@ -30,6 +34,20 @@ class MyPyAdapterTest extends AbstractParserTest  {
                 .hasSeverity(Severity.WARNING_HIGH);
     }
 
+    @Test
+    void shouldSkipNotesWithoutLineNumber() {
+        Report report = parseContent("fs/log.py: note: In function \"filter\":\n"
+                + "fs/log.py:16:5: warning: Unused \"type: ignore\" comment\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("fs/log.py")
+                .hasLineStart(16)
+                .hasColumnStart(5)
+                .hasMessage("Unused \"type: ignore\" comment")
+                .hasSeverity(Severity.WARNING_NORMAL);
+    }
+
     @Override
     protected MyPyAdapter createParser() {
         return new MyPyAdapter();
@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link PitAdapter}.
  *
@@ -34,6 +38,29 @@ class PitAdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_HIGH);
     }
 
+    @Test
+    void shouldSkipDetectedMutations() {
+        Report report = parseContent("<mutations>\n"
+                + "  <mutation detected='true' status='KILLED'>\n"
+                + "    <sourceFile>Killed.java</sourceFile><mutatedClass>a.b.Killed</mutatedClass>\n"
+                + "    <methodDescription>()V</methodDescription><lineNumber>3</lineNumber><mutator>Void</mutator>\n"
+                + "  </mutation>\n"
+                + "  <mutation detected='false' status='SURVIVED'>\n"
+                + "    <sourceFile>Survived.java</sourceFile><mutatedClass>Survived</mutatedClass>\n"
+                + "    <methodDescription>()I</methodDescription><lineNumber>8</lineNumber><mutator>Math</mutator>\n"
+                + "  </mutation>\n"
+                + "</mutations>\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("Survived.java")
+                .hasLineStart(8)
+                .hasCategory("SURVIVED")
+                .hasType("Math")
+                .hasMessage("SURVIVED, Math, ()I")
+                .hasSeverity(Severity.WARNING_HIGH);
+    }
+
     @Override
     protected PitAdapter createParser() {
         return new PitAdapter();
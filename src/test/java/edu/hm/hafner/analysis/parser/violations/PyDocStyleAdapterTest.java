@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link PyDocStyleAdapter}.
  *
@@ -26,6 +30,21 @@ class PyDocStyleAdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_HIGH);
     }
 
+    @Test
+    void shouldSkipLocationWithoutMessage() {
+        Report report = parseContent("a.py:1 at module level:\n"
+                + "b.py:7 in public function `f`:\n"
+                + "        D103: Missing docstring in public function\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("b.py")
+                .hasLineStart(7)
+                .hasType("D103")
+                .hasMessage("Missing docstring in public function")
+                .hasSeverity(Severity.WARNING_HIGH);
+    }
+
     @Override
     protected PyDocStyleAdapter createParser() {
         return new PyDocStyleAdapter();
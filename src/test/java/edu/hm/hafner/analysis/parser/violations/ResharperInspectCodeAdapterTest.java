@@ -2,6 +2,8 @@ package edu.hm.hafner.analysis.parser.violations;
 
 import java.util.Iterator;
 
+import org.junit.jupiter.api.Test;
+
 import static edu.hm.hafner.analysis.assertj.Assertions.*;
 
 import edu.hm.hafner.analysis.AbstractParserTest;
@@ -54,6 +56,31 @@ class ResharperInspectCodeAdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_LOW);
     }
 
+    @Test
+    void shouldUseDeclaredIssueType() {
+        Report report = parseContent("<Report ToolsVersion=\"8.2\">\n"
+                + "  <IssueTypes>\n"
+                + "    <IssueType Id=\"CSharpWarnings::CS0168\" Category=\"Compiler Warnings\"\n"
+                + "        Description=\"Variable declared but never used\" Severity=\"WARNING\"/>\n"
+                + "  </IssueTypes>\n"
+                + "  <Issues>\n"
+                + "    <Project Name=\"Project\">\n"
+                + "      <Issue TypeId=\"CSharpWarnings::CS0168\" File=\"Project\\Program.cs\" Line=\"10\"\n"
+                + "          Message=\"The variable 'x' is declared but never used\"/>\n"
+                + "    </Project>\n"
+                + "  </Issues>\n"
+                + "</Report>\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("Project/Program.cs")
+                .hasLineStart(10)
+                .hasType("CSharpWarnings::CS0168")
+                .hasMessage("The variable 'x' is declared but never used. Compiler Warnings. "
+                        + "Variable declared but never used")
+                .hasSeverity(Severity.WARNING_NORMAL);
+    }
+
     @Override
     protected ResharperInspectCodeAdapter createParser() {
         return new ResharperInspectCodeAdapter();
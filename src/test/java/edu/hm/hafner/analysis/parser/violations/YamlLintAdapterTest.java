@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link YamlLintAdapter}.
  *
@@ -27,6 +31,19 @@ class YamlLintAdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_NORMAL);
     }
 
+    @Test
+    void shouldParseIssueWithoutRule() {
+        Report report = parseContent("file.yml:3:1: [error] syntax error: expected <block end>\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("file.yml")
+                .hasLineStart(3)
+                .hasColumnStart(1)
+                .hasMessage("syntax error: expected <block end>")
+                .hasSeverity(Severity.WARNING_HIGH);
+    }
+
     @Override
     protected YamlLintAdapter createParser() {
         return new YamlLintAdapter();
@@ -1,10 +1,14 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.api.Test;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertj.SoftAssertions;
 
+import static edu.hm.hafner.analysis.assertj.Assertions.*;
+
 /**
  * Tests the class {@link ZptLintAdapter}.
  *
@@ -25,6 +29,19 @@ class ZptLintAdapterTest extends AbstractParserTest {
                 .hasSeverity(Severity.WARNING_HIGH);
     }
 
+    @Test
+    void shouldIgnoreOtherLines() {
+        Report report = parseContent("Checking 2 files\n"
+                + " Error in: page.pt  tag is not closed   , at line 12\n");
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0))
+                .hasFileName("page.pt")
+                .hasLineStart(12)
+                .hasMessage("tag is not closed")
+                .hasSeverity(Severity.WARNING_HIGH);
+    }
+
     @Override
     protected ZptLintAdapter createParser() {
         return new ZptLintAdapter();
@@ -0,0 +1,73 @@
+package edu.hm.hafner.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link AhoCorasickMatcher}.
+ *
+ * @author Ullrich Hafner
+ */
+class AhoCorasickMatcherTest {
+    @Test
+    void shouldFindNothingWithoutLiterals() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Collections.emptyList());
+
+        assertThat(matcher.size()).isZero();
+        assertThat(matcher.containsAny("text")).isFalse();
+        assertThat(matcher.findAll("text").isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldFindOverlappingLiterals() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("he", "she", "his", "hers"));
+
+        assertThat(matcher.size()).isEqualTo(4);
+        assertThat(matcher.findAll("ushers").toString()).isEqualTo("{0, 1, 3}");
+        assertThat(matcher.findAll("this").toString()).isEqualTo("{2}");
+        assertThat(matcher.findAll("ahishers").toString()).isEqualTo("{0, 1, 2, 3}");
+        assertThat(matcher.findAll("nothing").isEmpty()).isTrue();
+
+        assertThat(matcher.containsAny("ushers")).isTrue();
+        assertThat(matcher.containsAny("xhx")).isFalse();
+        assertThat(matcher.containsAny("")).isFalse();
+    }
+
+    @Test
+    void shouldFindLiteralsAfterFailureTransitions() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("warning:", "rn"));
+
+        assertThat(matcher.findAll("file.c:1: warnin warning: unused").toString()).isEqualTo("{0, 1}");
+        assertThat(matcher.findAll("warwarn").toString()).isEqualTo("{1}");
+        assertThat(matcher.containsAny("wawawarning:")).isTrue();
+        assertThat(matcher.containsAny("warninG:")).isTrue();
+        assertThat(matcher.containsAny("wa ni g:")).isFalse();
+    }
+
+    @Test
+    void shouldMatchEverythingWithEmptyLiteral() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("abc", ""));
+
+        assertThat(matcher.containsAny("")).isTrue();
+        assertThat(matcher.findAll("xyz").toString()).isEqualTo("{1}");
+        assertThat(matcher.findAll("xabc").toString()).isEqualTo("{0, 1}");
+    }
+
+    @Test
+    void shouldReuseBitSet() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("he", "she", "his", "hers"));
+        BitSet found = new BitSet();
+
+        matcher.findAll("ushers", found);
+        assertThat(found.toString()).isEqualTo("{0, 1, 3}");
+        matcher.findAll("this", found);
+        assertThat(found.toString()).isEqualTo("{2}");
+        matcher.findAll("nothing", found);
+        assertThat(found.isEmpty()).isTrue();
+    }
+}
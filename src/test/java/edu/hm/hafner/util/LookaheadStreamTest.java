@@ -1,5 +1,6 @@
 package edu.hm.hafner.util;
 
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -69,6 +70,50 @@ class LookaheadStreamTest extends ResourceTest {
         assertThat(stream.hasNext(".*")).isFalse();
     }
 
+    @Test
+    void shouldReturnLookAheadLinesForPrecompiledPatterns() {
+        LookaheadStream stream = new LookaheadStream(getTextLinesAsStream("First Line\nSecond Line"));
+
+        assertThat(stream.hasNext(Pattern.compile("Line$"))).isTrue();
+        assertThat(stream.hasNext(Pattern.compile("Second.*"))).isFalse();
+        assertThat(stream.next()).isEqualTo(FIRST_LINE);
+        assertThat(stream.hasNext(Pattern.compile("Second.*"))).isTrue();
+        assertThat(stream.next()).isEqualTo("Second Line");
+
+        assertThat(stream.hasNext(Pattern.compile(".*"))).isFalse();
+    }
+
+    @Test
+    void shouldPeekSeveralLines() {
+        LookaheadStream stream = new LookaheadStream(getTextLinesAsStream("First Line\nSecond Line\nThird Line"));
+
+        assertThat(stream.peek(0)).isEmpty();
+        assertThat(stream.peek(2)).containsExactly(FIRST_LINE, "Second Line");
+        assertThat(stream.getLine()).isEqualTo(0);
+        assertThat(stream.hasNext("First")).isTrue();
+        assertThat(stream.peek(5)).containsExactly(FIRST_LINE, "Second Line", "Third Line");
+
+        assertThat(stream.next()).isEqualTo(FIRST_LINE);
+        assertThat(stream.getLine()).isEqualTo(1);
+        assertThat(stream.peek(1)).containsExactly("Second Line");
+        assertThat(stream.hasNext("Second")).isTrue();
+        assertThat(stream.next()).isEqualTo("Second Line");
+        assertThat(stream.next()).isEqualTo("Third Line");
+        assertThat(stream.getLine()).isEqualTo(3);
+
+        assertThat(stream.hasNext()).isFalse();
+        assertThat(stream.peek(1)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectLookaheadOutsideOfWindow() {
+        LookaheadStream stream = new LookaheadStream(getTextLinesAsStream(FIRST_LINE));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> stream.peek(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> stream.peek(LookaheadStream.MAX_LOOKAHEAD + 1));
+        assertThat(stream.peek(LookaheadStream.MAX_LOOKAHEAD)).containsExactly(FIRST_LINE);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void shouldCloseStream() {
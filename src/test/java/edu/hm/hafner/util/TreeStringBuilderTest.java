@@ -34,6 +34,24 @@ class TreeStringBuilderTest {
         assertThat(TreeString.valueOf("foo/bar/zot")).hasToString("foo/bar/zot");
     }
 
+    @Test
+    void shouldCompareTreeStringsOfDifferentBuilders() {
+        TreeStringBuilder builder = new TreeStringBuilder();
+        TreeString treeString = builder.intern("foo/bar/zot");
+        builder.intern("foo/bar/xxx");
+
+        assertThat(treeString).isEqualTo(TreeString.valueOf("foo/bar/zot"));
+        assertThat(treeString).hasSameHashCodeAs(TreeString.valueOf("foo/bar/zot"));
+        assertThat(treeString).isNotEqualTo(new TreeStringBuilder().intern("zot"));
+        assertThat(builder.intern("foo/bar/xxx")).isNotEqualTo(builder.intern("foo/baz/xxx"));
+        assertThat(builder.intern("foo/bar")).isNotEqualTo(treeString).isEqualTo(TreeString.valueOf("foo/bar"));
+
+        TreeStringBuilder other = new TreeStringBuilder();
+        other.intern("foo/b");
+        assertThat(other.intern("foo/bar/zot")).isEqualTo(treeString).hasSameHashCodeAs(treeString);
+        assertThat(other.intern("")).isEqualTo(builder.intern(""));
+    }
+
     /**
      * Pseudo random (but deterministic) test.
      */